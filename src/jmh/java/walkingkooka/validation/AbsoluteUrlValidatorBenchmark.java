@@ -0,0 +1,146 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import walkingkooka.Either;
+import walkingkooka.net.Url;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares validating a dataset of absolute urls by parsing with {@link Url#parseAbsolute(String)} and catching the
+ * failure, as {@link AbsoluteUrlValidator} did before it had a scanner, with {@link AbsoluteUrlValidatorScanner} and
+ * with {@link AbsoluteUrlValidator#validate(Object, ValidatorContext)}.
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.includes=AbsoluteUrlValidatorBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AbsoluteUrlValidatorBenchmark {
+
+    public enum Dataset {
+        VALID(
+            "https://example.com",
+            "https://example.com/456",
+            "http://www.example.com:8080/path/file.html?a=1&b=2#top",
+            "https://sub-domain.example.com:443/a/b/c.html",
+            "http://localhost:8080/index.html"
+        ),
+        INVALID(
+            "",
+            "example.com",
+            "/relative-url/123",
+            "Note: call back",
+            "https://",
+            "https://:8080",
+            "https://example.com:80a/path",
+            "https://exa mple.com/path"
+        );
+
+        Dataset(final String... urls) {
+            this.urls = urls;
+        }
+
+        final String[] urls;
+    }
+
+    @Param
+    public Dataset dataset;
+
+    @Setup
+    public void setup() {
+        this.urls = this.dataset.urls;
+        this.validator = AbsoluteUrlValidator.instance();
+        this.context = new TestValidatorContext() {
+            @Override
+            public <T> Either<T, String> convert(final Object value,
+                                                 final Class<T> target) {
+                return this.successfulConversion(
+                    target.cast(value),
+                    target
+                );
+            }
+
+            @Override
+            public TestValidationReference validationReference() {
+                return REFERENCE;
+            }
+        };
+    }
+
+    private final static TestValidationReference REFERENCE = new TestValidationReference("Benchmark");
+
+    private String[] urls;
+
+    private AbsoluteUrlValidator<TestValidationReference, TestValidatorContext> validator;
+
+    private TestValidatorContext context;
+
+    @Benchmark
+    public void parse(final Blackhole blackhole) {
+        for (final String url : this.urls) {
+            try {
+                blackhole.consume(
+                    Url.parseAbsolute(url)
+                );
+            } catch (final RuntimeException cause) {
+                blackhole.consume(
+                    cause.getMessage()
+                );
+            }
+        }
+    }
+
+    @Benchmark
+    public void scan(final Blackhole blackhole) {
+        for (final String url : this.urls) {
+            blackhole.consume(
+                AbsoluteUrlValidatorScanner.scan(url)
+            );
+        }
+    }
+
+    @Benchmark
+    public void validate(final Blackhole blackhole) {
+        for (final String url : this.urls) {
+            blackhole.consume(
+                this.validator.validate(
+                    url,
+                    this.context
+                )
+            );
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import walkingkooka.Either;
+import walkingkooka.net.email.EmailAddress;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares validating a dataset of email addresses by parsing with {@link EmailAddress#parse(String)} and catching
+ * the failure, as {@link EmailAddressValidator} did before it had a scanner, with {@link EmailAddressValidatorScanner}
+ * and with {@link EmailAddressValidator#validate(Object, ValidatorContext)}.
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.includes=EmailAddressValidatorBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmailAddressValidatorBenchmark {
+
+    public enum Dataset {
+        VALID(
+            "user@example.com",
+            "first.last@example.com",
+            "first+tag@mail.example.org",
+            "first_last@example.co.uk",
+            "first-last@sub-domain.example.net"
+        ),
+        INVALID(
+            "",
+            "user.example.com",
+            "@example.com",
+            "user@",
+            "user@@example.com",
+            "us..er@example.com",
+            "user@example..com",
+            "user@exa_mple.com"
+        );
+
+        Dataset(final String... emails) {
+            this.emails = emails;
+        }
+
+        final String[] emails;
+    }
+
+    @Param
+    public Dataset dataset;
+
+    @Setup
+    public void setup() {
+        this.emails = this.dataset.emails;
+        this.validator = EmailAddressValidator.instance();
+        this.context = new TestValidatorContext() {
+            @Override
+            public <T> Either<T, String> convert(final Object value,
+                                                 final Class<T> target) {
+                return this.successfulConversion(
+                    target.cast(value),
+                    target
+                );
+            }
+
+            @Override
+            public TestValidationReference validationReference() {
+                return REFERENCE;
+            }
+        };
+    }
+
+    private final static TestValidationReference REFERENCE = new TestValidationReference("Benchmark");
+
+    private String[] emails;
+
+    private EmailAddressValidator<TestValidationReference, TestValidatorContext> validator;
+
+    private TestValidatorContext context;
+
+    @Benchmark
+    public void parse(final Blackhole blackhole) {
+        for (final String email : this.emails) {
+            try {
+                blackhole.consume(
+                    EmailAddress.parse(email)
+                );
+            } catch (final RuntimeException cause) {
+                blackhole.consume(
+                    cause.getMessage()
+                );
+            }
+        }
+    }
+
+    @Benchmark
+    public void scan(final Blackhole blackhole) {
+        for (final String email : this.emails) {
+            blackhole.consume(
+                EmailAddressValidatorScanner.scan(email)
+            );
+        }
+    }
+
+    @Benchmark
+    public void validate(final Blackhole blackhole) {
+        for (final String email : this.emails) {
+            blackhole.consume(
+                this.validator.validate(
+                    email,
+                    this.context
+                )
+            );
+        }
+    }
+}
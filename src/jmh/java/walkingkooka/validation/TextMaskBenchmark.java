@@ -0,0 +1,153 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import walkingkooka.collect.list.Lists;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares matching realistic masks with {@link TextMaskValidator#test(CharSequence)}, with
+ * {@link TextMaskValidator#validate(Object, ValidatorContext)} which also builds the error message, and with the
+ * equivalent {@link Pattern} from {@link TextMaskPatterns#pattern(String)}.
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.includes=TextMaskBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TextMaskBenchmark {
+
+    /**
+     * A mask with a valid text, a text that fails at the first character and a text that fails at the last character.
+     */
+    public enum Sample {
+        PHONE(
+            "\"(\"999\") \"999-9999",
+            "(555) 123-4567",
+            "555) 123-4567",
+            "(555) 123-456x"
+        ),
+        POSTCODE(
+            "A9A 9A9",
+            "K1A 0B1",
+            "11A 0B1",
+            "K1A 0B!"
+        ),
+        PRODUCT(
+            "UU-9{4,6}",
+            "AB-12345",
+            "ab-12345",
+            "AB-1234x"
+        );
+
+        Sample(final String mask,
+               final String valid,
+               final String invalidEarly,
+               final String invalidLate) {
+            this.mask = mask;
+            this.texts = Lists.of(
+                valid,
+                invalidEarly,
+                invalidLate
+            );
+        }
+
+        final String mask;
+
+        /**
+         * Indexed by {@link Input#ordinal()}.
+         */
+        final List<String> texts;
+    }
+
+    public enum Input {
+        VALID,
+        INVALID_EARLY,
+        INVALID_LATE
+    }
+
+    @Param
+    public Sample sample;
+
+    @Param
+    public Input input;
+
+    @Setup
+    public void setup() {
+        final String mask = this.sample.mask;
+
+        this.validator = TextMaskValidator.parse(mask);
+        this.pattern = TextMaskPatterns.pattern(mask);
+        this.text = this.sample.texts.get(
+            this.input.ordinal()
+        );
+        this.context = new TestValidatorContext() {
+            @Override
+            public TestValidationReference validationReference() {
+                return REFERENCE;
+            }
+        };
+    }
+
+    private final static TestValidationReference REFERENCE = new TestValidationReference("Benchmark");
+
+    private TextMaskValidator<TestValidationReference, TestValidatorContext> validator;
+
+    private Pattern pattern;
+
+    private String text;
+
+    private TestValidatorContext context;
+
+    @Benchmark
+    public boolean maskTest() {
+        return this.validator.test(this.text);
+    }
+
+    @Benchmark
+    public List<ValidationError<TestValidationReference>> maskValidate() {
+        return this.validator.validate(
+            this.text,
+            this.context
+        );
+    }
+
+    @Benchmark
+    public boolean regex() {
+        return this.pattern.matcher(this.text)
+            .matches();
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import walkingkooka.collect.list.Lists;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ValidatorCollection#validate(Object, ValidatorContext)} as the number of errors grows, where every
+ * validator returns one error. The time per error should stay flat when the errors are distinct and when they are all
+ * duplicates.
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.includes=ValidatorCollectionBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidatorCollectionBenchmark {
+
+    @Param({"1", "16", "256", "4096"})
+    public int errorCount;
+
+    @Param({"false", "true"})
+    public boolean duplicates;
+
+    @Setup
+    public void setup() {
+        final List<Validator<TestValidationReference, TestValidatorContext>> validators = Lists.array();
+
+        for (int i = 0; i < this.errorCount; i++) {
+            final List<ValidationError<TestValidationReference>> errors = ValidationErrorList.<TestValidationReference>empty()
+                .concat(
+                    ValidationError.with(REFERENCE)
+                        .setMessage(
+                            this.duplicates ?
+                                "Error" :
+                                "Error " + i
+                        )
+                );
+
+            validators.add(
+                (value, context) -> errors
+            );
+        }
+
+        this.collection = ValidatorCollection.with(
+            Integer.MAX_VALUE,
+            validators
+        );
+        this.context = new TestValidatorContext();
+    }
+
+    private final static TestValidationReference REFERENCE = new TestValidationReference("Benchmark");
+
+    private ValidatorCollection<TestValidationReference, TestValidatorContext> collection;
+
+    private TestValidatorContext context;
+
+    @Benchmark
+    public List<ValidationError<TestValidationReference>> validate() {
+        return this.collection.validate(
+            "value",
+            this.context
+        );
+    }
+}
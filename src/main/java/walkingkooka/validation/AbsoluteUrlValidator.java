@@ -19,6 +19,7 @@ package walkingkooka.validation;
 
 import walkingkooka.net.AbsoluteUrl;
 import walkingkooka.net.Url;
+import walkingkooka.tree.expression.ExpressionPurityContext;
 
 import java.util.List;
 import java.util.Objects;
@@ -48,16 +49,29 @@ final class AbsoluteUrlValidator<R extends ValidationReference, C extends Valida
         ValidationErrorList<R> errors = context.validationErrorList();
 
         try {
-            Url.parseAbsolute(
-                context.convertOrFail(
-                    value,
-                    String.class
-                )
+            final String text = context.convertOrFail(
+                value,
+                String.class
             );
+
+            // only parse when the scanner is not sure, parsing builds the message for other invalid urls
+            switch (AbsoluteUrlValidatorScanner.scan(text)) {
+                case VALID:
+                    break;
+                case INVALID:
+                    errors = errors.concat(
+                        context.validationError(
+                            AbsoluteUrlValidatorScanner.invalidMessage(text)
+                        )
+                    );
+                    break;
+                default:
+                    Url.parseAbsolute(text);
+                    break;
+            }
         } catch (final NullPointerException cause) {
             errors = errors.concat(
-                context.validationError()
-                    .setMessage("Missing url")
+                context.validationError(MISSING_URL)
             );
         } catch (final UnsupportedOperationException rethrow) {
             throw rethrow;
@@ -71,6 +85,52 @@ final class AbsoluteUrlValidator<R extends ValidationReference, C extends Valida
         return errors;
     }
 
+    private final static String MISSING_URL = "Missing url";
+
+    @Override
+    public boolean isValid(final Object value,
+                           final C context) {
+        Objects.requireNonNull(context, "context");
+
+        boolean valid;
+
+        try {
+            final String text = context.convertOrFail(
+                value,
+                String.class
+            );
+
+            switch (AbsoluteUrlValidatorScanner.scan(text)) {
+                case VALID:
+                    valid = true;
+                    break;
+                case INVALID:
+                    valid = false;
+                    break;
+                default:
+                    Url.parseAbsolute(text);
+                    valid = true;
+                    break;
+            }
+        } catch (final UnsupportedOperationException rethrow) {
+            throw rethrow;
+        } catch (final RuntimeException cause) {
+            valid = false;
+        }
+
+        return valid;
+    }
+
+    @Override
+    public ValidatorCost cost() {
+        return ValidatorCost.MODERATE;
+    }
+
+    @Override
+    public boolean isPure(final ExpressionPurityContext context) {
+        return true;
+    }
+
     // Object...........................................................................................................
 
     @Override
@@ -0,0 +1,497 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import walkingkooka.text.CharSequences;
+
+/**
+ * A single pass scanner that checks absolute url text without creating an {@link walkingkooka.net.AbsoluteUrl} or
+ * throwing. Only http and https urls with a dotted host name, optional port and plain path, query and fragment are
+ * {@link ValidatorScanResult#VALID}. The common failures are {@link ValidatorScanResult#INVALID}, with the same
+ * message as the parser from {@link #invalidMessage(String)}:
+ * <ul>
+ * <li>text without a protocol</li>
+ * <li>an unknown protocol</li>
+ * <li>a missing host</li>
+ * <li>a port that is not a number</li>
+ * <li>a host with a character that is never allowed</li>
+ * </ul>
+ * Anything else, such as credentials, IP addresses, percent encoding or other protocols, is
+ * {@link ValidatorScanResult#UNKNOWN}.
+ */
+final class AbsoluteUrlValidatorScanner {
+
+    final static int MAX_PORT = 65535;
+
+    final static int MAX_LABEL_LENGTH = 63;
+
+    final static String NO_PROTOCOL = "no protocol: ";
+
+    final static String UNKNOWN_PROTOCOL = "unknown protocol: ";
+
+    final static String MISSING_HOST = "Missing host name";
+
+    static ValidatorScanResult scan(final String text) {
+        final int check = check(text);
+
+        return VALID == check ?
+            ValidatorScanResult.VALID :
+            UNKNOWN == check ?
+                ValidatorScanResult.UNKNOWN :
+                ValidatorScanResult.INVALID;
+    }
+
+    /**
+     * Returns the message for text that {@link #scan(String)} found {@link ValidatorScanResult#INVALID}, without
+     * parsing or throwing.
+     */
+    static String invalidMessage(final String text) {
+        final int check = check(text);
+
+        final String message;
+        switch (check) {
+            case MISSING_PROTOCOL:
+                message = NO_PROTOCOL + text;
+                break;
+            case UNSUPPORTED_PROTOCOL:
+                message = UNKNOWN_PROTOCOL + toLowerCase(
+                    text.substring(
+                        0,
+                        text.indexOf(':')
+                    )
+                );
+                break;
+            case MISSING_HOST_NAME:
+                message = MISSING_HOST;
+                break;
+            case INVALID_PORT:
+                message = portMessage(text);
+                break;
+            default:
+                if (check < 0) {
+                    throw new IllegalArgumentException("Url not invalid " + CharSequences.quoteAndEscape(text));
+                }
+                message = hostMessage(
+                    text,
+                    check
+                );
+                break;
+        }
+
+        return message;
+    }
+
+    /**
+     * The message of the {@link NumberFormatException} thrown when the port is parsed, reported by the parser
+     * unchanged.
+     */
+    private static String portMessage(final String text) {
+        final int hostStart = text.indexOf("//") + 2;
+        final int authorityEnd = authorityEnd(text, hostStart);
+        final String port = text.substring(
+            text.indexOf(':', hostStart) + 1,
+            authorityEnd
+        );
+
+        int index = 0;
+        while (isDigit(port.charAt(index))) {
+            index++;
+        }
+
+        return "Error at index " + index + " in: \"" + port + "\"";
+    }
+
+    /**
+     * The message for a host with an invalid character, the offset is within the host.
+     */
+    private static String hostMessage(final String text,
+                                      final int offset) {
+        final int hostStart = text.indexOf("//") + 2;
+        final int authorityEnd = authorityEnd(text, hostStart);
+        final int colon = text.indexOf(':', hostStart);
+
+        final String host = text.substring(
+            hostStart,
+            -1 != colon && colon < authorityEnd ?
+                colon :
+                authorityEnd
+        );
+
+        final int index = offset - hostStart;
+        return "Invalid character " + CharSequences.quoteIfChars(host.charAt(index)) + " at " + index + " in " +
+            CharSequences.quoteAndEscape(host);
+    }
+
+    /**
+     * Checks the text returning {@link #VALID}, {@link #UNKNOWN}, one of the negative failure codes or the offset of
+     * an invalid host character, which means an invalid text is only scanned again to build its message.
+     */
+    private static int check(final String text) {
+        if (null == text) {
+            return UNKNOWN;
+        }
+
+        final int length = text.length();
+        if (length > 0 &&
+            (text.charAt(0) <= ' ' ||
+                text.charAt(length - 1) <= ' ' ||
+                '#' == text.charAt(0) ||
+                text.regionMatches(true, 0, "url:", 0, 4))) {
+            // leading or trailing whitespace, a url: prefix and a fragment only are handled by the parser
+            return UNKNOWN;
+        }
+
+        final int colon = protocolEnd(text);
+        switch (colon) {
+            case NO_PROTOCOL_COLON:
+                return MISSING_PROTOCOL;
+            case UNKNOWN_PROTOCOL_CHARACTER:
+                return UNKNOWN;
+            default:
+                break;
+        }
+
+        final int check;
+        switch (toLowerCase(text.substring(0, colon))) {
+            case HTTP:
+            case HTTPS:
+                check = checkHttp(
+                    text,
+                    colon + 1
+                );
+                break;
+            case "file":
+            case "ftp":
+            case "jar":
+            case "jrt":
+            case "mailto":
+                check = UNKNOWN;
+                break;
+            default:
+                check = UNSUPPORTED_PROTOCOL;
+                break;
+        }
+
+        return check;
+    }
+
+    private final static int VALID = -1;
+    private final static int UNKNOWN = -2;
+    private final static int MISSING_PROTOCOL = -3;
+    private final static int UNSUPPORTED_PROTOCOL = -4;
+    private final static int MISSING_HOST_NAME = -5;
+    private final static int INVALID_PORT = -6;
+
+    private final static String HTTP = "http";
+
+    private final static String HTTPS = "https";
+
+    /**
+     * Returns the index of the colon ending the protocol, or {@link #NO_PROTOCOL_COLON} when there is no protocol,
+     * because there is no colon before the first slash or the protocol is not a letter followed by letters, digits,
+     * dot, plus or minus.
+     */
+    private static int protocolEnd(final String text) {
+        final int length = text.length();
+
+        for (int i = 0; i < length; i++) {
+            final char c = text.charAt(i);
+            if ('/' == c) {
+                break;
+            }
+            if (':' == c) {
+                return i > 0 ? i : NO_PROTOCOL_COLON;
+            }
+            if (0 == i ?
+                false == isLetter(c) :
+                false == (isLetter(c) || isDigit(c) || '.' == c || '+' == c || '-' == c)) {
+                // non ascii letters may still be a protocol
+                return c >= 0x80 ?
+                    UNKNOWN_PROTOCOL_CHARACTER :
+                    NO_PROTOCOL_COLON;
+            }
+        }
+
+        return NO_PROTOCOL_COLON;
+    }
+
+    /**
+     * Returned by {@link #protocolEnd(String)} when there is no protocol.
+     */
+    private final static int NO_PROTOCOL_COLON = -1;
+
+    /**
+     * Returned by {@link #protocolEnd(String)} for a non ASCII character, which may still be part of a protocol.
+     */
+    private final static int UNKNOWN_PROTOCOL_CHARACTER = -2;
+
+    /**
+     * Checks the authority, path, query and fragment after http: or https:.
+     */
+    private static int checkHttp(final String text,
+                                 final int start) {
+        if (false == text.startsWith("//", start)) {
+            return UNKNOWN;
+        }
+
+        final int hostStart = start + 2;
+        final int authorityEnd = authorityEnd(text, hostStart);
+
+        // credentials and IP version 6 addresses
+        for (int i = hostStart; i < authorityEnd; i++) {
+            final char c = text.charAt(i);
+            if ('@' == c || '[' == c) {
+                return UNKNOWN;
+            }
+        }
+
+        int hostEnd = authorityEnd;
+
+        // port, parsed before the host is checked
+        final int colon = text.indexOf(':', hostStart);
+        if (-1 != colon && colon < authorityEnd) {
+            hostEnd = colon;
+
+            final int port = checkPort(
+                text,
+                colon + 1,
+                authorityEnd
+            );
+            if (VALID != port) {
+                return port;
+            }
+        }
+
+        if (hostStart == hostEnd) {
+            return MISSING_HOST_NAME;
+        }
+
+        final int host = checkHost(
+            text,
+            hostStart,
+            hostEnd
+        );
+        if (VALID != host) {
+            return host;
+        }
+
+        return checkPathQueryFragment(
+            text,
+            authorityEnd
+        );
+    }
+
+    /**
+     * The authority ends with the first slash, question mark or hash.
+     */
+    private static int authorityEnd(final String text,
+                                    final int start) {
+        final int length = text.length();
+
+        int i = start;
+        while (i < length) {
+            final char c = text.charAt(i);
+            if ('/' == c || '?' == c || '#' == c) {
+                break;
+            }
+            i++;
+        }
+
+        return i;
+    }
+
+    /**
+     * A port must be digits, only a non digit within the first ten characters is certainly invalid, longer ports may
+     * overflow, which is reported differently.
+     */
+    private static int checkPort(final String text,
+                                 final int start,
+                                 final int end) {
+        if (start == end) {
+            return UNKNOWN;
+        }
+
+        final char first = text.charAt(start);
+        if ('+' == first || '-' == first) {
+            return UNKNOWN;
+        }
+
+        int port = 0;
+        for (int i = start; i < end; i++) {
+            final char c = text.charAt(i);
+            if (false == isDigit(c)) {
+                return c < 0x80 && i - start <= 9 ?
+                    INVALID_PORT :
+                    UNKNOWN;
+            }
+            if (i - start >= 5) {
+                return UNKNOWN;
+            }
+            port = port * 10 + c - '0';
+        }
+
+        return port > 0 && port <= MAX_PORT ?
+            VALID :
+            UNKNOWN;
+    }
+
+    /**
+     * Letters, digits and inner hyphens separated by dots, where the last label is letters only. A character that is
+     * never part of a host name is invalid, other unusual hosts are left to the parser.
+     */
+    private static int checkHost(final String text,
+                                 final int start,
+                                 final int end) {
+        int check = VALID;
+        int labelStart = start;
+        boolean letters = true;
+
+        for (int i = start; i < end; i++) {
+            final char c = text.charAt(i);
+            if ('.' == c) {
+                if (false == isLabel(text, labelStart, i)) {
+                    check = UNKNOWN;
+                }
+                labelStart = i + 1;
+                letters = true;
+            } else if (isDigit(c) || '-' == c) {
+                letters = false;
+            } else if (false == isLetter(c)) {
+                if (c < 0x80 && false == isHostSymbol(c)) {
+                    return i;
+                }
+                check = UNKNOWN;
+            }
+        }
+
+        return isLabel(text, labelStart, end) && letters ?
+            check :
+            UNKNOWN;
+    }
+
+    /**
+     * ASCII symbols that may appear in an unusual host, eg percent encoding or underscores, and are left to the parser.
+     */
+    private static boolean isHostSymbol(final char c) {
+        return '_' == c || '~' == c || '%' == c;
+    }
+
+    private static int checkPathQueryFragment(final String text,
+                                              final int start) {
+        final int length = text.length();
+        boolean valid = true;
+        int i = start;
+
+        // path
+        if (i < length && '/' == text.charAt(i)) {
+            while (valid && i < length) {
+                final char c = text.charAt(i);
+                if ('?' == c || '#' == c) {
+                    break;
+                }
+                valid = isUnreserved(c) || '/' == c;
+                i++;
+            }
+        }
+
+        // query
+        if (valid && i < length && '?' == text.charAt(i)) {
+            i++;
+            final int queryStart = i;
+
+            while (valid && i < length) {
+                final char c = text.charAt(i);
+                if ('#' == c) {
+                    break;
+                }
+                valid = isUnreserved(c) || '/' == c || '=' == c || '&' == c;
+                i++;
+            }
+
+            valid = valid && i > queryStart;
+        }
+
+        // fragment
+        if (valid && i < length && '#' == text.charAt(i)) {
+            i++;
+            final int fragmentStart = i;
+
+            while (valid && i < length) {
+                final char c = text.charAt(i);
+                valid = isUnreserved(c) || '/' == c;
+                i++;
+            }
+
+            valid = valid && i > fragmentStart;
+        }
+
+        return valid && i == length ?
+            VALID :
+            UNKNOWN;
+    }
+
+    /**
+     * Letters, digits and inner hyphens.
+     */
+    private static boolean isLabel(final String text,
+                                   final int start,
+                                   final int end) {
+        final int length = end - start;
+        return length > 0 &&
+            length <= MAX_LABEL_LENGTH &&
+            '-' != text.charAt(start) &&
+            '-' != text.charAt(end - 1);
+    }
+
+    // https://www.rfc-editor.org/rfc/rfc3986#section-2.3
+    private static boolean isUnreserved(final char c) {
+        return isLetter(c) || isDigit(c) || '-' == c || '.' == c || '_' == c || '~' == c;
+    }
+
+    private static boolean isLetter(final char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Protocols are compared ignoring ASCII case.
+     */
+    private static String toLowerCase(final String text) {
+        final int length = text.length();
+        final char[] chars = new char[length];
+
+        for (int i = 0; i < length; i++) {
+            final char c = text.charAt(i);
+            chars[i] = c >= 'A' && c <= 'Z' ?
+                (char) (c + ('a' - 'A')) :
+                c;
+        }
+
+        return new String(chars);
+    }
+
+    /**
+     * Stop creation
+     */
+    private AbsoluteUrlValidatorScanner() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A validator that completes later, useful for validators that perform slow lookups and should not block the calling
+ * thread.
+ * <br>
+ * This is not available to J2CL or GWT, which do not support {@link CompletionStage}.
+ */
+public interface AsyncValidator<R extends ValidationReference, C extends ValidatorContext<R>> {
+
+    /**
+     * Validates the given value, the {@link CompletionStage} completes with zero or more {@link ValidationError}.
+     */
+    CompletionStage<List<ValidationError<R>>> validateAsync(final Object value,
+                                                            final C context);
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import walkingkooka.Cast;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletionException;
+
+/**
+ * A {@link Validator} that waits for an {@link AsyncValidator} to complete, rethrowing anything it fails with.
+ */
+final class AsyncValidatorBlocking<R extends ValidationReference, C extends ValidatorContext<R>> implements Validator<R, C> {
+
+    static <R extends ValidationReference, C extends ValidatorContext<R>> AsyncValidatorBlocking<R, C> with(final AsyncValidator<R, C> validator) {
+        return new AsyncValidatorBlocking<>(
+            Objects.requireNonNull(validator, "validator")
+        );
+    }
+
+    private AsyncValidatorBlocking(final AsyncValidator<R, C> validator) {
+        super();
+        this.validator = validator;
+    }
+
+    @Override
+    public List<ValidationError<R>> validate(final Object value,
+                                             final C context) {
+        Objects.requireNonNull(context, "context");
+
+        try {
+            return this.validator.validateAsync(
+                value,
+                context
+            ).toCompletableFuture()
+                .join();
+        } catch (final CompletionException cause) {
+            final Throwable thrown = cause.getCause();
+            if (thrown instanceof RuntimeException) {
+                throw (RuntimeException) thrown;
+            }
+            if (thrown instanceof Error) {
+                throw (Error) thrown;
+            }
+            throw cause;
+        }
+    }
+
+    // @VisibleForTesting
+    final AsyncValidator<R, C> validator;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return this.validator.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            other instanceof AsyncValidatorBlocking &&
+                this.equals0(Cast.to(other));
+    }
+
+    private boolean equals0(final AsyncValidatorBlocking<?, ?> other) {
+        return this.validator.equals(other.validator);
+    }
+
+    @Override
+    public String toString() {
+        return this.validator.toString();
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import walkingkooka.Cast;
+import walkingkooka.collect.list.Lists;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * An {@link AsyncValidator} that starts all its validators at once, so their time overlaps. Errors are merged in
+ * declaration order and the result completes as soon as {@link #maxErrors} is reached, cancelling the futures of
+ * validators that have not completed. Validators created by {@link AsyncValidators#async(Validator)} are interrupted
+ * when running, other {@link AsyncValidator} may continue in the background. The errors are an immutable
+ * {@link ValidationErrorList} and are always the same as {@link ValidatorCollection} with the same validators.
+ */
+final class AsyncValidatorCollection<R extends ValidationReference, C extends ValidatorContext<R>> implements AsyncValidator<R, C> {
+
+    static <R extends ValidationReference, C extends ValidatorContext<R>> AsyncValidatorCollection<R, C> with(final int maxErrors,
+                                                                                                              final List<AsyncValidator<R, C>> validators) {
+        if (maxErrors <= 0) {
+            throw new IllegalArgumentException("Invalid maxErrors " + maxErrors + " <= 0");
+        }
+
+        return new AsyncValidatorCollection<>(
+            maxErrors,
+            Lists.immutable(
+                Objects.requireNonNull(validators, "validators")
+            )
+        );
+    }
+
+    private AsyncValidatorCollection(final int maxErrors,
+                                     final List<AsyncValidator<R, C>> validators) {
+        this.maxErrors = maxErrors;
+
+        if (validators.isEmpty()) {
+            throw new IllegalArgumentException("Empty validators");
+        }
+
+        this.validators = validators;
+    }
+
+    @Override
+    public CompletionStage<List<ValidationError<R>>> validateAsync(final Object value,
+                                                                   final C context) {
+        Objects.requireNonNull(context, "context");
+
+        final int maxErrors = this.maxErrors;
+        final List<AsyncValidator<R, C>> validators = this.validators;
+        final int count = validators.size();
+
+        context.beginValidation();
+
+        final List<CompletableFuture<List<ValidationError<R>>>> futures = new ArrayList<>(count);
+        try {
+            for (final AsyncValidator<R, C> validator : validators) {
+                futures.add(
+                    validator.validateAsync(
+                        value,
+                        context
+                    ).toCompletableFuture()
+                );
+            }
+        } catch (final RuntimeException cause) {
+            for (final CompletableFuture<?> future : futures) {
+                future.cancel(true);
+            }
+            context.endValidation();
+            throw cause;
+        }
+
+        final ValidationErrorListBuilder<R> errors = ValidationErrorListBuilder.with(
+            Math.min(
+                maxErrors,
+                count
+            )
+        );
+        final Set<ValidationError<R>> unique = new HashSet<>();
+
+        // chain each result in declaration order, once enough errors exist the remaining results are ignored
+        CompletableFuture<ValidationErrorListBuilder<R>> result = CompletableFuture.completedFuture(errors);
+
+        for (final CompletableFuture<List<ValidationError<R>>> future : futures) {
+            result = result.thenCompose(
+                (e) -> e.size() >= maxErrors ?
+                    CompletableFuture.completedFuture(e) :
+                    future.thenApply(
+                        (newErrors) -> {
+                            for (final ValidationError<R> error : newErrors) {
+                                if (unique.add(error)) {
+                                    e.add(error);
+                                }
+                            }
+                            return e;
+                        }
+                    )
+            );
+        }
+
+        return result.<List<ValidationError<R>>>thenApply(ValidationErrorListBuilder::build)
+            .whenComplete(
+                (e, thrown) -> {
+                    for (final CompletableFuture<?> future : futures) {
+                        future.cancel(true);
+                    }
+                    context.endValidation();
+                }
+            );
+    }
+
+    private final int maxErrors;
+
+    private final List<AsyncValidator<R, C>> validators;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            this.maxErrors,
+            this.validators
+        );
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            other instanceof AsyncValidatorCollection &&
+                this.equals0(Cast.to(other));
+    }
+
+    private boolean equals0(final AsyncValidatorCollection<?, ?> other) {
+        return this.maxErrors == other.maxErrors &&
+            this.validators.equals(other.validators);
+    }
+
+    @Override
+    public String toString() {
+        return "" + this.maxErrors + " " + this.validators;
+    }
+}
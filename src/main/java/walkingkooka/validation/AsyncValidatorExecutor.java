@@ -0,0 +1,128 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import walkingkooka.Cast;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.function.Supplier;
+
+/**
+ * An {@link AsyncValidator} that runs a {@link Validator} using an {@link Executor}. Cancelling the returned future
+ * interrupts the {@link Validator} if it is running.
+ */
+final class AsyncValidatorExecutor<R extends ValidationReference, C extends ValidatorContext<R>> implements AsyncValidator<R, C> {
+
+    static <R extends ValidationReference, C extends ValidatorContext<R>> AsyncValidatorExecutor<R, C> with(final Validator<R, C> validator,
+                                                                                                            final Executor executor) {
+        return new AsyncValidatorExecutor<>(
+            Objects.requireNonNull(validator, "validator"),
+            Objects.requireNonNull(executor, "executor")
+        );
+    }
+
+    private AsyncValidatorExecutor(final Validator<R, C> validator,
+                                   final Executor executor) {
+        super();
+        this.validator = validator;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletionStage<List<ValidationError<R>>> validateAsync(final Object value,
+                                                                   final C context) {
+        Objects.requireNonNull(context, "context");
+
+        final Validator<R, C> validator = this.validator;
+
+        final AsyncValidatorExecutorFuture<List<ValidationError<R>>> future = new AsyncValidatorExecutorFuture<>(
+            () -> validator.validate(
+                value,
+                context
+            )
+        );
+        this.executor.execute(future.task);
+        return future;
+    }
+
+    /**
+     * A {@link CompletableFuture} completed by a {@link FutureTask}, cancelling the future also cancels the task,
+     * which skips a {@link Validator} that has not started or interrupts one that is running.
+     */
+    private final static class AsyncValidatorExecutorFuture<T> extends CompletableFuture<T> {
+
+        AsyncValidatorExecutorFuture(final Supplier<T> supplier) {
+            super();
+            this.task = new FutureTask<>(
+                () -> {
+                    try {
+                        this.complete(supplier.get());
+                    } catch (final Throwable cause) {
+                        this.completeExceptionally(cause);
+                    }
+                },
+                null
+            );
+        }
+
+        @Override
+        public boolean cancel(final boolean mayInterruptIfRunning) {
+            this.task.cancel(mayInterruptIfRunning);
+            return super.cancel(mayInterruptIfRunning);
+        }
+
+        final FutureTask<Void> task;
+    }
+
+    // @VisibleForTesting
+    final Validator<R, C> validator;
+
+    private final Executor executor;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            this.validator,
+            this.executor
+        );
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            other instanceof AsyncValidatorExecutor &&
+                this.equals0(Cast.to(other));
+    }
+
+    private boolean equals0(final AsyncValidatorExecutor<?, ?> other) {
+        return this.validator.equals(other.validator) &&
+            this.executor.equals(other.executor);
+    }
+
+    @Override
+    public String toString() {
+        return this.validator.toString();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import walkingkooka.reflect.PublicStaticHelper;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A collection of {@link AsyncValidator} factory methods and adapters to and from {@link Validator}.
+ * <br>
+ * This is not available to J2CL or GWT, which do not support threads.
+ */
+public final class AsyncValidators implements PublicStaticHelper {
+
+    /**
+     * {@link AsyncValidatorExecutor} using the {@link ForkJoinPool#commonPool()}.
+     */
+    public static <R extends ValidationReference, C extends ValidatorContext<R>> AsyncValidator<R, C> async(final Validator<R, C> validator) {
+        return async(
+            validator,
+            ForkJoinPool.commonPool()
+        );
+    }
+
+    /**
+     * {@link AsyncValidatorExecutor}, unwrapping a {@link Validator} previously returned by {@link #blocking(AsyncValidator)}.
+     */
+    public static <R extends ValidationReference, C extends ValidatorContext<R>> AsyncValidator<R, C> async(final Validator<R, C> validator,
+                                                                                                            final Executor executor) {
+        return validator instanceof AsyncValidatorBlocking ?
+            ((AsyncValidatorBlocking<R, C>) validator).validator :
+            AsyncValidatorExecutor.with(
+                validator,
+                executor
+            );
+    }
+
+    /**
+     * {@link AsyncValidatorBlocking}, unwrapping an {@link AsyncValidator} previously returned by {@link #async(Validator)}.
+     */
+    public static <R extends ValidationReference, C extends ValidatorContext<R>> Validator<R, C> blocking(final AsyncValidator<R, C> validator) {
+        return validator instanceof AsyncValidatorExecutor ?
+            ((AsyncValidatorExecutor<R, C>) validator).validator :
+            AsyncValidatorBlocking.with(validator);
+    }
+
+    /**
+     * {@link AsyncValidatorCollection}
+     */
+    public static <R extends ValidationReference, C extends ValidatorContext<R>> AsyncValidator<R, C> collection(final int maxErrors,
+                                                                                                                 final List<AsyncValidator<R, C>> validators) {
+        return AsyncValidatorCollection.with(
+            maxErrors,
+            validators
+        );
+    }
+
+    /**
+     * Private constructor to stop creation
+     */
+    private AsyncValidators() {
+        throw new UnsupportedOperationException();
+    }
+}
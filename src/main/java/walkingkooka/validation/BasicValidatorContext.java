@@ -17,6 +17,8 @@
 
 package walkingkooka.validation;
 
+import walkingkooka.Cast;
+import walkingkooka.Either;
 import walkingkooka.convert.ConverterLike;
 import walkingkooka.convert.ConverterLikeDelegator;
 import walkingkooka.environment.EnvironmentContext;
@@ -25,6 +27,8 @@ import walkingkooka.tree.expression.ExpressionEvaluationContext;
 import walkingkooka.validation.provider.ValidatorSelector;
 
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -42,7 +46,9 @@ final class BasicValidatorContext<T extends ValidationReference> implements Vali
             Objects.requireNonNull(validatorSelectorToValidator, "validatorSelectorToValidator"),
             Objects.requireNonNull(referenceToExpressionEvaluationContext, "referenceToExpressionEvaluationContext"),
             Objects.requireNonNull(converterLike, "converterLike"),
-            Objects.requireNonNull(environmentContext, "environmentContext")
+            Objects.requireNonNull(environmentContext, "environmentContext"),
+            NoValidatorMetrics.INSTANCE,
+            ValidationErrorCache.empty()
         );
     }
 
@@ -50,12 +56,16 @@ final class BasicValidatorContext<T extends ValidationReference> implements Vali
                                   final Function<ValidatorSelector, Validator<T, ? super ValidatorContext<T>>> validatorSelectorToValidator,
                                   final BiFunction<Object, T, ExpressionEvaluationContext> referenceToExpressionEvaluationContext,
                                   final ConverterLike converterLike,
-                                  final EnvironmentContext environmentContext) {
+                                  final EnvironmentContext environmentContext,
+                                  final ValidatorMetrics validatorMetrics,
+                                  final ValidationErrorCache validationErrorCache) {
         this.validationReference = validationReference;
         this.validatorSelectorToValidator = validatorSelectorToValidator;
         this.referenceToExpressionEvaluationContext = referenceToExpressionEvaluationContext;
         this.converterLike = converterLike;
         this.environmentContext = environmentContext;
+        this.validatorMetrics = validatorMetrics;
+        this.validationErrorCache = validationErrorCache;
     }
 
     @Override
@@ -74,10 +84,44 @@ final class BasicValidatorContext<T extends ValidationReference> implements Vali
                 this.validatorSelectorToValidator,
                 this.referenceToExpressionEvaluationContext,
                 this.converterLike,
-                this.environmentContext
+                this.environmentContext,
+                this.validatorMetrics,
+                this.validationErrorCache
             );
     }
 
+    /**
+     * Errors are shared, so repeated failures with the same reference and message return the same instance.
+     */
+    @Override
+    public ValidationError<T> validationError(final String message) {
+        return this.validationErrorCache.get(
+            this.validationReference,
+            message,
+            ValidationError.NO_VALUE
+        );
+    }
+
+    @Override
+    public ValidationError<T> validationError(final String message,
+                                              final Optional<Object> value) {
+        return this.validationErrorCache.get(
+            this.validationReference,
+            message,
+            value
+        );
+    }
+
+    /**
+     * Shared by every {@link BasicValidatorContext} copied from this one, eg by {@link #setValidationReference}.
+     */
+    // @VisibleForTesting
+    final ValidationErrorCache validationErrorCache;
+
+    /**
+     * The {@link Validator} is returned unwrapped, callers that want the invocation recorded wrap it with
+     * {@link Validators#metered} when the {@link #validatorMetrics()} are recording.
+     */
     @Override
     public Validator<T, ? super ValidatorContext<T>> validator(final ValidatorSelector selector) {
         Objects.requireNonNull(selector, "selector");
@@ -87,6 +131,31 @@ final class BasicValidatorContext<T extends ValidationReference> implements Vali
 
     private final Function<ValidatorSelector, Validator<T, ? super ValidatorContext<T>>> validatorSelectorToValidator;
 
+    @Override
+    public ValidatorMetrics validatorMetrics() {
+        return this.validatorMetrics;
+    }
+
+    /**
+     * Would be setter that returns a {@link BasicValidatorContext} recording to the given {@link ValidatorMetrics}.
+     */
+    BasicValidatorContext<T> setValidatorMetrics(final ValidatorMetrics validatorMetrics) {
+        return this.validatorMetrics.equals(validatorMetrics) ?
+            this :
+            new BasicValidatorContext<>(
+                this.validationReference,
+                this.validatorSelectorToValidator,
+                this.referenceToExpressionEvaluationContext,
+                this.converterLike,
+                this.environmentContext,
+                Objects.requireNonNull(validatorMetrics, "validatorMetrics"),
+                this.validationErrorCache
+            );
+    }
+
+    // @VisibleForTesting
+    final ValidatorMetrics validatorMetrics;
+
     @Override
     public ExpressionEvaluationContext expressionEvaluationContext(final Object value) {
         return this.referenceToExpressionEvaluationContext.apply(
@@ -104,6 +173,127 @@ final class BasicValidatorContext<T extends ValidationReference> implements Vali
         return this.converterLike;
     }
 
+    /**
+     * Validators in a collection often convert the same value to the same type, eg text. During a validation, see
+     * {@link #beginValidation()}, the most recent conversion is remembered and returned if the same value instance is
+     * converted to the same type again. Converting any other value replaces the memo, and the begin or end of a top
+     * level validation forgets it, so no conversion is shared between values or validations. Validations nested within
+     * another, eg a collection within a collection, share the memo of the top level validation. Outside a validation
+     * every conversion uses the {@link ConverterLike}.
+     * <br>
+     * The memo belongs to this context and not a thread, so a context must only be used by one top level validation at
+     * a time, although the validators of that validation may use it from many threads, eg
+     * {@link Validators#collection}s run in parallel. Concurrent validations should each use their own context.
+     */
+    @Override
+    public <V> Either<V, String> convert(final Object value,
+                                         final Class<V> type) {
+        // read the generation first, a validation that begins or ends afterwards makes the new memo stale
+        final int generation = this.generation.get();
+
+        Either<?, String> converted;
+        if (0 == this.depth.get()) {
+            converted = this.converterLike.convert(
+                value,
+                type
+            );
+        } else {
+            final Conversion conversion = this.conversion;
+
+            if (null != conversion && conversion.generation == generation && conversion.value == value && conversion.type == type) {
+                converted = conversion.converted;
+            } else {
+                converted = this.converterLike.convert(
+                    value,
+                    type
+                );
+                this.conversion = new Conversion(
+                    generation,
+                    value,
+                    type,
+                    converted
+                );
+            }
+        }
+
+        return Cast.to(converted);
+    }
+
+    /**
+     * Uses the memo of {@link #convert(Object, Class)}, only a failed conversion is repeated to report the failure.
+     */
+    @Override
+    public <V> V convertOrFail(final Object value,
+                               final Class<V> type) {
+        final Either<V, String> converted = this.convert(
+            value,
+            type
+        );
+        return converted.isLeft() ?
+            converted.leftValue() :
+            this.converterLike.convertOrFail(
+                value,
+                type
+            );
+    }
+
+    /**
+     * Only the top level validation starts a new generation, nested validations keep the memo.
+     */
+    @Override
+    public void beginValidation() {
+        if (0 == this.depth.getAndIncrement()) {
+            this.generation.incrementAndGet();
+        }
+    }
+
+    /**
+     * Only the end of the top level validation forgets the memo.
+     */
+    @Override
+    public void endValidation() {
+        if (0 == this.depth.decrementAndGet()) {
+            this.generation.incrementAndGet();
+        }
+    }
+
+    /**
+     * The depth of validations that have begun and not ended, conversions are only remembered when this is not zero.
+     */
+    private final AtomicInteger depth = new AtomicInteger();
+
+    /**
+     * Incremented when a top level validation begins or ends, a remembered conversion from an earlier generation is
+     * ignored.
+     */
+    private final AtomicInteger generation = new AtomicInteger();
+
+    /**
+     * The most recent conversion, which is replaced and never updated, so it may be shared by threads without locking.
+     */
+    private Conversion conversion;
+
+    private static final class Conversion {
+
+        Conversion(final int generation,
+                   final Object value,
+                   final Class<?> type,
+                   final Either<?, String> converted) {
+            this.generation = generation;
+            this.value = value;
+            this.type = type;
+            this.converted = converted;
+        }
+
+        final int generation;
+
+        final Object value;
+
+        final Class<?> type;
+
+        final Either<?, String> converted;
+    }
+
     // @VisibleForTesting
     final ConverterLike converterLike;
 
@@ -125,7 +315,9 @@ final class BasicValidatorContext<T extends ValidationReference> implements Vali
                 this.validatorSelectorToValidator,
                 this.referenceToExpressionEvaluationContext,
                 this.converterLike,
-                Objects.requireNonNull(environmentContext, "environmentContext")
+                Objects.requireNonNull(environmentContext, "environmentContext"),
+                this.validatorMetrics,
+                this.validationErrorCache
             );
     }
 
@@ -148,7 +340,8 @@ final class BasicValidatorContext<T extends ValidationReference> implements Vali
             this.validatorSelectorToValidator,
             this.referenceToExpressionEvaluationContext,
             this.converterLike,
-            this.environmentContext
+            this.environmentContext,
+            this.validatorMetrics
         );
     }
 
@@ -164,7 +357,8 @@ final class BasicValidatorContext<T extends ValidationReference> implements Vali
             this.validatorSelectorToValidator.equals(other.validatorSelectorToValidator) &&
             this.referenceToExpressionEvaluationContext.equals(other.referenceToExpressionEvaluationContext) &&
             this.converterLike.equals(other.converterLike) &&
-            this.environmentContext.equals(other.environmentContext);
+            this.environmentContext.equals(other.environmentContext) &&
+            this.validatorMetrics.equals(other.validatorMetrics);
     }
     @Override
     public String toString() {
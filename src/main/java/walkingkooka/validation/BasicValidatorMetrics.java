@@ -0,0 +1,121 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import walkingkooka.validation.provider.ValidatorName;
+import walkingkooka.validation.provider.ValidatorSelector;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link ValidatorMetrics} that keeps counters and a latency histogram for each {@link ValidatorSelector} and
+ * {@link ValidatorName}. Counters are held in {@link ConcurrentHashMap}, and each {@link ValidatorMetricsCounter} uses
+ * atomics, so recording from many threads never takes a lock once the counters for a selector exist. GWT and J2CL
+ * emulate both.
+ */
+final class BasicValidatorMetrics implements ValidatorMetrics {
+
+    static BasicValidatorMetrics empty() {
+        return new BasicValidatorMetrics();
+    }
+
+    private BasicValidatorMetrics() {
+        super();
+    }
+
+    @Override
+    public void record(final ValidatorSelector selector,
+                       final long nanos,
+                       final int errorCount) {
+        Objects.requireNonNull(selector, "selector");
+        if (errorCount < 0) {
+            throw new IllegalArgumentException("Invalid errorCount " + errorCount + " < 0");
+        }
+
+        counter(
+            this.selectors,
+            selector
+        ).record(
+            nanos,
+            errorCount
+        );
+        counter(
+            this.names,
+            selector.name()
+        ).record(
+            nanos,
+            errorCount
+        );
+    }
+
+    /**
+     * Tries a plain get first, so the common case of an existing counter never enters computeIfAbsent.
+     */
+    private static <K> ValidatorMetricsCounter counter(final Map<K, ValidatorMetricsCounter> counters,
+                                                       final K key) {
+        ValidatorMetricsCounter counter = counters.get(key);
+        if (null == counter) {
+            counter = counters.computeIfAbsent(
+                key,
+                (k) -> new ValidatorMetricsCounter()
+            );
+        }
+        return counter;
+    }
+
+    @Override
+    public ValidatorMetricsSnapshot snapshot() {
+        final Map<ValidatorName, ValidatorMetricsSnapshotEntry> names = new LinkedHashMap<>();
+        final Map<ValidatorSelector, ValidatorMetricsSnapshotEntry> selectors = new LinkedHashMap<>();
+
+        for (final Map.Entry<ValidatorName, ValidatorMetricsCounter> nameAndCounter : this.names.entrySet()) {
+            names.put(
+                nameAndCounter.getKey(),
+                nameAndCounter.getValue()
+                    .snapshot()
+            );
+        }
+        for (final Map.Entry<ValidatorSelector, ValidatorMetricsCounter> selectorAndCounter : this.selectors.entrySet()) {
+            selectors.put(
+                selectorAndCounter.getKey(),
+                selectorAndCounter.getValue()
+                    .snapshot()
+            );
+        }
+
+        return ValidatorMetricsSnapshot.with(
+            names,
+            selectors
+        );
+    }
+
+    private final Map<ValidatorName, ValidatorMetricsCounter> names = new ConcurrentHashMap<>();
+
+    private final Map<ValidatorSelector, ValidatorMetricsCounter> selectors = new ConcurrentHashMap<>();
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.snapshot()
+            .toString();
+    }
+}
@@ -18,6 +18,7 @@
 package walkingkooka.validation;
 
 import walkingkooka.net.email.EmailAddress;
+import walkingkooka.tree.expression.ExpressionPurityContext;
 
 import java.util.List;
 import java.util.Objects;
@@ -47,16 +48,29 @@ final class EmailAddressValidator<R extends ValidationReference, C extends Valid
         ValidationErrorList<R> errors = context.validationErrorList();
 
         try {
-            EmailAddress.parse(
-                context.convertOrFail(
-                    value,
-                    String.class
-                )
+            final String text = context.convertOrFail(
+                value,
+                String.class
             );
+
+            // only parse when the scanner is not sure, parsing builds the message for other invalid addresses
+            switch (EmailAddressValidatorScanner.scan(text)) {
+                case VALID:
+                    break;
+                case INVALID:
+                    errors = errors.concat(
+                        context.validationError(
+                            EmailAddressValidatorScanner.invalidMessage(text)
+                        )
+                    );
+                    break;
+                default:
+                    EmailAddress.parse(text);
+                    break;
+            }
         } catch (final NullPointerException cause) {
             errors = errors.concat(
-                context.validationError()
-                    .setMessage("Missing email address")
+                context.validationError(MISSING_EMAIL_ADDRESS)
             );
         } catch (final UnsupportedOperationException rethrow) {
             throw rethrow;
@@ -70,6 +84,52 @@ final class EmailAddressValidator<R extends ValidationReference, C extends Valid
         return errors;
     }
 
+    private final static String MISSING_EMAIL_ADDRESS = "Missing email address";
+
+    @Override
+    public boolean isValid(final Object value,
+                           final C context) {
+        Objects.requireNonNull(context, "context");
+
+        boolean valid;
+
+        try {
+            final String text = context.convertOrFail(
+                value,
+                String.class
+            );
+
+            switch (EmailAddressValidatorScanner.scan(text)) {
+                case VALID:
+                    valid = true;
+                    break;
+                case INVALID:
+                    valid = false;
+                    break;
+                default:
+                    EmailAddress.parse(text);
+                    valid = true;
+                    break;
+            }
+        } catch (final UnsupportedOperationException rethrow) {
+            throw rethrow;
+        } catch (final RuntimeException cause) {
+            valid = false;
+        }
+
+        return valid;
+    }
+
+    @Override
+    public ValidatorCost cost() {
+        return ValidatorCost.MODERATE;
+    }
+
+    @Override
+    public boolean isPure(final ExpressionPurityContext context) {
+        return true;
+    }
+
     // Object...........................................................................................................
 
     @Override
@@ -0,0 +1,262 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import walkingkooka.text.CharSequences;
+
+/**
+ * A single pass scanner that checks email address text without creating an {@link walkingkooka.net.email.EmailAddress}
+ * or throwing. The common form of local part and dot separated domain is {@link ValidatorScanResult#VALID}, and any
+ * grammar violation is {@link ValidatorScanResult#INVALID}, with the same message as the parser from
+ * {@link #invalidMessage(String)}. Syntax the scanner does not support, such as quoted local parts, IP address domains,
+ * non ASCII text or the rarer local part symbols, is {@link ValidatorScanResult#UNKNOWN}.
+ */
+final class EmailAddressValidatorScanner {
+
+    // https://www.rfc-editor.org/rfc/rfc5321#section-4.5.3.1
+    final static int MAX_LENGTH = 254;
+
+    final static int MAX_LOCAL_LENGTH = 64;
+
+    final static int MAX_LABEL_LENGTH = 63;
+
+    final static String EMPTY = "Empty \"EmailAddress\"";
+
+    final static String TOO_LONG = "Email too long";
+
+    final static String MISSING_AT = "Email missing '@'";
+
+    final static String MISSING_USER = "Email missing user";
+
+    final static String MISSING_HOST = "Email missing host";
+
+    static ValidatorScanResult scan(final String text) {
+        final int check = check(text);
+
+        return VALID == check ?
+            ValidatorScanResult.VALID :
+            UNKNOWN == check ?
+                ValidatorScanResult.UNKNOWN :
+                ValidatorScanResult.INVALID;
+    }
+
+    /**
+     * Returns the message for text that {@link #scan(String)} found {@link ValidatorScanResult#INVALID}, without
+     * parsing or throwing.
+     */
+    static String invalidMessage(final String text) {
+        final int check = check(text);
+
+        final String message;
+        switch (check) {
+            case EMPTY_TEXT:
+                message = EMPTY;
+                break;
+            case TOO_LONG_TEXT:
+                message = TOO_LONG;
+                break;
+            case MISSING_AT_SIGN:
+                message = MISSING_AT;
+                break;
+            case MISSING_LOCAL:
+                message = MISSING_USER;
+                break;
+            case MISSING_DOMAIN:
+                message = MISSING_HOST;
+                break;
+            default:
+                if (check < 0) {
+                    throw new IllegalArgumentException("Email not invalid " + CharSequences.quoteAndEscape(text));
+                }
+                message = "Invalid character " + CharSequences.quoteIfChars(text.charAt(check)) + " at " + check +
+                    " in " + CharSequences.quoteAndEscape(text);
+                break;
+        }
+
+        return message;
+    }
+
+    /**
+     * Checks the text returning {@link #VALID}, {@link #UNKNOWN}, one of the negative failure codes or the offset of
+     * the first invalid character, which means an invalid text is only scanned again to build its message.
+     */
+    private static int check(final String text) {
+        final int check;
+
+        if (null == text) {
+            check = UNKNOWN;
+        } else {
+            final int length = text.length();
+
+            if (0 == length) {
+                check = EMPTY_TEXT;
+            } else if (length > MAX_LENGTH) {
+                check = TOO_LONG_TEXT;
+            } else if ('"' == text.charAt(0)) {
+                check = UNKNOWN;
+            } else {
+                final int at = text.indexOf('@');
+
+                if (-1 == at) {
+                    check = MISSING_AT_SIGN;
+                } else if (0 == at) {
+                    check = MISSING_LOCAL;
+                } else if (length - 1 == at) {
+                    check = MISSING_DOMAIN;
+                } else {
+                    final int local = checkLocal(text, at);
+
+                    check = VALID == local ?
+                        checkDomain(text, at + 1, length) :
+                        local;
+                }
+            }
+        }
+
+        return check;
+    }
+
+    private final static int VALID = -1;
+    private final static int UNKNOWN = -2;
+    private final static int EMPTY_TEXT = -3;
+    private final static int TOO_LONG_TEXT = -4;
+    private final static int MISSING_AT_SIGN = -5;
+    private final static int MISSING_LOCAL = -6;
+    private final static int MISSING_DOMAIN = -7;
+
+    /**
+     * Letters, digits and a few symbols separated by single dots. The other symbols allowed by RFC 5322 and non ASCII
+     * characters are left to the parser, as is anything after them, because the parser may report them first.
+     */
+    private static int checkLocal(final String text,
+                                  final int end) {
+        if (end > MAX_LOCAL_LENGTH) {
+            return UNKNOWN;
+        }
+
+        char previous = '.';
+
+        for (int i = 0; i < end; i++) {
+            final char c = text.charAt(i);
+            if ('.' == c) {
+                if ('.' == previous) {
+                    return i;
+                }
+            } else {
+                if (false == (isLetterOrDigit(c) || '_' == c || '+' == c || '-' == c)) {
+                    return c >= 0x80 || isAtextSymbol(c) ?
+                        UNKNOWN :
+                        i;
+                }
+            }
+            previous = c;
+        }
+
+        return '.' == previous ?
+            end - 1 :
+            VALID;
+    }
+
+    /**
+     * The RFC 5322 atext symbols that are not accepted by {@link #checkLocal(String, int)} without parsing.
+     */
+    private static boolean isAtextSymbol(final char c) {
+        return "!#$%&'*/=?^`{|}~".indexOf(c) != -1;
+    }
+
+    /**
+     * Two or more labels of letters, digits and inner hyphens, where the last label is letters only. Address literals,
+     * a trailing dot, single labels, numeric top level domains and non ASCII characters are left to the parser.
+     */
+    private static int checkDomain(final String text,
+                                   final int start,
+                                   final int end) {
+        if ('[' == text.charAt(start)) {
+            return UNKNOWN;
+        }
+
+        int labelStart = start;
+        int labels = 0;
+        boolean letters = true;
+
+        for (int i = start; i < end; i++) {
+            final char c = text.charAt(i);
+
+            if ('.' == c) {
+                if (i == labelStart) {
+                    return i;
+                }
+                if ('-' == text.charAt(i - 1)) {
+                    return i - 1;
+                }
+                if (i - labelStart > MAX_LABEL_LENGTH) {
+                    return UNKNOWN;
+                }
+                labels++;
+                labelStart = i + 1;
+                letters = true;
+            } else if ('-' == c) {
+                if (i == labelStart) {
+                    return i;
+                }
+                letters = false;
+            } else if (isDigit(c)) {
+                letters = false;
+            } else if (false == isLetter(c)) {
+                return c >= 0x80 ?
+                    UNKNOWN :
+                    i;
+            }
+        }
+
+        final int lastLength = end - labelStart;
+        if (lastLength > 0) {
+            if ('-' == text.charAt(end - 1)) {
+                return end - 1;
+            }
+            labels++;
+        }
+
+        return 0 == lastLength ||
+            labels < 2 ||
+            false == letters ||
+            lastLength < 2 ||
+            lastLength > MAX_LABEL_LENGTH ?
+            UNKNOWN :
+            VALID;
+    }
+
+    private static boolean isLetterOrDigit(final char c) {
+        return isLetter(c) || isDigit(c);
+    }
+
+    private static boolean isLetter(final char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Stop creation
+     */
+    private EmailAddressValidatorScanner() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -19,6 +19,7 @@ package walkingkooka.validation;
 
 import walkingkooka.Cast;
 import walkingkooka.tree.expression.Expression;
+import walkingkooka.tree.expression.ExpressionPurityContext;
 
 import java.util.List;
 import java.util.Objects;
@@ -68,6 +69,14 @@ final class ExpressionValidator<R extends ValidationReference, C extends Validat
         return validationErrors;
     }
 
+    /**
+     * The validation value is passed as a reference, so this is only pure when the {@link Expression} is pure.
+     */
+    @Override
+    public boolean isPure(final ExpressionPurityContext context) {
+        return this.expression.isPure(context);
+    }
+
     private final Expression expression;
 
     // Object...........................................................................................................
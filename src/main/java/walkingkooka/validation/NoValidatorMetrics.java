@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import walkingkooka.validation.provider.ValidatorSelector;
+
+import java.util.Objects;
+
+/**
+ * A {@link ValidatorMetrics} that ignores everything, this is the default for all {@link ValidatorContext}.
+ */
+final class NoValidatorMetrics implements ValidatorMetrics {
+
+    /**
+     * Singleton
+     */
+    final static NoValidatorMetrics INSTANCE = new NoValidatorMetrics();
+
+    private NoValidatorMetrics() {
+        super();
+    }
+
+    @Override
+    public void record(final ValidatorSelector selector,
+                       final long nanos,
+                       final int errorCount) {
+        Objects.requireNonNull(selector, "selector");
+    }
+
+    @Override
+    public boolean isRecording() {
+        return false;
+    }
+
+    @Override
+    public ValidatorMetricsSnapshot snapshot() {
+        return ValidatorMetricsSnapshot.EMPTY;
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return "NoValidatorMetrics";
+    }
+}
@@ -19,9 +19,11 @@ package walkingkooka.validation;
 
 import walkingkooka.Cast;
 import walkingkooka.collect.list.Lists;
+import walkingkooka.tree.expression.ExpressionPurityContext;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.function.IntFunction;
 
 /**
  * A {@link Validator} that adds an error if the value is null.
@@ -51,12 +53,60 @@ final class NonNullValidator<R extends ValidationReference, C extends ValidatorC
 
         return null == value ?
             Lists.of(
-                context.validationError()
-                    .setMessage("Missing " + context.validationReference())
+                context.validationError("Missing " + context.validationReference())
             ) :
             Lists.empty();
     }
 
+    /**
+     * Only null values are invalid, so a context is only created for null values.
+     */
+    @Override
+    public ValidationErrorColumn<R> validateAll(final List<?> values,
+                                                final IntFunction<C> contexts) {
+        Objects.requireNonNull(values, "values");
+        Objects.requireNonNull(contexts, "contexts");
+
+        final ValidationErrorColumnBuilder<R> errors = ValidationErrorColumnBuilder.with(values.size());
+
+        int i = 0;
+        for (final Object value : values) {
+            if (null == value) {
+                errors.add(
+                    i,
+                    this.validate(
+                        null,
+                        contexts.apply(i)
+                    )
+                );
+            }
+            i++;
+        }
+
+        return errors.build();
+    }
+
+    @Override
+    public ValidatorCost cost() {
+        return ValidatorCost.TRIVIAL;
+    }
+
+    /**
+     * The message includes the {@link ValidationReference}, so errors for one reference must never be shared with another.
+     */
+    @Override
+    public boolean isPure(final ExpressionPurityContext context) {
+        return false;
+    }
+
+    @Override
+    public boolean isValid(final Object value,
+                           final C context) {
+        Objects.requireNonNull(context, "context");
+
+        return null != value;
+    }
+
     // Object...........................................................................................................
 
     @Override
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import walkingkooka.reflect.PublicStaticHelper;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A collection of {@link Validator} factory methods that run validators concurrently.
+ * <br>
+ * This is not available to J2CL or GWT, which do not support threads.
+ */
+public final class ParallelValidators implements PublicStaticHelper {
+
+    /**
+     * {@link ValidatorCollectionParallel} using the {@link ForkJoinPool#commonPool()}.
+     */
+    public static <R extends ValidationReference, C extends ValidatorContext<R>> Validator<R, C> collection(final int maxErrors,
+                                                                                                            final List<Validator<R, C>> validators) {
+        return collection(
+            maxErrors,
+            validators,
+            ForkJoinPool.commonPool()
+        );
+    }
+
+    /**
+     * {@link ValidatorCollectionParallel}
+     */
+    public static <R extends ValidationReference, C extends ValidatorContext<R>> Validator<R, C> collection(final int maxErrors,
+                                                                                                            final List<Validator<R, C>> validators,
+                                                                                                            final Executor executor) {
+        return ValidatorCollectionParallel.with(
+            maxErrors,
+            validators,
+            executor
+        );
+    }
+
+    /**
+     * Private constructor to stop creation
+     */
+    private ParallelValidators() {
+        throw new UnsupportedOperationException();
+    }
+}
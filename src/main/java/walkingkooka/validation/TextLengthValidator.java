@@ -17,7 +17,7 @@
 
 package walkingkooka.validation;
 
-import walkingkooka.text.CharSequences;
+import walkingkooka.tree.expression.ExpressionPurityContext;
 
 import java.util.List;
 import java.util.Objects;
@@ -58,41 +58,69 @@ final class TextLengthValidator<R extends ValidationReference, C extends Validat
         final int minLength = this.minLength;
         final int maxLength = this.maxLength;
 
-        ValidationErrorList<R> errors = context.validationErrorList();
-
         final String text = context.convertOrFail(
             value,
             String.class
         );
 
-        if (minLength > 0 && CharSequences.isNullOrEmpty(text)) {
+        // null is treated as empty text, like isValid
+        final int textLength = null == text ?
+            0 :
+            text.length();
+
+        // at most one error is possible, so valid text never allocates
+        ValidationErrorList<R> errors = context.validationErrorList();
+
+        if (textLength < minLength) {
             errors = errors.concat(
-                context.validationError()
-                    .setMessage("Missing required text")
-            );
-        } else {
-            final int textLength = text.length();
-            if (textLength < minLength) {
-                errors = errors.concat(
+                0 == textLength ?
+                    context.validationError(MISSING_REQUIRED_TEXT) :
                     context.validationError()
                         .setMessage("Text length " + textLength + " < " + minLength)
-                );
-            }
-            if (textLength > maxLength) {
-                errors = errors.concat(
-                    context.validationError()
-                        .setMessage("Text length " + textLength + " > " + minLength)
-                );
-            }
+            );
+        } else if (textLength > maxLength) {
+            errors = errors.concat(
+                context.validationError()
+                    .setMessage("Text length " + textLength + " > " + maxLength)
+            );
         }
 
         return errors;
     }
 
+    private final static String MISSING_REQUIRED_TEXT = "Missing required text";
+
     private final int minLength;
 
     private final int maxLength;
 
+    @Override
+    public boolean isValid(final Object value,
+                           final C context) {
+        Objects.requireNonNull(context, "context");
+
+        final String text = context.convertOrFail(
+            value,
+            String.class
+        );
+        final int textLength = null == text ?
+            0 :
+            text.length();
+
+        return textLength >= this.minLength &&
+            textLength <= this.maxLength;
+    }
+
+    @Override
+    public ValidatorCost cost() {
+        return ValidatorCost.CHEAP;
+    }
+
+    @Override
+    public boolean isPure(final ExpressionPurityContext context) {
+        return true;
+    }
+
     // Object...........................................................................................................
 
     @Override
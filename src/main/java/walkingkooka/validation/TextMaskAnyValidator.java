@@ -0,0 +1,256 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import walkingkooka.Cast;
+import walkingkooka.Either;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.text.CharSequences;
+import walkingkooka.text.printer.IndentingPrinter;
+import walkingkooka.text.printer.TreePrintable;
+import walkingkooka.tree.expression.ExpressionPurityContext;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+/**
+ * A {@link Validator} that accepts text matching any of several masks. The masks are compiled into a single
+ * {@link TextMaskValidatorAutomaton}, so the text is scanned once no matter how many masks are present, and a failure
+ * reports a single error listing what any mask expected.
+ * <br>
+ * {@link #matchedMask(CharSequence)} returns the index of the mask that matched.
+ */
+public final class TextMaskAnyValidator<R extends ValidationReference, C extends ValidatorContext<R>> implements Validator<R, C>,
+    Predicate<CharSequence>,
+    TreePrintable {
+
+    static <R extends ValidationReference, C extends ValidatorContext<R>> TextMaskAnyValidator<R, C> parse(final List<String> masks) {
+        Objects.requireNonNull(masks, "masks");
+
+        final List<TextMaskValidator<R, C>> validators = Lists.array();
+        for (final String mask : masks) {
+            validators.add(
+                TextMaskValidatorCache.INSTANCE.parse(mask)
+            );
+        }
+
+        if (validators.isEmpty()) {
+            throw new IllegalArgumentException("Empty masks");
+        }
+
+        return new TextMaskAnyValidator<>(
+            Lists.immutable(validators)
+        );
+    }
+
+    private TextMaskAnyValidator(final List<TextMaskValidator<R, C>> validators) {
+        final List<List<TextMaskValidatorComponent<R>>> masks = Lists.array();
+        for (final TextMaskValidator<R, C> validator : validators) {
+            masks.add(
+                validator.components()
+            );
+        }
+
+        this.validators = validators;
+        this.automaton = TextMaskValidatorAutomatonCompiler.compileAny(masks);
+    }
+
+    @Override
+    public List<ValidationError<R>> validate(final Object value,
+                                             final C context) {
+        final Either<String, String> text = value instanceof CharSequence ?
+            Either.left(
+                value.toString()
+            ) :
+            context.convert(
+                value,
+                String.class
+            );
+
+        final List<ValidationError<R>> errors;
+        if (text.isLeft()) {
+            errors = this.validateText(
+                CharSequences.nullToEmpty(
+                    text.leftValue()
+                ).toString(),
+                context
+            );
+        } else {
+            errors = ValidationErrorList.<R>empty()
+                .concat(
+                    context.validationError(TextMaskValidator.EXPECTED_TEXT)
+                );
+        }
+
+        return errors;
+    }
+
+    private List<ValidationError<R>> validateText(final String text,
+                                                  final C context) {
+        final TextMaskValidatorAutomaton automaton = this.automaton;
+        final long[] current = automaton.start();
+        final int offset = automaton.scan(
+            text,
+            current
+        );
+
+        return text.length() == offset && -1 != automaton.matchedMask(current) ?
+            context.validationErrorList() :
+            context.validationErrorList()
+                .concat(
+                    context.validationError()
+                        .setMessage(
+                            automaton.failureMessageAny(
+                                text,
+                                offset,
+                                current
+                            )
+                        )
+                );
+    }
+
+    @Override
+    public boolean isValid(final Object value,
+                           final C context) {
+        Objects.requireNonNull(context, "context");
+
+        final boolean valid;
+        if (value instanceof CharSequence) {
+            valid = this.test((CharSequence) value);
+        } else {
+            final Either<String, String> text = context.convert(
+                value,
+                String.class
+            );
+            valid = text.isLeft() &&
+                this.test(
+                    text.leftValue()
+                );
+        }
+
+        return valid;
+    }
+
+    /**
+     * Tests if the text matches any mask, without a {@link ValidatorContext} or building any {@link ValidationError}.
+     * A null text is tested as empty text.
+     */
+    @Override
+    public boolean test(final CharSequence text) {
+        return -1 != this.matchedMask(
+            CharSequences.nullToEmpty(text)
+        );
+    }
+
+    /**
+     * Returns the index of the first mask that matches the entire text, or -1 when no mask matches, allowing callers to
+     * learn which of several formats was entered. A null text is tested as empty text.
+     */
+    public int matchedMask(final CharSequence text) {
+        return this.automaton.matchedMask(
+            CharSequences.nullToEmpty(text)
+        );
+    }
+
+    /**
+     * A {@link TextMaskValidator} for each mask.
+     */
+    private final List<TextMaskValidator<R, C>> validators;
+
+    /**
+     * All masks compiled together.
+     */
+    private final TextMaskValidatorAutomaton automaton;
+
+    /**
+     * Text values that match are tested without creating a context.
+     */
+    @Override
+    public ValidationErrorColumn<R> validateAll(final List<?> values,
+                                                final IntFunction<C> contexts) {
+        Objects.requireNonNull(values, "values");
+        Objects.requireNonNull(contexts, "contexts");
+
+        final ValidationErrorColumnBuilder<R> errors = ValidationErrorColumnBuilder.with(values.size());
+
+        int i = 0;
+        for (final Object value : values) {
+            if (false == (value instanceof CharSequence && this.test((CharSequence) value))) {
+                errors.add(
+                    i,
+                    this.validate(
+                        value,
+                        contexts.apply(i)
+                    )
+                );
+            }
+            i++;
+        }
+
+        return errors.build();
+    }
+
+    @Override
+    public ValidatorCost cost() {
+        return ValidatorCost.MODERATE;
+    }
+
+    @Override
+    public boolean isPure(final ExpressionPurityContext context) {
+        return true;
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return this.validators.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            other instanceof TextMaskAnyValidator &&
+                this.equals0(Cast.to(other));
+    }
+
+    private boolean equals0(final TextMaskAnyValidator<?, ?> other) {
+        return this.validators.equals(other.validators);
+    }
+
+    @Override
+    public String toString() {
+        return this.validators.toString();
+    }
+
+    // TreePrintable....................................................................................................
+
+    @Override
+    public void printTree(final IndentingPrinter printer) {
+        printer.println(this.getClass().getSimpleName());
+        printer.indent();
+        {
+            for (final TextMaskValidator<R, C> validator : this.validators) {
+                validator.printTree(printer);
+            }
+        }
+        printer.outdent();
+    }
+}
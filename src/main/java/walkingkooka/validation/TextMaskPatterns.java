@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import walkingkooka.reflect.PublicStaticHelper;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Translates text masks to and from {@link Pattern}. Masks test each char, so a translated {@link Pattern} matches the
+ * same text provided it has no supplementary characters.
+ * <br>
+ * This is not available to J2CL or GWT, which do not support {@link Pattern}.
+ */
+public final class TextMaskPatterns implements PublicStaticHelper {
+
+    /**
+     * Returns a {@link Pattern} that matches the same text as the given mask.
+     */
+    public static Pattern pattern(final String mask) {
+        return Pattern.compile(
+            TextMaskValidatorCache.INSTANCE.parse(mask)
+                .regex()
+        );
+    }
+
+    /**
+     * Returns a mask that matches the same text as the given {@link Pattern}, or {@link Optional#empty()} when the
+     * {@link Pattern} uses a feature that masks do not support.
+     */
+    public static Optional<String> mask(final Pattern pattern) {
+        Objects.requireNonNull(pattern, "pattern");
+
+        final int flags = pattern.flags();
+
+        return 0 != (flags & ~Pattern.DOTALL) ?
+            Optional.empty() :
+            TextMaskRegexParser.parse(
+                pattern.pattern(),
+                0 != (flags & Pattern.DOTALL)
+            );
+    }
+
+    /**
+     * Private constructor to stop creation
+     */
+    private TextMaskPatterns() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,504 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import walkingkooka.collect.list.Lists;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Translates a {@link java.util.regex.Pattern} regular expression into an equivalent mask where possible. Only
+ * literal characters, the character classes produced by {@link TextMaskValidator#regex()}, non capturing groups and the
+ * <code>?</code>, <code>*</code>, <code>+</code>, <code>{m}</code> and <code>{m,n}</code> quantifiers are supported,
+ * anything else returns {@link Optional#empty()}.
+ */
+final class TextMaskRegexParser {
+
+    static Optional<String> parse(final String regex,
+                                  final boolean dotAll) {
+        final TextMaskRegexParser parser = new TextMaskRegexParser(
+            regex,
+            dotAll
+        );
+
+        final List<Item> items = parser.sequence();
+
+        return null == items || parser.position < regex.length() || items.isEmpty() ?
+            Optional.empty() :
+            Optional.of(
+                mask(items)
+            );
+    }
+
+    private TextMaskRegexParser(final String regex,
+                                final boolean dotAll) {
+        this.regex = regex;
+        this.dotAll = dotAll;
+    }
+
+    /**
+     * Parses items until the end of the regex or a closing parenthesis, returning null if the regex is not supported.
+     */
+    private List<Item> sequence() {
+        final String regex = this.regex;
+        final List<Item> items = Lists.array();
+
+        while (this.position < regex.length() && ')' != regex.charAt(this.position)) {
+            final List<Item> atom = this.atom();
+            if (null == atom) {
+                return null;
+            }
+
+            final List<Item> quantified = this.quantifier(atom);
+            if (null == quantified) {
+                return null;
+            }
+            items.addAll(quantified);
+        }
+
+        return items;
+    }
+
+    /**
+     * Parses a group, character class, escape, dot or literal character.
+     */
+    private List<Item> atom() {
+        final String regex = this.regex;
+        final char c = regex.charAt(this.position);
+
+        List<Item> atom = null;
+
+        switch (c) {
+            case '(':
+                if (regex.startsWith("(?:", this.position)) {
+                    this.position += 3;
+                    atom = this.sequence();
+                    if (null != atom) {
+                        if (this.position < regex.length()) {
+                            this.position++; // skip )
+                        } else {
+                            atom = null;
+                        }
+                    }
+                }
+                break;
+            case '[':
+                atom = this.characterClass();
+                break;
+            case '.':
+                if (this.dotAll) {
+                    this.position++;
+                    atom = item(
+                        Item.CLASS,
+                        String.valueOf(TextMaskValidatorComponent.ANY)
+                    );
+                }
+                break;
+            case '\\':
+                atom = this.escape(false);
+                break;
+            case ')':
+            case ']':
+            case '{':
+            case '}':
+            case '?':
+            case '*':
+            case '+':
+            case '|':
+            case '^':
+            case '$':
+                break;
+            default:
+                this.position++;
+                atom = literal(c);
+                break;
+        }
+
+        return atom;
+    }
+
+    /**
+     * Parses a character class holding a single class or character, which may be negated.
+     */
+    private List<Item> characterClass() {
+        final String regex = this.regex;
+
+        this.position++; // skip [
+        final boolean not = regex.startsWith("^", this.position);
+        if (not) {
+            this.position++;
+        }
+
+        List<Item> atom = null;
+
+        if (this.position < regex.length()) {
+            final char c = regex.charAt(this.position);
+
+            switch (c) {
+                case '\\':
+                    atom = this.escape(true);
+                    break;
+                case ']':
+                case '[':
+                case '^':
+                case '-':
+                case '&':
+                    break;
+                default:
+                    this.position++;
+                    atom = literal(c);
+                    break;
+            }
+        }
+
+        if (null != atom && regex.startsWith("]", this.position)) {
+            this.position++;
+            if (not) {
+                atom = not(atom.get(0));
+            }
+        } else {
+            atom = null;
+        }
+
+        return atom;
+    }
+
+    /**
+     * Parses an escaped character or one of the character classes of the mask components.
+     */
+    private List<Item> escape(final boolean insideClass) {
+        final String regex = this.regex;
+
+        List<Item> atom = null;
+
+        if (regex.startsWith(ANY, this.position)) {
+            if (insideClass) {
+                this.position += ANY.length();
+                atom = item(
+                    Item.CLASS,
+                    String.valueOf(TextMaskValidatorComponent.ANY)
+                );
+            }
+        } else if (regex.startsWith(DIGIT, this.position)) {
+            this.position += DIGIT.length();
+            atom = item(
+                Item.CLASS,
+                String.valueOf(TextMaskValidatorComponent.DIGIT)
+            );
+        } else if (regex.startsWith(LETTER, this.position)) {
+            this.position += LETTER.length();
+            atom = item(
+                Item.CLASS,
+                String.valueOf(TextMaskValidatorComponent.LETTER)
+            );
+        } else if (regex.startsWith(LOWER_CASE_LETTER, this.position)) {
+            this.position += LOWER_CASE_LETTER.length();
+            atom = item(
+                Item.CLASS,
+                String.valueOf(TextMaskValidatorComponent.LOWER_CASE_LETTER)
+            );
+        } else if (regex.startsWith(UPPER_CASE_LETTER, this.position)) {
+            this.position += UPPER_CASE_LETTER.length();
+            atom = item(
+                Item.CLASS,
+                String.valueOf(TextMaskValidatorComponent.UPPER_CASE_LETTER)
+            );
+        } else if (regex.startsWith("\\x{", this.position)) {
+            final int close = regex.indexOf('}', this.position);
+            if (-1 != close) {
+                try {
+                    final int c = Integer.parseInt(
+                        regex.substring(this.position + 3, close),
+                        16
+                    );
+                    if (c <= Character.MAX_VALUE) {
+                        this.position = close + 1;
+                        atom = literal((char) c);
+                    }
+                } catch (final NumberFormatException unsupported) {
+                    // atom remains null
+                }
+            }
+        } else if (this.position + 1 < regex.length()) {
+            final char c = regex.charAt(this.position + 1);
+
+            // escaping a character that is not a letter or digit always matches that character
+            if (false == Character.isLetterOrDigit(c)) {
+                this.position += 2;
+                atom = literal(c);
+            }
+        }
+
+        return atom;
+    }
+
+    private final static String ANY = "\\x{0}-\\x{ffff}";
+    private final static String DIGIT = "\\p{javaDigit}";
+    private final static String LETTER = "\\p{javaLetter}";
+    private final static String LOWER_CASE_LETTER = "\\p{javaLowerCase}";
+    private final static String UPPER_CASE_LETTER = "\\p{javaUpperCase}";
+
+    /**
+     * Applies any quantifier following an atom, which must then translate into a single mask component.
+     */
+    private List<Item> quantifier(final List<Item> atom) {
+        final String regex = this.regex;
+
+        List<Item> quantified = atom;
+
+        if (this.position < regex.length()) {
+            final char c = regex.charAt(this.position);
+
+            String maskQuantifier = null;
+            boolean oneOrMore = false;
+
+            switch (c) {
+                case '?':
+                    maskQuantifier = String.valueOf(TextMaskValidatorComponent.OPTIONAL);
+                    this.position++;
+                    break;
+                case '*':
+                    maskQuantifier = String.valueOf(TextMaskValidatorComponent.REPEATING);
+                    this.position++;
+                    break;
+                case '+':
+                    maskQuantifier = String.valueOf(TextMaskValidatorComponent.REPEATING);
+                    oneOrMore = true;
+                    this.position++;
+                    break;
+                case '{':
+                    maskQuantifier = this.count();
+                    if (null == maskQuantifier) {
+                        return null;
+                    }
+                    break;
+                default:
+                    break;
+            }
+
+            if (null != maskQuantifier) {
+                // lazy and possessive quantifiers are not supported
+                if (this.position < regex.length() && ('?' == regex.charAt(this.position) || '+' == regex.charAt(this.position))) {
+                    return null;
+                }
+
+                final String component = component(atom);
+                if (null == component) {
+                    return null;
+                }
+
+                quantified = item(
+                    Item.QUANTIFIED,
+                    oneOrMore ?
+                        component + component + maskQuantifier :
+                        component + maskQuantifier
+                );
+            }
+        }
+
+        return quantified;
+    }
+
+    /**
+     * Parses <code>{m}</code> or <code>{m,n}</code> returning the equivalent mask count or null.
+     */
+    private String count() {
+        final String regex = this.regex;
+        final int close = regex.indexOf('}', this.position);
+
+        String count = null;
+
+        if (-1 != close) {
+            final String text = regex.substring(this.position + 1, close);
+
+            try {
+                TextMaskValidatorComponentCount.parse(
+                    TextMaskValidatorComponent.any(),
+                    text
+                );
+                count = TextMaskValidatorComponent.COUNT + text + TextMaskValidatorComponent.COUNT_CLOSE;
+                this.position = close + 1;
+            } catch (final IllegalArgumentException unsupported) {
+                // count remains null
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Returns the single mask component equivalent to the given items, or null when there is more than one.
+     */
+    private static String component(final List<Item> items) {
+        String component = null;
+
+        final int count = items.size();
+        if (1 == count && Item.QUANTIFIED != items.get(0).kind) {
+            component = mask(items);
+        } else if (count > 1) {
+            final int kind = items.get(0).kind;
+
+            if (Item.LITERAL == kind || Item.NOT_LITERAL == kind) {
+                boolean same = true;
+                for (final Item item : items) {
+                    same &= kind == item.kind;
+                }
+                if (same) {
+                    component = mask(items);
+                }
+            }
+        }
+
+        return component;
+    }
+
+    /**
+     * Joins the mask of each item, with consecutive literal characters becoming a text literal.
+     */
+    private static String mask(final List<Item> items) {
+        final StringBuilder mask = new StringBuilder();
+        final int count = items.size();
+
+        int i = 0;
+        while (i < count) {
+            final Item item = items.get(i);
+            final int kind = item.kind;
+
+            int end = i + 1;
+            if (Item.LITERAL == kind || Item.NOT_LITERAL == kind) {
+                while (end < count && kind == items.get(end).kind) {
+                    end++;
+                }
+            }
+
+            if (end - i > 1 || Item.NOT_LITERAL == kind) {
+                if (Item.NOT_LITERAL == kind) {
+                    mask.append(TextMaskValidatorComponent.NOT);
+                }
+                mask.append('"');
+                for (int j = i; j < end; j++) {
+                    final char c = items.get(j).character;
+                    if ('"' == c || '\\' == c) {
+                        mask.append('\\');
+                    }
+                    mask.append(c);
+                }
+                mask.append('"');
+            } else {
+                mask.append(item.mask);
+            }
+
+            i = end;
+        }
+
+        return mask.toString();
+    }
+
+    private static List<Item> literal(final char c) {
+        final String mask;
+
+        switch (c) {
+            case TextMaskValidatorComponent.DASH:
+            case TextMaskValidatorComponent.SLASH:
+            case TextMaskValidatorComponent.SPACE:
+                mask = String.valueOf(c);
+                break;
+            default:
+                mask = "\\" + c;
+                break;
+        }
+
+        return Lists.of(
+            new Item(
+                Item.LITERAL,
+                mask,
+                c
+            )
+        );
+    }
+
+    private static List<Item> not(final Item item) {
+        return Item.LITERAL == item.kind ?
+            Lists.of(
+                new Item(
+                    Item.NOT_LITERAL,
+                    null,
+                    item.character
+                )
+            ) :
+            item(
+                Item.CLASS,
+                TextMaskValidatorComponent.NOT + item.mask
+            );
+    }
+
+    private static List<Item> item(final int kind,
+                                   final String mask) {
+        return Lists.of(
+            new Item(
+                kind,
+                mask,
+                (char) 0
+            )
+        );
+    }
+
+    private final String regex;
+
+    private final boolean dotAll;
+
+    private int position;
+
+    /**
+     * A part of the mask, literal characters are joined into text literals when the mask is built.
+     */
+    private static final class Item {
+
+        final static int CLASS = 1;
+        final static int LITERAL = 2;
+        final static int NOT_LITERAL = 3;
+        final static int QUANTIFIED = 4;
+
+        Item(final int kind,
+             final String mask,
+             final char character) {
+            this.kind = kind;
+            this.mask = mask;
+            this.character = character;
+        }
+
+        final int kind;
+
+        final String mask;
+
+        final char character;
+
+        @Override
+        public String toString() {
+            return null != this.mask ?
+                this.mask :
+                String.valueOf(this.character);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return this.regex;
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import walkingkooka.Cast;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * An immutable snapshot of matching text against a text mask, that may be resumed with more text. Appending characters
+ * only matches the new characters, so validating text as it is typed costs the number of characters typed rather than
+ * the length of the entire text.
+ * <pre>
+ * TextMaskState state = TextMaskState.parse("999-9999");
+ * state = state.append("12"); // VALID_PREFIX
+ * state = state.append("3-4567"); // COMPLETE
+ * state = state.append("!"); // INVALID at 8
+ * </pre>
+ */
+public final class TextMaskState {
+
+    /**
+     * Returns the state before any text for the given mask.
+     */
+    public static TextMaskState parse(final String mask) {
+        return TextMaskValidatorCache.INSTANCE.parse(mask)
+            .state();
+    }
+
+    static TextMaskState start(final TextMaskValidatorAutomaton automaton) {
+        final long[] bits = automaton.start();
+
+        return new TextMaskState(
+            automaton,
+            bits,
+            0,
+            status(
+                automaton,
+                bits
+            )
+        );
+    }
+
+    private static TextMaskStatus status(final TextMaskValidatorAutomaton automaton,
+                                         final long[] bits) {
+        return -1 != automaton.matchedMask(bits) ?
+            TextMaskStatus.COMPLETE :
+            TextMaskStatus.VALID_PREFIX;
+    }
+
+    private TextMaskState(final TextMaskValidatorAutomaton automaton,
+                          final long[] bits,
+                          final int offset,
+                          final TextMaskStatus status) {
+        this.automaton = automaton;
+        this.bits = bits;
+        this.offset = offset;
+        this.status = status;
+    }
+
+    /**
+     * Matches the given characters following the text already matched, returning a new state. An {@link TextMaskStatus#INVALID}
+     * state ignores any further text.
+     */
+    public TextMaskState append(final CharSequence text) {
+        Objects.requireNonNull(text, "text");
+
+        final TextMaskState state;
+
+        if (TextMaskStatus.INVALID == this.status || 0 == text.length()) {
+            state = this;
+        } else {
+            final TextMaskValidatorAutomaton automaton = this.automaton;
+            final long[] bits = this.bits.clone();
+            final int matched = automaton.scan(
+                text,
+                bits
+            );
+
+            state = new TextMaskState(
+                automaton,
+                bits,
+                this.offset + matched,
+                matched < text.length() ?
+                    TextMaskStatus.INVALID :
+                    status(
+                        automaton,
+                        bits
+                    )
+            );
+        }
+
+        return state;
+    }
+
+    /**
+     * When {@link TextMaskStatus#INVALID} the offset of the invalid character, otherwise the number of characters matched.
+     */
+    public int offset() {
+        return this.offset;
+    }
+
+    private final int offset;
+
+    public TextMaskStatus status() {
+        return this.status;
+    }
+
+    private final TextMaskStatus status;
+
+    private final TextMaskValidatorAutomaton automaton;
+
+    /**
+     * The steps that may match the next character and the end of mask, this is never modified.
+     */
+    private final long[] bits;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            this.offset,
+            this.status
+        );
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            other instanceof TextMaskState &&
+                this.equals0(Cast.to(other));
+    }
+
+    private boolean equals0(final TextMaskState other) {
+        return this.automaton == other.automaton &&
+            this.offset == other.offset &&
+            this.status == other.status &&
+            Arrays.equals(this.bits, other.bits);
+    }
+
+    @Override
+    public String toString() {
+        return this.status + " " + this.offset;
+    }
+}
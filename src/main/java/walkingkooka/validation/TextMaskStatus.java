@@ -0,0 +1,39 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+/**
+ * The status of a {@link TextMaskState}.
+ */
+public enum TextMaskStatus {
+
+    /**
+     * The text so far matches the entire mask, more text may still be accepted.
+     */
+    COMPLETE,
+
+    /**
+     * The text so far is the start of text that matches the mask, more text is required.
+     */
+    VALID_PREFIX,
+
+    /**
+     * A character does not match the mask, more text will not change this.
+     */
+    INVALID
+}
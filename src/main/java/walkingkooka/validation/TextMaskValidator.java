@@ -23,9 +23,12 @@ import walkingkooka.text.CharSequences;
 import walkingkooka.text.cursor.TextCursors;
 import walkingkooka.text.printer.IndentingPrinter;
 import walkingkooka.text.printer.TreePrintable;
+import walkingkooka.tree.expression.ExpressionPurityContext;
 
-import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
 
 /**
  * A {@link Validator} that supports a mask using the following characters.
@@ -41,9 +44,16 @@ import java.util.List;
  * <li><code>U</code> Match any upper case letter</li>
  * <li><code>+</code> Makes the preceding mask component optional</li>
  * <li><code>&star;</code> Makes the preceding mask component repeat while true</li>
+ * <li><code>{m}</code> Makes the preceding mask component repeat exactly m times</li>
+ * <li><code>{m,n}</code> Makes the preceding mask component repeat between m and n times</li>
  * </ul>
+ * Optional and repeating components do not match greedily, all alternatives are tried together, so <code>9*9</code>
+ * accepts <code>123</code>. The components are compiled into a {@link TextMaskValidatorAutomaton}, which tracks every
+ * component that may match at the current offset, equivalent to memoizing each component and offset pair. Matching
+ * never backtracks, and costs at most the number of components multiplied by the text length.
  */
 final class TextMaskValidator<R extends ValidationReference, C extends ValidatorContext<R>> implements Validator<R, C>,
+    Predicate<CharSequence>,
     TreePrintable {
 
     static <R extends ValidationReference, C extends ValidatorContext<R>> TextMaskValidator<R, C> parse(final String mask) {
@@ -61,16 +71,21 @@ final class TextMaskValidator<R extends ValidationReference, C extends Validator
     TextMaskValidator(final List<TextMaskValidatorComponent<R>> components,
                       final String mask) {
         this.components = components;
+        this.automaton = TextMaskValidatorAutomatonCompiler.compile(components);
         this.mask = mask;
     }
 
     @Override
     public List<ValidationError<R>> validate(final Object value,
                                              final C context) {
-        final Either<String, String> text = context.convert(
-            value,
-            String.class
-        );
+        final Either<String, String> text = value instanceof CharSequence ?
+            Either.left(
+                value.toString()
+            ) :
+            context.convert(
+                value,
+                String.class
+            );
 
         final List<ValidationError<R>> errors;
         if (text.isLeft()) {
@@ -83,25 +98,92 @@ final class TextMaskValidator<R extends ValidationReference, C extends Validator
         } else {
             errors = ValidationErrorList.<R>empty()
                 .concat(
-                    context.validationError()
-                        .setMessage("Expected text")
+                    context.validationError(EXPECTED_TEXT)
                 );
         }
 
         return errors;
     }
 
+    final static String EXPECTED_TEXT = "Expected text";
+
+    @Override
+    public boolean isValid(final Object value,
+                           final C context) {
+        Objects.requireNonNull(context, "context");
+
+        final boolean valid;
+        if (value instanceof CharSequence) {
+            valid = this.test((CharSequence) value);
+        } else {
+            final Either<String, String> text = context.convert(
+                value,
+                String.class
+            );
+            valid = text.isLeft() &&
+                this.test(
+                    text.leftValue()
+                );
+        }
+
+        return valid;
+    }
+
+    /**
+     * Tests if the text matches the mask, without a {@link ValidatorContext} or building any {@link ValidationError}.
+     * A null text is tested as empty text.
+     */
+    @Override
+    public boolean test(final CharSequence text) {
+        return this.automaton.test(
+            CharSequences.nullToEmpty(text)
+        );
+    }
+
     private List<ValidationError<R>> validateText(final String text,
                                                   final C context) {
-        final Iterator<TextMaskValidatorComponent<R>> components = this.components.iterator();
+        final TextMaskValidatorAutomaton automaton = this.automaton;
+        final long failure = automaton.match(text);
 
-        return components.next()
-            .tryMatch(
-                TextCursors.charSequence(text),
-                false, // invert no
-                components,
-                context
+        return TextMaskValidatorAutomaton.MATCH == failure ?
+            context.validationErrorList() :
+            context.validationErrorList()
+                .concat(
+                    context.validationError()
+                        .setMessage(
+                            automaton.failureMessage(
+                                text,
+                                failure
+                            )
+                        )
+                );
+    }
+
+    /**
+     * Returns the {@link TextMaskState} before any text, which may be resumed with text as it is typed.
+     */
+    TextMaskState state() {
+        return TextMaskState.start(this.automaton);
+    }
+
+    /**
+     * Returns an equivalent {@link java.util.regex.Pattern} regular expression.
+     */
+    String regex() {
+        final StringBuilder regex = new StringBuilder();
+
+        for (final TextMaskValidatorComponent<R> component : this.components) {
+            component.regex(
+                regex,
+                false // not
             );
+        }
+
+        return regex.toString();
+    }
+
+    List<TextMaskValidatorComponent<R>> components() {
+        return this.components;
     }
 
     /**
@@ -109,6 +191,49 @@ final class TextMaskValidator<R extends ValidationReference, C extends Validator
      */
     private final List<TextMaskValidatorComponent<R>> components;
 
+    /**
+     * The compiled {@link #components}, which performs the actual matching.
+     */
+    private final TextMaskValidatorAutomaton automaton;
+
+    /**
+     * Text values that match are tested without creating a context.
+     */
+    @Override
+    public ValidationErrorColumn<R> validateAll(final List<?> values,
+                                                final IntFunction<C> contexts) {
+        Objects.requireNonNull(values, "values");
+        Objects.requireNonNull(contexts, "contexts");
+
+        final ValidationErrorColumnBuilder<R> errors = ValidationErrorColumnBuilder.with(values.size());
+
+        int i = 0;
+        for (final Object value : values) {
+            if (false == (value instanceof CharSequence && this.test((CharSequence) value))) {
+                errors.add(
+                    i,
+                    this.validate(
+                        value,
+                        contexts.apply(i)
+                    )
+                );
+            }
+            i++;
+        }
+
+        return errors.build();
+    }
+
+    @Override
+    public ValidatorCost cost() {
+        return ValidatorCost.MODERATE;
+    }
+
+    @Override
+    public boolean isPure(final ExpressionPurityContext context) {
+        return true;
+    }
+
     // Object...........................................................................................................
 
     @Override
@@ -0,0 +1,797 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import walkingkooka.collect.list.Lists;
+import walkingkooka.text.CharSequences;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A compiled form of the {@link TextMaskValidatorComponent components} of a {@link TextMaskValidator}.
+ * Each character test of the mask is a step, and the state of the automaton is the set of steps that may match the
+ * next character, held as bits within one or more longs. A table holds for each ASCII character the steps that accept it,
+ * so that matching a character is a lookup followed by the union of the follow steps of each accepting step.
+ * <br>
+ * Masks with fewer than 64 steps match text without allocating, a {@link ValidationError} message is only built by
+ * {@link #failureMessage(CharSequence, long)} when matching fails.
+ */
+final class TextMaskValidatorAutomaton {
+
+    /**
+     * Returned by {@link #match(CharSequence)} when the entire text matched.
+     */
+    final static long MATCH = -1;
+
+    /**
+     * The step of a failure where the text continued after a complete match.
+     */
+    final static int NO_STEP = -1;
+
+    /**
+     * Characters below this value use the lookup table.
+     */
+    private final static int ASCII = 128;
+
+    /**
+     * The number of longs required to hold the given number of step and end of mask bits.
+     */
+    static int words(final int bitCount) {
+        return ((bitCount - 1) >> 6) + 1;
+    }
+
+    static TextMaskValidatorAutomaton with(final int maskCount,
+                                           final int minLength,
+                                           final int maxLength,
+                                           final long[] start,
+                                           final long[] follow,
+                                           final TextMaskValidatorComponent<?>[] components,
+                                           final TextMaskValidatorComponentCharacter<?>[] characters,
+                                           final char[] literals,
+                                           final boolean[] nots,
+                                           final int[][] countedGroups) {
+        return new TextMaskValidatorAutomaton(
+            maskCount,
+            minLength,
+            maxLength,
+            start,
+            follow,
+            components,
+            characters,
+            literals,
+            nots,
+            countedGroups
+        );
+    }
+
+    private TextMaskValidatorAutomaton(final int maskCount,
+                                       final int minLength,
+                                       final int maxLength,
+                                       final long[] start,
+                                       final long[] follow,
+                                       final TextMaskValidatorComponent<?>[] components,
+                                       final TextMaskValidatorComponentCharacter<?>[] characters,
+                                       final char[] literals,
+                                       final boolean[] nots,
+                                       final int[][] countedGroups) {
+        final int stepCount = components.length;
+        final int words = words(stepCount + maskCount);
+
+        this.maskCount = maskCount;
+        this.minLength = minLength;
+        this.maxLength = maxLength;
+        this.stepCount = stepCount;
+        this.words = words;
+        this.start = start;
+        this.follow = follow;
+        this.components = components;
+        this.characters = characters;
+        this.literals = literals;
+        this.nots = nots;
+
+        final long[] ascii = new long[ASCII * words];
+        for (int c = 0; c < ASCII; c++) {
+            for (int step = 0; step < stepCount; step++) {
+                if (this.isMatch(step, (char) c)) {
+                    ascii[c * words + (step >> 6)] |= 1L << (step & 63);
+                }
+            }
+        }
+        this.ascii = ascii;
+
+        // messages are only built after a failure, but the expected text of each step is shared by all failures
+        final String[] invalidCharacterExpected = new String[stepCount];
+        final String[] endOfTextExpected = new String[stepCount];
+
+        for (int step = 0; step < stepCount; step++) {
+            final TextMaskValidatorComponent<?> component = components[step];
+            final boolean sameComponent = step > 0 && component == components[step - 1];
+
+            invalidCharacterExpected[step] = this.expected(step)
+                .toString();
+            endOfTextExpected[step] = sameComponent ?
+                endOfTextExpected[step - 1] :
+                component.expected()
+                    .toString();
+        }
+
+        this.invalidCharacterExpected = invalidCharacterExpected;
+        this.endOfTextExpected = endOfTextExpected;
+
+        // the counts of each step of a counted group follow the step and end of mask bits
+        final int[] countedGroupOfStep = new int[stepCount];
+        Arrays.fill(countedGroupOfStep, NOT_COUNTED);
+
+        final int[] countOffsets = new int[stepCount];
+        final int countedGroupCount = countedGroups.length;
+        final int[] countWords = new int[countedGroupCount];
+
+        int stateLength = words;
+
+        for (int g = 0; g < countedGroupCount; g++) {
+            final int[] countedGroup = countedGroups[g];
+            final int countWordsOfGroup = (countedGroup[COUNTED_MAX] >> 6) + 1;
+
+            countWords[g] = countWordsOfGroup;
+
+            for (int step = countedGroup[COUNTED_FIRST]; step <= countedGroup[COUNTED_LAST]; step++) {
+                countedGroupOfStep[step] = g;
+                countOffsets[step] = stateLength;
+                stateLength += countWordsOfGroup;
+            }
+        }
+
+        this.countedGroups = countedGroups;
+        this.countedGroupOfStep = countedGroupOfStep;
+        this.countOffsets = countOffsets;
+        this.countWords = countWords;
+        this.stateLength = stateLength;
+    }
+
+    private final static int NOT_COUNTED = -1;
+
+    final static int COUNTED_FIRST = 0;
+    final static int COUNTED_LAST = 1;
+    final static int COUNTED_MIN = 2;
+    final static int COUNTED_MAX = 3;
+
+    /**
+     * Tests if the entire text matches, text shorter than {@link #minLength()} or longer than {@link #maxLength()} is
+     * rejected without matching any character.
+     * <br>
+     * This only supports automatons compiled from a single mask.
+     */
+    boolean test(final CharSequence text) {
+        final int length = text.length();
+
+        return length >= this.minLength &&
+            length <= this.maxLength &&
+            MATCH == this.match(text);
+    }
+
+    /**
+     * Matches the entire text, returning {@link #MATCH} or a failure holding the offset and the step that failed.
+     * <br>
+     * This only supports automatons compiled from a single mask.
+     */
+    long match(final CharSequence text) {
+        return 1 == this.words && 0 == this.countedGroups.length ?
+            this.matchWord(text) :
+            this.matchWords(text);
+    }
+
+    private long matchWord(final CharSequence text) {
+        final long[] follow = this.follow;
+        final long[] ascii = this.ascii;
+        final int length = text.length();
+
+        long current = this.start[0];
+
+        for (int i = 0; i < length; i++) {
+            final char c = text.charAt(i);
+
+            long matched = current &
+                (c < ASCII ?
+                    ascii[c] :
+                    this.nonAscii(current, 0, c));
+            long next = 0;
+
+            while (0 != matched) {
+                next |= follow[Long.numberOfTrailingZeros(matched)];
+                matched &= matched - 1;
+            }
+
+            if (0 == next) {
+                return this.failure(
+                    i,
+                    current,
+                    0
+                );
+            }
+
+            current = next;
+        }
+
+        return this.isEnd(current, 0) ?
+            MATCH :
+            this.failure(
+                length,
+                current,
+                0
+            );
+    }
+
+    private long matchWords(final CharSequence text) {
+        final int words = this.words;
+        final long[] current = this.start();
+        final int offset = this.scan(
+            text,
+            current
+        );
+
+        return text.length() == offset && this.isEnd(current[words - 1], words - 1) ?
+            MATCH :
+            this.failureWords(
+                offset,
+                current
+            );
+    }
+
+    /**
+     * Returns a copy of the start steps, ready for {@link #scan(CharSequence, long[])}. The step and end of mask bits
+     * are followed by the counts of any counted groups.
+     */
+    long[] start() {
+        final long[] start = Arrays.copyOf(
+            this.start,
+            this.stateLength
+        );
+        this.startCounting(start);
+        return start;
+    }
+
+    /**
+     * Matches characters of the text, leaving the active steps and ends of masks within the given bits. The offset of
+     * the character that no step accepted is returned, or the text length when every character was accepted.
+     */
+    int scan(final CharSequence text,
+             final long[] current) {
+        final int words = this.words;
+        final int stateLength = this.stateLength;
+        final long[] follow = this.follow;
+        final long[] ascii = this.ascii;
+        final int[] countedGroupOfStep = this.countedGroupOfStep;
+        final boolean counting = 0 != this.countedGroups.length;
+        final int length = text.length();
+
+        long[] bits = current;
+        long[] next = new long[stateLength];
+
+        int i = 0;
+        while (i < length) {
+            final char c = text.charAt(i);
+            boolean matchedAny = false;
+
+            Arrays.fill(next, 0);
+
+            for (int w = 0; w < words; w++) {
+                final long word = bits[w];
+                long matched = word &
+                    (c < ASCII ?
+                        ascii[c * words + w] :
+                        this.nonAscii(word, w, c));
+
+                while (0 != matched) {
+                    final int step = (w << 6) + Long.numberOfTrailingZeros(matched);
+                    final int countedGroup = counting ?
+                        countedGroupOfStep[step] :
+                        NOT_COUNTED;
+
+                    if (NOT_COUNTED == countedGroup) {
+                        final int offset = step * words;
+                        for (int x = 0; x < words; x++) {
+                            next[x] |= follow[offset + x];
+                        }
+                    } else {
+                        this.count(
+                            step,
+                            countedGroup,
+                            bits,
+                            next
+                        );
+                    }
+                    matched &= matched - 1;
+                    matchedAny = true;
+                }
+            }
+
+            if (false == matchedAny) {
+                break;
+            }
+
+            if (counting) {
+                this.startCounting(next);
+            }
+
+            final long[] swap = bits;
+            bits = next;
+            next = swap;
+            i++;
+        }
+
+        if (bits != current) {
+            System.arraycopy(
+                bits,
+                0,
+                current,
+                0,
+                stateLength
+            );
+        }
+
+        return i;
+    }
+
+    /**
+     * Follows a step of a counted group that matched a character. An inner step passes its counts to the next step,
+     * while the last step completes an iteration, adding one to each count. The first step repeats with counts below
+     * the max, and the group is left if any count has reached the min.
+     */
+    private void count(final int step,
+                       final int countedGroup,
+                       final long[] bits,
+                       final long[] next) {
+        final int[] group = this.countedGroups[countedGroup];
+        final int countWords = this.countWords[countedGroup];
+        final int[] countOffsets = this.countOffsets;
+        final int from = countOffsets[step];
+
+        if (step < group[COUNTED_LAST]) {
+            final int to = countOffsets[step + 1];
+
+            for (int x = 0; x < countWords; x++) {
+                next[to + x] |= bits[from + x];
+            }
+        } else {
+            final int first = countOffsets[group[COUNTED_FIRST]];
+            final int min = group[COUNTED_MIN];
+            final int max = group[COUNTED_MAX];
+
+            boolean exit = false;
+            long carry = 0;
+
+            for (int x = 0; x < countWords; x++) {
+                final long counts = bits[from + x];
+                final long completed = (counts << 1) | carry;
+                carry = counts >>> 63;
+
+                exit |= 0 != (completed & atLeast(min, x));
+                next[first + x] |= completed & below(max, x);
+            }
+
+            if (exit) {
+                final int words = this.words;
+                final int offset = step * words;
+
+                for (int x = 0; x < words; x++) {
+                    next[x] |= this.follow[offset + x];
+                }
+            }
+        }
+    }
+
+    /**
+     * Counted groups entered from a preceding group start with a count of zero, after which each step of a counted
+     * group with a count is made active.
+     */
+    private void startCounting(final long[] state) {
+        final int[] countOffsets = this.countOffsets;
+
+        for (int g = 0; g < this.countedGroups.length; g++) {
+            final int[] group = this.countedGroups[g];
+            final int first = group[COUNTED_FIRST];
+
+            if (0 != (state[first >> 6] & (1L << (first & 63)))) {
+                state[countOffsets[first]] |= 1;
+            }
+
+            final int countWords = this.countWords[g];
+
+            for (int step = first; step <= group[COUNTED_LAST]; step++) {
+                final int offset = countOffsets[step];
+
+                for (int x = 0; x < countWords; x++) {
+                    if (0 != state[offset + x]) {
+                        state[step >> 6] |= 1L << (step & 63);
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * The bits of the given count word holding counts of at least min.
+     */
+    private static long atLeast(final int min,
+                                final int word) {
+        final int bit = min - (word << 6);
+
+        return bit <= 0 ?
+            -1L :
+            bit >= 64 ?
+                0 :
+                -1L << bit;
+    }
+
+    /**
+     * The bits of the given count word holding counts below max.
+     */
+    private static long below(final int max,
+                              final int word) {
+        final int bit = max - (word << 6);
+
+        return bit <= 0 ?
+            0 :
+            bit >= 64 ?
+                -1L :
+                (1L << bit) - 1;
+    }
+
+    /**
+     * Returns the index of the first mask that matches the entire text, or -1 when no mask matches. Text outside the
+     * lengths of all masks is rejected without matching, and automatons with a single word and no counted groups are
+     * matched within a local long, without allocating.
+     */
+    int matchedMask(final CharSequence text) {
+        final int length = text.length();
+        int matched = -1;
+
+        if (length >= this.minLength && length <= this.maxLength) {
+            if (1 == this.words && 0 == this.countedGroups.length) {
+                final long current = this.scanWord(text);
+
+                for (int m = 0; m < this.maskCount; m++) {
+                    if (0 != (current & (1L << (this.stepCount + m)))) {
+                        matched = m;
+                        break;
+                    }
+                }
+            } else {
+                final long[] current = this.start();
+
+                if (length == this.scan(text, current)) {
+                    matched = this.matchedMask(current);
+                }
+            }
+        }
+
+        return matched;
+    }
+
+    /**
+     * Matches all characters of the text returning the final steps and ends of masks, or zero when a character was not
+     * accepted. This only supports automatons with a single word and no counted groups.
+     */
+    private long scanWord(final CharSequence text) {
+        final long[] follow = this.follow;
+        final long[] ascii = this.ascii;
+        final int length = text.length();
+
+        long current = this.start[0];
+
+        for (int i = 0; 0 != current && i < length; i++) {
+            final char c = text.charAt(i);
+
+            long matched = current &
+                (c < ASCII ?
+                    ascii[c] :
+                    this.nonAscii(current, 0, c));
+            long next = 0;
+
+            while (0 != matched) {
+                next |= follow[Long.numberOfTrailingZeros(matched)];
+                matched &= matched - 1;
+            }
+
+            current = next;
+        }
+
+        return current;
+    }
+
+    /**
+     * Returns the index of the first mask whose end is present in the given bits, or -1 if none.
+     */
+    int matchedMask(final long[] current) {
+        int matched = -1;
+
+        for (int m = 0; m < this.maskCount; m++) {
+            final int end = this.stepCount + m;
+            if (0 != (current[end >> 6] & (1L << (end & 63)))) {
+                matched = m;
+                break;
+            }
+        }
+
+        return matched;
+    }
+
+    /**
+     * Returns the steps within the given word that accept a character that is not ASCII.
+     */
+    private long nonAscii(final long bits,
+                          final int word,
+                          final char c) {
+        long matched = 0;
+        long remaining = bits;
+
+        while (0 != remaining) {
+            final int bit = Long.numberOfTrailingZeros(remaining);
+            final int step = (word << 6) + bit;
+
+            if (step < this.stepCount && this.isMatch(step, c)) {
+                matched |= 1L << bit;
+            }
+            remaining &= remaining - 1;
+        }
+
+        return matched;
+    }
+
+    private boolean isMatch(final int step,
+                            final char c) {
+        final TextMaskValidatorComponentCharacter<?> character = this.characters[step];
+
+        return this.nots[step] ^
+            (null != character ?
+                character.isMatch(c) :
+                this.literals[step] == c);
+    }
+
+    /**
+     * Tests if the given word holds the end of the first mask.
+     */
+    private boolean isEnd(final long bits,
+                          final int word) {
+        final int end = this.stepCount;
+
+        return word == (end >> 6) &&
+            0 != (bits & (1L << (end & 63)));
+    }
+
+    private long failureWords(final int offset,
+                              final long[] current) {
+        int step = NO_STEP;
+
+        for (int w = this.words - 1; w >= 0; w--) {
+            final long bits = current[w];
+            if (0 != bits) {
+                step = this.highestStep(bits, w);
+                break;
+            }
+        }
+
+        return failure(
+            offset,
+            step
+        );
+    }
+
+    private long failure(final int offset,
+                         final long bits,
+                         final int word) {
+        return failure(
+            offset,
+            this.highestStep(bits, word)
+        );
+    }
+
+    /**
+     * When the end of the mask is present the text continued past a complete match, otherwise the step furthest along
+     * the mask is reported.
+     */
+    private int highestStep(final long bits,
+                            final int word) {
+        return this.isEnd(bits, word) ?
+            NO_STEP :
+            (word << 6) + 63 - Long.numberOfLeadingZeros(bits);
+    }
+
+    private static long failure(final int offset,
+                                final int step) {
+        return ((long) offset << 32) | (step & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Builds the message for a failure returned by {@link #match(CharSequence)}.
+     */
+    String failureMessage(final CharSequence text,
+                          final long failure) {
+        final int offset = (int) (failure >> 32);
+        final int step = (int) failure;
+
+        final String message;
+
+        if (offset == text.length()) {
+            message = "End of text expected " + this.endOfTextExpected[step];
+        } else {
+            final String invalidCharacter = "Invalid character " + CharSequences.quoteIfChars(text.charAt(offset)) + " at " + offset;
+
+            message = NO_STEP == step ?
+                invalidCharacter :
+                invalidCharacter + " expected " + this.invalidCharacterExpected[step];
+        }
+
+        return message;
+    }
+
+    /**
+     * Builds the message for a failure of {@link #scan(CharSequence, long[])}, listing what every active step expected.
+     */
+    String failureMessageAny(final CharSequence text,
+                             final int offset,
+                             final long[] current) {
+        final boolean endOfText = offset == text.length();
+        final List<String> expected = Lists.array();
+
+        for (int w = 0; w < this.words; w++) {
+            long bits = current[w];
+
+            while (0 != bits) {
+                final int step = (w << 6) + Long.numberOfTrailingZeros(bits);
+                if (step < this.stepCount) {
+                    final String stepExpected = endOfText ?
+                        this.endOfTextExpected[step] :
+                        this.invalidCharacterExpected[step];
+
+                    if (false == expected.contains(stepExpected)) {
+                        expected.add(stepExpected);
+                    }
+                }
+                bits &= bits - 1;
+            }
+        }
+
+        final String or = String.join(
+            " or ",
+            expected
+        );
+
+        final String message;
+
+        if (endOfText) {
+            message = "End of text expected " + or;
+        } else {
+            final String invalidCharacter = "Invalid character " + CharSequences.quoteIfChars(text.charAt(offset)) + " at " + offset;
+
+            message = expected.isEmpty() ?
+                invalidCharacter :
+                invalidCharacter + " expected " + or;
+        }
+
+        return message;
+    }
+
+    private CharSequence expected(final int step) {
+        final TextMaskValidatorComponentCharacter<?> character = this.characters[step];
+
+        return null != character ?
+            character.expected() :
+            CharSequences.quoteIfChars(this.literals[step]);
+    }
+
+    /**
+     * The number of masks, each has an end bit following the step bits.
+     */
+    private final int maskCount;
+
+    /**
+     * The length of the shortest text accepted.
+     */
+    int minLength() {
+        return this.minLength;
+    }
+
+    private final int minLength;
+
+    /**
+     * The length of the longest text accepted, or {@link TextMaskValidatorAutomatonCompiler#MANY} when the mask repeats.
+     */
+    int maxLength() {
+        return this.maxLength;
+    }
+
+    private final int maxLength;
+
+    private final int stepCount;
+
+    private final int words;
+
+    /**
+     * The steps that may match the first character.
+     */
+    private final long[] start;
+
+    /**
+     * For each step, the steps that may match the following character, held in {@link #words} longs.
+     */
+    private final long[] follow;
+
+    /**
+     * For each ASCII character, the steps that accept it, held in {@link #words} longs.
+     */
+    private final long[] ascii;
+
+    /**
+     * The component for each step, used to build messages.
+     */
+    private final TextMaskValidatorComponent<?>[] components;
+
+    /**
+     * The character component for each step or null when the step is part of a text literal.
+     */
+    private final TextMaskValidatorComponentCharacter<?>[] characters;
+
+    private final char[] literals;
+
+    private final boolean[] nots;
+
+    /**
+     * For each step, what was expected when it does not match a character.
+     */
+    private final String[] invalidCharacterExpected;
+
+    /**
+     * For each step, what was expected when the text ends at the step.
+     */
+    private final String[] endOfTextExpected;
+
+    /**
+     * Each counted group holds its first and last steps, min and max.
+     */
+    private final int[][] countedGroups;
+
+    /**
+     * For each step the index of its counted group or {@link #NOT_COUNTED}.
+     */
+    private final int[] countedGroupOfStep;
+
+    /**
+     * For each step of a counted group, the offset of its counts within the state.
+     */
+    private final int[] countOffsets;
+
+    /**
+     * For each counted group the number of longs holding the counts of each step.
+     */
+    private final int[] countWords;
+
+    /**
+     * The number of longs holding the step and end of mask bits followed by all counts.
+     */
+    private final int stateLength;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return Arrays.toString(this.components);
+    }
+}
@@ -0,0 +1,342 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import walkingkooka.collect.list.Lists;
+
+import java.util.List;
+
+/**
+ * Compiles the {@link TextMaskValidatorComponent components} of a mask into a {@link TextMaskValidatorAutomaton}.
+ * Every character test becomes a step, and every component becomes a group of one or more steps, which may be
+ * optional or repeat.
+ */
+final class TextMaskValidatorAutomatonCompiler {
+
+    /**
+     * The maximum of a group that may repeat any number of times.
+     */
+    final static int MANY = Integer.MAX_VALUE;
+
+    static TextMaskValidatorAutomaton compile(final List<? extends TextMaskValidatorComponent<?>> components) {
+        return compileAny(
+            Lists.of(components)
+        );
+    }
+
+    /**
+     * Compiles several masks into a single automaton, that accepts text matching any of the masks. Each mask has its
+     * own end of mask bit, following the bits of all steps.
+     */
+    static TextMaskValidatorAutomaton compileAny(final List<? extends List<? extends TextMaskValidatorComponent<?>>> masks) {
+        final TextMaskValidatorAutomatonCompiler compiler = new TextMaskValidatorAutomatonCompiler();
+
+        for (final List<? extends TextMaskValidatorComponent<?>> components : masks) {
+            for (final TextMaskValidatorComponent<?> component : components) {
+                component.compile(
+                    compiler,
+                    false, // not
+                    1, // min
+                    1 // max
+                );
+            }
+            compiler.maskEnds.add(
+                compiler.groups.size()
+            );
+        }
+
+        return compiler.automaton();
+    }
+
+    private TextMaskValidatorAutomatonCompiler() {
+        super();
+    }
+
+    /**
+     * Adds a group holding a single step that tests a character using the given {@link TextMaskValidatorComponentCharacter}.
+     */
+    void character(final TextMaskValidatorComponentCharacter<?> component,
+                   final boolean not,
+                   final int min,
+                   final int max) {
+        this.group(
+            1,
+            min,
+            max
+        );
+        this.step(
+            component,
+            component,
+            NO_LITERAL,
+            not
+        );
+    }
+
+    /**
+     * Adds a group with a step for each character of the text literal.
+     */
+    void textLiteral(final TextMaskValidatorComponentTextLiteral<?> component,
+                     final String text,
+                     final boolean not,
+                     final int min,
+                     final int max) {
+        final int length = text.length();
+
+        this.group(
+            length,
+            min,
+            max
+        );
+
+        for (int i = 0; i < length; i++) {
+            this.step(
+                component,
+                null,
+                text.charAt(i),
+                not
+            );
+        }
+    }
+
+    private final static char NO_LITERAL = 0;
+
+    private void group(final int width,
+                       final int min,
+                       final int max) {
+        this.groups.add(
+            new int[]{
+                this.components.size(),
+                width,
+                min,
+                max
+            }
+        );
+    }
+
+    private final static int GROUP_FIRST = 0;
+    private final static int GROUP_WIDTH = 1;
+    private final static int GROUP_MIN = 2;
+    private final static int GROUP_MAX = 3;
+
+    /**
+     * Each group holds the first step, width, min and max.
+     */
+    private final List<int[]> groups = Lists.array();
+
+    private void step(final TextMaskValidatorComponent<?> component,
+                      final TextMaskValidatorComponentCharacter<?> character,
+                      final char literal,
+                      final boolean not) {
+        this.components.add(component);
+        this.characters.add(character);
+        this.literals.append(literal);
+        this.nots.add(not);
+    }
+
+    /**
+     * The index of the group after the last group of each mask.
+     */
+    private final List<Integer> maskEnds = Lists.array();
+
+    private final List<TextMaskValidatorComponent<?>> components = Lists.array();
+
+    private final List<TextMaskValidatorComponentCharacter<?>> characters = Lists.array();
+
+    private final StringBuilder literals = new StringBuilder();
+
+    private final List<Boolean> nots = Lists.array();
+
+    /**
+     * Builds the start and follow sets of steps for each step. A step that successfully matches a character
+     * continues with its follow steps, the bits after the last step mark the end of each mask.
+     */
+    private TextMaskValidatorAutomaton automaton() {
+        final int stepCount = this.components.size();
+        final List<Integer> maskEnds = this.maskEnds;
+        final int maskCount = maskEnds.size();
+        final int words = TextMaskValidatorAutomaton.words(stepCount + maskCount);
+
+        final List<int[]> groups = this.groups;
+        final int groupCount = groups.size();
+
+        // the steps that may match the next character after a group completes.
+        final long[][] nexts = new long[groupCount][];
+        final long[] start = new long[words];
+
+        // the shortest and longest text accepted by any mask, a group that repeats any number of times has no longest.
+        long minLength = MANY;
+        long maxLength = 0;
+
+        int from = 0;
+        for (int m = 0; m < maskCount; m++) {
+            final int to = maskEnds.get(m);
+
+            long[] next = new long[words];
+            set(
+                next,
+                0,
+                stepCount + m
+            );
+
+            long maskMinLength = 0;
+            long maskMaxLength = 0;
+
+            for (int g = to - 1; g >= from; g--) {
+                final int[] group = groups.get(g);
+                final int width = group[GROUP_WIDTH];
+                final int max = group[GROUP_MAX];
+
+                nexts[g] = next;
+
+                if (0 != width) {
+                    final long[] entry = new long[words];
+                    set(
+                        entry,
+                        0,
+                        group[GROUP_FIRST]
+                    );
+
+                    if (0 == group[GROUP_MIN]) {
+                        or(
+                            entry,
+                            0,
+                            next
+                        );
+                    }
+                    next = entry;
+                }
+
+                maskMinLength += (long) width * group[GROUP_MIN];
+                maskMaxLength = MANY == max && width > 0 ?
+                    MANY :
+                    maskMaxLength + (long) width * max;
+            }
+
+            or(
+                start,
+                0,
+                next
+            );
+
+            minLength = Math.min(minLength, maskMinLength);
+            maxLength = Math.max(maxLength, maskMaxLength);
+
+            from = to;
+        }
+
+        final long[] follow = new long[stepCount * words];
+
+        // counted groups follow from one step to the next and repeat while counting, leaving only the exit in follow.
+        final List<int[]> countedGroups = Lists.array();
+
+        for (int g = 0; g < groupCount; g++) {
+            final int[] group = groups.get(g);
+            final int first = group[GROUP_FIRST];
+            final int last = first + group[GROUP_WIDTH] - 1;
+            final boolean counted = isCounted(group);
+
+            if (counted) {
+                countedGroups.add(
+                    new int[]{
+                        first,
+                        last,
+                        group[GROUP_MIN],
+                        group[GROUP_MAX]
+                    }
+                );
+            }
+
+            for (int step = first; step <= last; step++) {
+                final int offset = step * words;
+
+                if (step < last) {
+                    if (false == counted) {
+                        set(
+                            follow,
+                            offset,
+                            step + 1
+                        );
+                    }
+                } else {
+                    or(
+                        follow,
+                        offset,
+                        nexts[g]
+                    );
+
+                    if (false == counted && group[GROUP_MAX] > 1) {
+                        set(
+                            follow,
+                            offset,
+                            first
+                        );
+                    }
+                }
+            }
+        }
+
+        final boolean[] nots = new boolean[stepCount];
+        for (int i = 0; i < stepCount; i++) {
+            nots[i] = this.nots.get(i);
+        }
+
+        return TextMaskValidatorAutomaton.with(
+            maskCount,
+            (int) Math.min(minLength, MANY),
+            (int) Math.min(maxLength, MANY),
+            start,
+            follow,
+            this.components.toArray(new TextMaskValidatorComponent[stepCount]),
+            this.characters.toArray(new TextMaskValidatorComponentCharacter[stepCount]),
+            this.literals.toString()
+                .toCharArray(),
+            nots,
+            countedGroups.toArray(new int[countedGroups.size()][])
+        );
+    }
+
+    /**
+     * Groups that are optional, once or repeat any number of times need no counting.
+     */
+    private static boolean isCounted(final int[] group) {
+        final int max = group[GROUP_MAX];
+
+        return group[GROUP_WIDTH] > 0 &&
+            (group[GROUP_MIN] > 1 || (1 != max && MANY != max));
+    }
+
+    private static void set(final long[] bits,
+                            final int offset,
+                            final int bit) {
+        bits[offset + (bit >> 6)] |= 1L << (bit & 63);
+    }
+
+    private static void or(final long[] bits,
+                           final int offset,
+                           final long[] other) {
+        final int length = other.length;
+        for (int i = 0; i < length; i++) {
+            bits[offset + i] |= other[i];
+        }
+    }
+
+    @Override
+    public String toString() {
+        return this.components.toString();
+    }
+}
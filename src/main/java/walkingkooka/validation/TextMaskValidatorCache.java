@@ -0,0 +1,140 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import walkingkooka.Cast;
+import walkingkooka.text.CharSequences;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded cache of parsed {@link TextMaskValidator}, keyed by mask text. Equal masks return the same instance, and the
+ * least recently used mask is evicted when the cache is full. All access is synchronized, parsing happens outside the lock.
+ */
+final class TextMaskValidatorCache {
+
+    /**
+     * The maximum number of masks held by {@link #INSTANCE}.
+     */
+    final static int MAX_SIZE = 256;
+
+    /**
+     * The cache shared by {@link Validators#textMask(String)}.
+     */
+    final static TextMaskValidatorCache INSTANCE = with(MAX_SIZE);
+
+    static TextMaskValidatorCache with(final int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Invalid maxSize " + maxSize + " <= 0");
+        }
+
+        return new TextMaskValidatorCache(maxSize);
+    }
+
+    private TextMaskValidatorCache(final int maxSize) {
+        super();
+        this.maxSize = maxSize;
+        this.masks = new LinkedHashMap<>(
+            16,
+            0.75f,
+            true // access order
+        ) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, TextMaskValidator<?, ?>> eldest) {
+                final boolean remove = this.size() > TextMaskValidatorCache.this.maxSize;
+                if (remove) {
+                    TextMaskValidatorCache.this.evictions++;
+                }
+                return remove;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached {@link TextMaskValidator} for the given mask, parsing and caching it if absent.
+     */
+    <R extends ValidationReference, C extends ValidatorContext<R>> TextMaskValidator<R, C> parse(final String mask) {
+        CharSequences.failIfNullOrEmpty(mask, "mask");
+
+        TextMaskValidator<?, ?> validator;
+
+        synchronized (this) {
+            validator = this.masks.get(mask);
+            if (null != validator) {
+                this.hits++;
+            } else {
+                this.misses++;
+            }
+        }
+
+        if (null == validator) {
+            final TextMaskValidator<?, ?> parsed = TextMaskValidator.parse(mask);
+
+            synchronized (this) {
+                // another thread may have parsed the same mask, keep the first so equal masks return the same instance
+                validator = this.masks.get(mask);
+                if (null == validator) {
+                    this.masks.put(
+                        mask,
+                        parsed
+                    );
+                    validator = parsed;
+                }
+            }
+        }
+
+        return Cast.to(validator);
+    }
+
+    private final int maxSize;
+
+    private final Map<String, TextMaskValidator<?, ?>> masks;
+
+    synchronized int size() {
+        return this.masks.size();
+    }
+
+    synchronized long hits() {
+        return this.hits;
+    }
+
+    private long hits;
+
+    synchronized long misses() {
+        return this.misses;
+    }
+
+    private long misses;
+
+    synchronized long evictions() {
+        return this.evictions;
+    }
+
+    private long evictions;
+
+    // Object...........................................................................................................
+
+    @Override
+    public synchronized String toString() {
+        return "size=" + this.masks.size() +
+            " hits=" + this.hits +
+            " misses=" + this.misses +
+            " evictions=" + this.evictions;
+    }
+}
@@ -23,7 +23,6 @@ import walkingkooka.text.CharSequences;
 import walkingkooka.text.cursor.TextCursor;
 import walkingkooka.text.printer.TreePrintable;
 
-import java.util.Iterator;
 import java.util.List;
 
 abstract class TextMaskValidatorComponent<T extends ValidationReference> implements TreePrintable {
@@ -38,11 +37,14 @@ abstract class TextMaskValidatorComponent<T extends ValidationReference> impleme
         final int MODE_INSIDE_QUOTES_BACKSLASH_ESCAPE = 5;
         final int MODE_NOT_INSIDE_QUOTES = 6;
         final int MODE_NOT_INSIDE_QUOTES_BACKSLASH_ESCAPE = 7;
+        final int MODE_COUNT = 8;
 
         int mode = MODE_NORMAL;
 
         TextMaskValidatorComponent<T> component = null;
         StringBuilder textLiteral = null;
+        TextMaskValidatorComponent<T> counted = null;
+        StringBuilder count = null;
 
         while (mask.isNotEmpty()) {
             final char c = mask.at();
@@ -54,6 +56,28 @@ abstract class TextMaskValidatorComponent<T extends ValidationReference> impleme
                         case ANY:
                             component = any();
                             break;
+                        case COUNT:
+                            // count must have a mask control character before, that is not already optional, repeating or counted
+                            if(MODE_NOT == mode) {
+                                throw new IllegalArgumentException("Count " + CharSequences.quoteIfChars(COUNT) + ": Cannot follow " + CharSequences.quoteIfChars(NOT));
+                            }
+                            if(null == component) {
+                                component = components.isEmpty() ?
+                                    null :
+                                    components.remove(components.size() - 1);
+                            }
+
+                            if(null == component) {
+                                throw new IllegalArgumentException("Count " + CharSequences.quoteIfChars(COUNT) + ": Missing component before");
+                            }
+                            if(isRepeated(component)) {
+                                throw new IllegalArgumentException("Count " + CharSequences.quoteIfChars(COUNT) + ": Cannot follow " + CharSequences.quoteAndEscape(component.toString()));
+                            }
+                            counted = component;
+                            component = null;
+                            count = new StringBuilder();
+                            mode = MODE_COUNT;
+                            break;
                         case '\\':
                             mode = MODE_BACK_SLASH_ESCAPE;
                             break;
@@ -84,6 +108,9 @@ abstract class TextMaskValidatorComponent<T extends ValidationReference> impleme
                             if(null == component) {
                                 throw new IllegalArgumentException("Optional " + CharSequences.quoteIfChars(OPTIONAL) + ": Missing component before");
                             }
+                            if(component instanceof TextMaskValidatorComponentCount) {
+                                throw new IllegalArgumentException("Optional " + CharSequences.quoteIfChars(OPTIONAL) + ": Cannot follow " + CharSequences.quoteAndEscape(component.toString()));
+                            }
                             component = optional(component);
                             break;
                         case REPEATING:
@@ -97,6 +124,9 @@ abstract class TextMaskValidatorComponent<T extends ValidationReference> impleme
                             if(null == component) {
                                 throw new IllegalArgumentException("Repeating " + CharSequences.quoteIfChars(REPEATING) + ": Missing component before");
                             }
+                            if(component instanceof TextMaskValidatorComponentCount) {
+                                throw new IllegalArgumentException("Repeating " + CharSequences.quoteIfChars(REPEATING) + ": Cannot follow " + CharSequences.quoteAndEscape(component.toString()));
+                            }
                             component = repeating(component);
                             break;
                         case SLASH:
@@ -184,6 +214,38 @@ abstract class TextMaskValidatorComponent<T extends ValidationReference> impleme
                     textLiteral.append(c);
                     mode = MODE_NOT_INSIDE_QUOTES;
                     break;
+                case MODE_COUNT:
+                    switch (c) {
+                        case COUNT_CLOSE:
+                            components.add(
+                                count(
+                                    counted,
+                                    count.toString()
+                                )
+                            );
+                            counted = null;
+                            count = null;
+                            mode = MODE_NORMAL;
+                            break;
+                        case ',':
+                        case '0':
+                        case '1':
+                        case '2':
+                        case '3':
+                        case '4':
+                        case '5':
+                        case '6':
+                        case '7':
+                        case '8':
+                        case '9':
+                            count.append(c);
+                            break;
+                        default:
+                            throw mask.lineInfo()
+                                .invalidCharacterException()
+                                .get();
+                    }
+                    break;
                 default:
                     NeverError.unhandledCase(
                         mode,
@@ -192,7 +254,8 @@ abstract class TextMaskValidatorComponent<T extends ValidationReference> impleme
                         MODE_INSIDE_QUOTES,
                         MODE_INSIDE_QUOTES_BACKSLASH_ESCAPE,
                         MODE_NOT_INSIDE_QUOTES,
-                        MODE_NOT_INSIDE_QUOTES_BACKSLASH_ESCAPE
+                        MODE_NOT_INSIDE_QUOTES_BACKSLASH_ESCAPE,
+                        MODE_COUNT
                     );
                     break;
             }
@@ -213,6 +276,8 @@ abstract class TextMaskValidatorComponent<T extends ValidationReference> impleme
             case MODE_NOT_INSIDE_QUOTES:
             case MODE_NOT_INSIDE_QUOTES_BACKSLASH_ESCAPE:
                 throw new IllegalArgumentException("Unclosed double quotes");
+            case MODE_COUNT:
+                throw new IllegalArgumentException("Unclosed count");
             default:
                 NeverError.unhandledCase(
                     mode,
@@ -221,7 +286,8 @@ abstract class TextMaskValidatorComponent<T extends ValidationReference> impleme
                     MODE_INSIDE_QUOTES,
                     MODE_INSIDE_QUOTES_BACKSLASH_ESCAPE,
                     MODE_NOT_INSIDE_QUOTES,
-                    MODE_NOT_INSIDE_QUOTES_BACKSLASH_ESCAPE
+                    MODE_NOT_INSIDE_QUOTES_BACKSLASH_ESCAPE,
+                    MODE_COUNT
                 );
                 break;
         }
@@ -233,6 +299,15 @@ abstract class TextMaskValidatorComponent<T extends ValidationReference> impleme
         return components;
     }
 
+    /**
+     * Tests if the component is already optional, repeating or counted.
+     */
+    private static boolean isRepeated(final TextMaskValidatorComponent<?> component) {
+        return component instanceof TextMaskValidatorComponentOptional ||
+            component instanceof TextMaskValidatorComponentRepeating ||
+            component instanceof TextMaskValidatorComponentCount;
+    }
+
     final static char DASH = '-';
     final static char SLASH = '/';
     final static char SPACE = ' ';
@@ -247,6 +322,21 @@ abstract class TextMaskValidatorComponent<T extends ValidationReference> impleme
         return TextMaskValidatorComponentCharacterAny.instance();
     }
 
+    final static char COUNT = '{';
+
+    final static char COUNT_CLOSE = '}';
+
+    /**
+     * {@link TextMaskValidatorComponentCount}
+     */
+    static <T extends ValidationReference> TextMaskValidatorComponent<T> count(final TextMaskValidatorComponent<T> component,
+                                                                          final String count) {
+        return TextMaskValidatorComponentCount.parse(
+            component,
+            count
+        );
+    }
+
     /**
      * {@link TextMaskValidatorComponentCharacterChar}
      */
@@ -343,45 +433,27 @@ abstract class TextMaskValidatorComponent<T extends ValidationReference> impleme
         super();
     }
 
-    abstract ValidationErrorList<T> tryMatch(final TextCursor text,
-                                             final boolean not,
-                                             final Iterator<TextMaskValidatorComponent<T>> nextComponent,
-                                             final ValidatorContext<T> context);
-
-    final ValidationErrorList<T> endOfText(final ValidatorContext<T> context) {
-        return ValidationErrorList.<T>empty()
-            .concat(
-                context.validationError()
-                    .setMessage("End of text expected " + this.expected())
-            );
-    }
+    /**
+     * Adds the steps of this component to the given {@link TextMaskValidatorAutomatonCompiler}. The not, min and max
+     * parameters are provided by any wrapping component.
+     */
+    abstract void compile(final TextMaskValidatorAutomatonCompiler compiler,
+                          final boolean not,
+                          final int min,
+                          final int max);
 
-    final ValidationErrorList<T> invalidCharacterIfNotEmpty(final TextCursor text,
-                                                            final ValidatorContext<T> context) {
-        return text.isEmpty() ?
-            context.validationErrorList() :
-            context.validationErrorList()
-                .concat(
-                    context.validationError()
-                        .setMessage(
-                            "Invalid character " + CharSequences.quoteIfChars(text.at()) + " at " + text.lineInfo()
-                                .textOffset()
-                        )
-                );
-    }
+    /**
+     * Appends an equivalent {@link java.util.regex.Pattern} regular expression. The not parameter is provided by any
+     * wrapping component.
+     */
+    abstract void regex(final StringBuilder regex,
+                        final boolean not);
 
-    final ValidationErrorList<T> invalidCharacter(final TextCursor text,
-                                                  final ValidatorContext<T> context) {
-        return context.validationErrorList()
-            .concat(
-                context.validationError()
-                    .setMessage(
-                        "Invalid character " + CharSequences.quoteIfChars(text.at()) + " at " + text.lineInfo()
-                            .textOffset() +
-                            " expected " +
-                            this.expected()
-                    )
-            );
+    /**
+     * Returns a regular expression that matches the given character.
+     */
+    static String regexCharacter(final char c) {
+        return "\\x{" + Integer.toHexString(c) + "}";
     }
 
     abstract CharSequence expected();
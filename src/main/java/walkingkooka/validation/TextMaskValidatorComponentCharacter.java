@@ -17,11 +17,8 @@
 
 package walkingkooka.validation;
 
-import walkingkooka.text.cursor.TextCursor;
 import walkingkooka.text.printer.IndentingPrinter;
 
-import java.util.Iterator;
-
 /**
  * Base class for a {@link TextMaskValidatorComponent} that matches a single character.
  */
@@ -32,45 +29,31 @@ abstract class TextMaskValidatorComponentCharacter<T extends ValidationReference
     }
 
     @Override//
-    final ValidationErrorList<T> tryMatch(final TextCursor text,
-                                          final boolean invertNext,
-                                          final Iterator<TextMaskValidatorComponent<T>> nextComponent,
-                                          final ValidatorContext<T> context) {
-        ValidationErrorList<T> errors;
-
-        if (text.isEmpty()) {
-            errors = this.endOfText(context);
-        } else {
-            final char c = text.at();
-
-            if (invertNext ^ this.isMatch(c)) {
-                text.next();
-
-                if (nextComponent.hasNext()) {
-                    errors = nextComponent.next()
-                        .tryMatch(
-                            text,
-                            false, // invert no ?
-                            nextComponent,
-                            context
-                        );
-                } else {
-                    errors = this.invalidCharacterIfNotEmpty(
-                        text,
-                        context
-                    );
-                }
-            } else {
-                errors = this.invalidCharacter(
-                    text,
-                    context
-                );
-            }
-        }
+    final void compile(final TextMaskValidatorAutomatonCompiler compiler,
+                       final boolean not,
+                       final int min,
+                       final int max) {
+        compiler.character(
+            this,
+            not,
+            min,
+            max
+        );
+    }
 
-        return errors;
+    @Override
+    final void regex(final StringBuilder regex,
+                     final boolean not) {
+        regex.append(not ? "[^" : "[")
+            .append(this.regexCharacterClass())
+            .append(']');
     }
 
+    /**
+     * The regular expression for the characters matched, without the surrounding brackets.
+     */
+    abstract String regexCharacterClass();
+
     abstract boolean isMatch(final char c);
 
     // TreePrintable....................................................................................................
@@ -29,6 +29,11 @@ final class TextMaskValidatorComponentCharacterAny<T extends ValidationReference
         super();
     }
 
+    @Override
+    String regexCharacterClass() {
+        return "\\x{0}-\\x{ffff}";
+    }
+
     @Override //
     boolean isMatch(final char c) {
         return true;
@@ -76,6 +76,11 @@ final class TextMaskValidatorComponentCharacterChar<T extends ValidationReferenc
         this.toString = toString;
     }
 
+    @Override
+    String regexCharacterClass() {
+        return regexCharacter(this.c);
+    }
+
     @Override //
     boolean isMatch(final char c) {
         return this.c == c;
@@ -29,6 +29,11 @@ final class TextMaskValidatorComponentCharacterDigit<T extends ValidationReferen
         super();
     }
 
+    @Override
+    String regexCharacterClass() {
+        return "\\p{javaDigit}";
+    }
+
     @Override //
     boolean isMatch(final char c) {
         return Character.isDigit(c);
@@ -29,6 +29,11 @@ final class TextMaskValidatorComponentCharacterLetter<T extends ValidationRefere
         super();
     }
 
+    @Override
+    String regexCharacterClass() {
+        return "\\p{javaLetter}";
+    }
+
     @Override //
     boolean isMatch(final char c) {
         return Character.isLetter(c);
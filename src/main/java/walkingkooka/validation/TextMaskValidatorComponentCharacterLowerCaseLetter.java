@@ -29,6 +29,11 @@ final class TextMaskValidatorComponentCharacterLowerCaseLetter<T extends Validat
         super();
     }
 
+    @Override
+    String regexCharacterClass() {
+        return "\\p{javaLowerCase}";
+    }
+
     @Override //
     boolean isMatch(final char c) {
         return Character.isLowerCase(c);
@@ -29,6 +29,11 @@ final class TextMaskValidatorComponentCharacterUpperCaseLetter<T extends Validat
         super();
     }
 
+    @Override
+    String regexCharacterClass() {
+        return "\\p{javaUpperCase}";
+    }
+
     @Override //
     boolean isMatch(final char c) {
         return Character.isUpperCase(c);
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import walkingkooka.Cast;
+import walkingkooka.text.CharSequences;
+import walkingkooka.text.printer.IndentingPrinter;
+
+import java.util.Objects;
+
+/**
+ * Repeats the wrapped {@link TextMaskValidatorComponent} between a min and max number of times. The repetitions are
+ * counted by the {@link TextMaskValidatorAutomaton}, rather than compiling a step for each repetition.
+ */
+final class TextMaskValidatorComponentCount<T extends ValidationReference> extends TextMaskValidatorComponent<T> {
+
+    /**
+     * The largest max count.
+     */
+    final static int MAX = 4096;
+
+    /**
+     * Parses the text between the braces, which holds either a single count or min and max separated by a comma.
+     */
+    static <T extends ValidationReference> TextMaskValidatorComponent<T> parse(final TextMaskValidatorComponent<T> component,
+                                                                          final String count) {
+        Objects.requireNonNull(count, "count");
+
+        final int comma = count.indexOf(',');
+
+        int min;
+        int max;
+
+        try {
+            if (-1 == comma) {
+                min = Integer.parseInt(count);
+                max = min;
+            } else {
+                min = Integer.parseInt(count.substring(0, comma));
+                max = Integer.parseInt(count.substring(comma + 1));
+            }
+        } catch (final NumberFormatException invalid) {
+            min = -1;
+            max = -1;
+        }
+
+        if (min < 0 || max < 1 || min > max || max > MAX) {
+            throw new IllegalArgumentException(
+                "Invalid count " +
+                    CharSequences.quoteAndEscape(COUNT + count + COUNT_CLOSE)
+            );
+        }
+
+        return with(
+            component,
+            min,
+            max
+        );
+    }
+
+    static <T extends ValidationReference> TextMaskValidatorComponent<T> with(final TextMaskValidatorComponent<T> component,
+                                                                         final int min,
+                                                                         final int max) {
+        return new TextMaskValidatorComponentCount<>(
+            Objects.requireNonNull(component, "component"),
+            min,
+            max
+        );
+    }
+
+    private TextMaskValidatorComponentCount(final TextMaskValidatorComponent<T> component,
+                                            final int min,
+                                            final int max) {
+        super();
+        this.component = component;
+        this.min = min;
+        this.max = max;
+    }
+
+    @Override
+    void compile(final TextMaskValidatorAutomatonCompiler compiler,
+                 final boolean not,
+                 final int min,
+                 final int max) {
+        this.component.compile(
+            compiler,
+            not,
+            this.min,
+            this.max
+        );
+    }
+
+    @Override
+    void regex(final StringBuilder regex,
+               final boolean not) {
+        regex.append("(?:");
+        this.component.regex(
+            regex,
+            not
+        );
+        regex.append(")" + this.count());
+    }
+
+    @Override //
+    CharSequence expected() {
+        return this.component.expected();
+    }
+
+    private final TextMaskValidatorComponent<T> component;
+
+    private final int min;
+
+    private final int max;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return this.toString()
+            .hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            other instanceof TextMaskValidatorComponentCount &&
+                this.equals0(Cast.to(other));
+    }
+
+    private boolean equals0(final TextMaskValidatorComponentCount<?> other) {
+        return this.min == other.min &&
+            this.max == other.max &&
+            this.component.equals(other.component);
+    }
+
+    @Override
+    public String toString() {
+        return this.component.toString() + this.count();
+    }
+
+    private String count() {
+        return COUNT +
+            (this.min == this.max ?
+                String.valueOf(this.min) :
+                this.min + "," + this.max) +
+            COUNT_CLOSE;
+    }
+
+    // TreePrintable....................................................................................................
+
+    @Override
+    public void printTree(final IndentingPrinter printer) {
+        printer.println(this.getClass().getSimpleName() + " " + this.count());
+        printer.indent();
+        {
+            this.component.printTree(printer);
+        }
+        printer.outdent();
+    }
+}
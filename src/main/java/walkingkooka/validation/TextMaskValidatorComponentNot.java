@@ -18,11 +18,8 @@
 package walkingkooka.validation;
 
 import walkingkooka.Cast;
-import walkingkooka.text.cursor.TextCursor;
 import walkingkooka.text.printer.IndentingPrinter;
 
-import java.util.Iterator;
-
 /**
  * Inverts the matching of the next {@link TextMaskValidatorComponent}.
  */
@@ -38,16 +35,25 @@ final class TextMaskValidatorComponentNot<T extends ValidationReference> extends
     }
 
     @Override
-    ValidationErrorList<T> tryMatch(final TextCursor text,
-                                    final boolean invertNext,
-                                    final Iterator<TextMaskValidatorComponent<T>> nextComponent,
-                                    final ValidatorContext<T> context) {
-        return this.component.tryMatch(
-                text,
-                false == invertNext, // invert
-                nextComponent,
-                context
-            );
+    void compile(final TextMaskValidatorAutomatonCompiler compiler,
+                 final boolean not,
+                 final int min,
+                 final int max) {
+        this.component.compile(
+            compiler,
+            false == not, // invert
+            min,
+            max
+        );
+    }
+
+    @Override
+    void regex(final StringBuilder regex,
+               final boolean not) {
+        this.component.regex(
+            regex,
+            false == not // invert
+        );
     }
 
     @Override //
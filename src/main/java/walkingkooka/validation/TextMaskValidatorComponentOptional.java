@@ -18,11 +18,8 @@
 package walkingkooka.validation;
 
 import walkingkooka.Cast;
-import walkingkooka.text.cursor.TextCursor;
-import walkingkooka.text.cursor.TextCursorSavePoint;
 import walkingkooka.text.printer.IndentingPrinter;
 
-import java.util.Iterator;
 import java.util.Objects;
 
 /**
@@ -42,35 +39,27 @@ final class TextMaskValidatorComponentOptional<T extends ValidationReference> ex
     }
 
     @Override
-    ValidationErrorList<T> tryMatch(final TextCursor text,
-                                    final boolean invertNext,
-                                    final Iterator<TextMaskValidatorComponent<T>> nextComponent,
-                                    final ValidatorContext<T> context) {
-        final TextCursorSavePoint save = text.save();
-
-        final ValidationErrorList<T> errors = this.component.tryMatch(
-            text,
-            false, // invert
-            nextComponent,
-            context
+    void compile(final TextMaskValidatorAutomatonCompiler compiler,
+                 final boolean not,
+                 final int min,
+                 final int max) {
+        this.component.compile(
+            compiler,
+            not,
+            0, // min
+            max
         );
+    }
 
-        if (errors.isNotEmpty()) {
-            save.restore();
-        }
-
-        return nextComponent.hasNext() ?
-            nextComponent.next()
-                .tryMatch(
-                    text,
-                    false, // invertNext
-                    nextComponent,
-                    context
-                ) :
-            this.invalidCharacterIfNotEmpty(
-                text,
-                context
-            );
+    @Override
+    void regex(final StringBuilder regex,
+               final boolean not) {
+        regex.append("(?:");
+        this.component.regex(
+            regex,
+            not
+        );
+        regex.append(")?");
     }
 
     @Override //
@@ -18,12 +18,8 @@
 package walkingkooka.validation;
 
 import walkingkooka.Cast;
-import walkingkooka.collect.list.Lists;
-import walkingkooka.text.cursor.TextCursor;
-import walkingkooka.text.cursor.TextCursorSavePoint;
 import walkingkooka.text.printer.IndentingPrinter;
 
-import java.util.Iterator;
 import java.util.Objects;
 
 /**
@@ -43,43 +39,27 @@ final class TextMaskValidatorComponentRepeating<T extends ValidationReference> e
     }
 
     @Override
-    ValidationErrorList<T> tryMatch(final TextCursor text,
-                                    final boolean invertNext,
-                                    final Iterator<TextMaskValidatorComponent<T>> nextComponent,
-                                    final ValidatorContext<T> context) {
-        final TextMaskValidatorComponent<T> component = this.component;
-
-        while(text.isNotEmpty()) {
-            final TextCursorSavePoint save = text.save();
-
-            final ValidationErrorList<T> errors = component.tryMatch(
-                text,
-                false, // invert
-                Lists.of(TextMaskValidatorComponentRepeatingNext.<T>instance()) // required otherwise nextComponent might consume text and fail.
-                    .iterator(),
-                context
-            );
-
-            if (errors.isNotEmpty()) {
-                save.restore();
-                break;
-            }
-
-            // try again!
-        }
+    void compile(final TextMaskValidatorAutomatonCompiler compiler,
+                 final boolean not,
+                 final int min,
+                 final int max) {
+        this.component.compile(
+            compiler,
+            not,
+            0, // min
+            TextMaskValidatorAutomatonCompiler.MANY
+        );
+    }
 
-        return nextComponent.hasNext() ?
-            nextComponent.next()
-                .tryMatch(
-                    text,
-                    false, // invertNext
-                    nextComponent,
-                    context
-                ) :
-            this.invalidCharacterIfNotEmpty(
-                text,
-                context
-            );
+    @Override
+    void regex(final StringBuilder regex,
+               final boolean not) {
+        regex.append("(?:");
+        this.component.regex(
+            regex,
+            not
+        );
+        regex.append(")*");
     }
 
     @Override //
@@ -19,11 +19,8 @@ package walkingkooka.validation;
 
 import walkingkooka.Cast;
 import walkingkooka.text.CharSequences;
-import walkingkooka.text.cursor.TextCursor;
 import walkingkooka.text.printer.IndentingPrinter;
 
-import java.util.Iterator;
-
 /**
  * Matches a text literal.
  */
@@ -39,75 +36,37 @@ final class TextMaskValidatorComponentTextLiteral<T extends ValidationReference>
     }
 
     @Override
-    ValidationErrorList<T> tryMatch(final TextCursor text,
-                                    final boolean invertNext,
-                                    final Iterator<TextMaskValidatorComponent<T>> nextComponent,
-                                    final ValidatorContext<T> context) {
-        return text.isEmpty() ?
-            this.endOfText(context) :
-            this.tryMatchNotEmpty(
-                text,
-                invertNext,
-                nextComponent,
-                context
-            );
+    void compile(final TextMaskValidatorAutomatonCompiler compiler,
+                 final boolean not,
+                 final int min,
+                 final int max) {
+        compiler.textLiteral(
+            this,
+            this.text,
+            not,
+            min,
+            max
+        );
     }
 
-    private ValidationErrorList<T> tryMatchNotEmpty(final TextCursor text,
-                                                    final boolean invertNext,
-                                                    final Iterator<TextMaskValidatorComponent<T>> nextComponent,
-                                                    final ValidatorContext<T> context) {
-        final String textLiteral = this.text;
-        final int textLiteralLength = textLiteral.length();
-
-        int i = 0;
-        while (text.isNotEmpty() && i < textLiteralLength) {
-            if (invertNext == (text.at() == textLiteral.charAt(i))) {
-                break;
+    @Override
+    void regex(final StringBuilder regex,
+               final boolean not) {
+        for (final char c : this.text.toCharArray()) {
+            if (not) {
+                regex.append("[^")
+                    .append(regexCharacter(c))
+                    .append(']');
+            } else {
+                if (c < 128 && Character.isLetterOrDigit(c)) {
+                    regex.append(c);
+                } else {
+                    regex.append(regexCharacter(c));
+                }
             }
-            i++;
-            text.next();
         }
-
-        return i < textLiteralLength ?
-            this.invalidCharacter(
-                text,
-                i,
-                context
-            ) :
-            nextComponent.hasNext() ?
-                nextComponent.next()
-                    .tryMatch(
-                        text,
-                        false, // invertNext NO!
-                        nextComponent,
-                        context
-                    ) :
-                text.isEmpty() ?
-                    context.validationErrorList() :
-                    this.invalidCharacter(
-                        text,
-                        i,
-                        context
-                    );
     }
 
-    private ValidationErrorList<T> invalidCharacter(final TextCursor text,
-                                                    final int i,
-                                                    final ValidatorContext<T> context) {
-        return ValidationErrorList.<T>empty()
-            .concat(
-                context.validationError()
-                    .setMessage(
-                        "Invalid character " + CharSequences.quoteIfChars(text.at()) + " at " + text.lineInfo()
-                            .textOffset() +
-                            " expected " +
-                            CharSequences.quoteIfChars(this.text.charAt(i))
-                    )
-            );
-    }
-
-
     @Override //
     CharSequence expected() {
         return CharSequences.quoteAndEscape(this.text);
@@ -19,10 +19,12 @@ package walkingkooka.validation;
 
 import walkingkooka.tree.expression.Expression;
 import walkingkooka.tree.expression.ExpressionEvaluationContext;
+import walkingkooka.tree.expression.ExpressionPurityContext;
 
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.IntFunction;
 
 /**
  * A {@link Validator} which executes the given {@link Expression}, which returns a {@link ValidationCheckbox}.
@@ -48,29 +50,94 @@ final class ValidationCheckboxExpressionValidator<R extends ValidationReference,
                                              final C context) {
         Objects.requireNonNull(context, "context");
 
-        final ValidationCheckbox checkbox = this.evaluateExpressionToValidationCheckbox(context);
-        ValidationError<R> error = context.validationError();
+        return this.validate(
+            value,
+            context,
+            this.evaluateExpressionToValidationCheckbox(context)
+        );
+    }
 
-        final Optional<Object> optionalValue = Optional.ofNullable(value);
-        if (false == optionalValue.equals(checkbox.trueValue()) && optionalValue.equals(checkbox.falseValue())) {
-            error = error.setMessage("Invalid checkbox value");
+    /**
+     * When the expression is pure it is evaluated once using the context of the first value, and the {@link ValidationCheckbox} is
+     * shared by all values, otherwise it is evaluated for each value.
+     */
+    @Override
+    public ValidationErrorColumn<R> validateAll(final List<?> values,
+                                                final IntFunction<C> contexts) {
+        Objects.requireNonNull(values, "values");
+        Objects.requireNonNull(contexts, "contexts");
+
+        final ValidationErrorColumnBuilder<R> errors = ValidationErrorColumnBuilder.with(values.size());
+
+        // only set when the expression is pure
+        ValidationCheckbox shared = null;
+
+        int i = 0;
+        for (final Object value : values) {
+            final C context = contexts.apply(i);
+
+            ValidationCheckbox checkbox = shared;
+            if (null == checkbox) {
+                final ExpressionEvaluationContext expressionEvaluationContext = context.expressionEvaluationContext(null);
+                checkbox = this.evaluateExpressionToValidationCheckbox(expressionEvaluationContext);
+
+                if (0 == i && this.expression.isPure(expressionEvaluationContext)) {
+                    shared = checkbox;
+                }
+            }
+
+            errors.add(
+                i,
+                this.validate(
+                    value,
+                    context,
+                    checkbox
+                )
+            );
+            i++;
         }
 
+        return errors.build();
+    }
+
+    private List<ValidationError<R>> validate(final Object value,
+                                              final C context,
+                                              final ValidationCheckbox checkbox) {
+        final Optional<Object> optionalValue = Optional.ofNullable(value);
+
+        // the same few errors are returned for every value, the context may share them
         return context.validationErrorList()
             .concat(
-                error.setValue(
+                context.validationError(
+                    false == optionalValue.equals(checkbox.trueValue()) && optionalValue.equals(checkbox.falseValue()) ?
+                        INVALID_CHECKBOX_VALUE :
+                        ValidationError.NO_MESSAGE,
                     Optional.ofNullable(checkbox)
                 )
             );
     }
 
+    private final static String INVALID_CHECKBOX_VALUE = "Invalid checkbox value";
+
+    /**
+     * The {@link ValidationCheckbox} may only be shared or cached when the {@link Expression} is pure.
+     */
+    @Override
+    public boolean isPure(final ExpressionPurityContext context) {
+        return this.expression.isPure(context);
+    }
+
     private final Expression expression;
 
     // choices..........................................................................................................
 
     private ValidationCheckbox evaluateExpressionToValidationCheckbox(final ValidatorContext<R> context) {
-        final ExpressionEvaluationContext expressionEvaluationContext = context.expressionEvaluationContext(null);
+        return this.evaluateExpressionToValidationCheckbox(
+            context.expressionEvaluationContext(null)
+        );
+    }
 
+    private ValidationCheckbox evaluateExpressionToValidationCheckbox(final ExpressionEvaluationContext expressionEvaluationContext) {
         return expressionEvaluationContext.convertOrFail(
             expressionEvaluationContext.evaluateExpression(this.expression),
             ValidationCheckbox.class
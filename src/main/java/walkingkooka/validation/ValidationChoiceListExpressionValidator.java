@@ -20,10 +20,12 @@ package walkingkooka.validation;
 import walkingkooka.text.CharSequences;
 import walkingkooka.tree.expression.Expression;
 import walkingkooka.tree.expression.ExpressionEvaluationContext;
+import walkingkooka.tree.expression.ExpressionPurityContext;
 
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.IntFunction;
 
 /**
  * A {@link Validator} that executes a given {@link Expression} which must return a non-empty expected {@link ValidationChoiceList}.
@@ -54,7 +56,59 @@ final class ValidationChoiceListExpressionValidator<R extends ValidationReferenc
                                              final C context) {
         Objects.requireNonNull(context, "context");
 
-        final ValidationChoiceList choices = this.evaluateExpressionToValidationChoiceList(context);
+        return this.validate(
+            value,
+            context,
+            this.evaluateExpressionToValidationChoiceList(context)
+        );
+    }
+
+    /**
+     * When the expression is pure it is evaluated once using the context of the first value, and the {@link ValidationChoiceList} is
+     * shared by all values, otherwise it is evaluated for each value.
+     */
+    @Override
+    public ValidationErrorColumn<R> validateAll(final List<?> values,
+                                                final IntFunction<C> contexts) {
+        Objects.requireNonNull(values, "values");
+        Objects.requireNonNull(contexts, "contexts");
+
+        final ValidationErrorColumnBuilder<R> errors = ValidationErrorColumnBuilder.with(values.size());
+
+        // only set when the expression is pure
+        ValidationChoiceList shared = null;
+
+        int i = 0;
+        for (final Object value : values) {
+            final C context = contexts.apply(i);
+
+            ValidationChoiceList choices = shared;
+            if (null == choices) {
+                final ExpressionEvaluationContext expressionEvaluationContext = context.expressionEvaluationContext(null);
+                choices = this.evaluateExpressionToValidationChoiceList(expressionEvaluationContext);
+
+                if (0 == i && this.expression.isPure(expressionEvaluationContext)) {
+                    shared = choices;
+                }
+            }
+
+            errors.add(
+                i,
+                this.validate(
+                    value,
+                    context,
+                    choices
+                )
+            );
+            i++;
+        }
+
+        return errors.build();
+    }
+
+    private List<ValidationError<R>> validate(final Object value,
+                                              final C context,
+                                              final ValidationChoiceList choices) {
         ValidationError<R> error = context.validationError();
 
         final Optional<Object> optionalValue = Optional.ofNullable(value);
@@ -71,6 +125,14 @@ final class ValidationChoiceListExpressionValidator<R extends ValidationReferenc
             );
     }
 
+    /**
+     * The {@link ValidationChoiceList} may only be shared or cached when the {@link Expression} is pure.
+     */
+    @Override
+    public boolean isPure(final ExpressionPurityContext context) {
+        return this.expression.isPure(context);
+    }
+
     private final Expression expression;
 
     private final String message;
@@ -78,8 +140,12 @@ final class ValidationChoiceListExpressionValidator<R extends ValidationReferenc
     // promptValue......................................................................................................
 
     private ValidationChoiceList evaluateExpressionToValidationChoiceList(final ValidatorContext<R> context) {
-        final ExpressionEvaluationContext expressionEvaluationContext = context.expressionEvaluationContext(null);
+        return this.evaluateExpressionToValidationChoiceList(
+            context.expressionEvaluationContext(null)
+        );
+    }
 
+    private ValidationChoiceList evaluateExpressionToValidationChoiceList(final ExpressionEvaluationContext expressionEvaluationContext) {
         return expressionEvaluationContext.convertOrFail(
             expressionEvaluationContext.evaluateExpression(this.expression),
             ValidationChoiceList.class
@@ -121,13 +121,23 @@ public final class ValidationError<T extends ValidationReference> implements Has
 
     @Override
     public int hashCode() {
-        return Objects.hash(
-            this.reference,
-            this.message,
-            this.value
-        );
+        int hashCode = this.hashCode;
+
+        // errors are immutable and are hashed repeatedly when collections de-duplicate errors
+        if (0 == hashCode) {
+            hashCode = Objects.hash(
+                this.reference,
+                this.message,
+                this.value
+            );
+            this.hashCode = hashCode;
+        }
+
+        return hashCode;
     }
 
+    private int hashCode;
+
     @Override
     public boolean equals(final Object other) {
         return this == other ||
@@ -135,8 +145,16 @@ public final class ValidationError<T extends ValidationReference> implements Has
                 this.equals0(Cast.to(other));
     }
 
+    /**
+     * When both hash codes have already been computed, they are compared first so unequal errors are usually rejected
+     * without comparing properties. Hash codes are never computed just for a comparison.
+     */
     private boolean equals0(final ValidationError<?> error) {
-        return this.reference.equals(error.reference) &&
+        final int hashCode = this.hashCode;
+        final int otherHashCode = error.hashCode;
+
+        return (0 == hashCode || 0 == otherHashCode || hashCode == otherHashCode) &&
+            this.reference.equals(error.reference) &&
             this.message.equals(error.message) &&
             this.value.equals(error.value);
     }
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import walkingkooka.Cast;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A small bounded cache that shares {@link ValidationError} instances, so repeated failures with the same
+ * {@link ValidationReference}, message and value return the same instance, and comparing them is an identity check.
+ * Each {@link BasicValidatorContext} owns a cache, which uses concurrent maps rather than a lock, so validators running
+ * in parallel never wait for each other. A hit creates nothing, when a map is full further errors are created but not
+ * cached.
+ */
+final class ValidationErrorCache {
+
+    /**
+     * The maximum number of {@link ValidationReference references}.
+     */
+    final static int MAX_REFERENCES = 1024;
+
+    /**
+     * The maximum number of messages for each {@link ValidationReference}.
+     */
+    final static int MAX_MESSAGES = 16;
+
+    /**
+     * The maximum number of values for each message.
+     */
+    final static int MAX_VALUES = 16;
+
+    static ValidationErrorCache empty() {
+        return new ValidationErrorCache();
+    }
+
+    private ValidationErrorCache() {
+        super();
+    }
+
+    /**
+     * Returns the shared {@link ValidationError} with the given reference, message and value.
+     */
+    <R extends ValidationReference> ValidationError<R> get(final R reference,
+                                                           final String message,
+                                                           final Optional<Object> value) {
+        Objects.requireNonNull(reference, "reference");
+        Objects.requireNonNull(message, "message");
+        Objects.requireNonNull(value, "value");
+
+        final Map<Optional<Object>, ValidationError<?>> values = getOrCreate(
+            getOrCreate(
+                this.references,
+                reference,
+                MAX_REFERENCES
+            ),
+            message,
+            MAX_MESSAGES
+        );
+
+        ValidationError<?> error = null != values ?
+            values.get(value) :
+            null;
+        if (null == error) {
+            error = ValidationError.with(reference)
+                .setMessage(message)
+                .setValue(value);
+
+            if (null != values && values.size() < MAX_VALUES) {
+                final ValidationError<?> previous = values.putIfAbsent(
+                    value,
+                    error
+                );
+                // another thread added an equal error first, share that one
+                if (null != previous) {
+                    error = previous;
+                }
+            }
+        }
+
+        return Cast.to(error);
+    }
+
+    /**
+     * Returns the map for the given key, adding an empty map if there is room, or null when the parent is null or
+     * full.
+     */
+    private static <K, KK, VV> Map<KK, VV> getOrCreate(final Map<K, Map<KK, VV>> parent,
+                                                       final K key,
+                                                       final int max) {
+        Map<KK, VV> child = null;
+
+        if (null != parent) {
+            child = parent.get(key);
+
+            if (null == child && parent.size() < max) {
+                child = new ConcurrentHashMap<>();
+
+                final Map<KK, VV> previous = parent.putIfAbsent(
+                    key,
+                    child
+                );
+                if (null != previous) {
+                    child = previous;
+                }
+            }
+        }
+
+        return child;
+    }
+
+    private final Map<ValidationReference, Map<String, Map<Optional<Object>, ValidationError<?>>>> references = new ConcurrentHashMap<>();
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return "references=" + this.references.size();
+    }
+}
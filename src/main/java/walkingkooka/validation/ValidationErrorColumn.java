@@ -0,0 +1,166 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import walkingkooka.Cast;
+import walkingkooka.collect.list.Lists;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The result of validating a column of values with {@link Validator#validateAll(List, java.util.function.IntFunction)}.
+ * Only the indices of values with errors and their errors are kept, valid values take no space.
+ */
+public final class ValidationErrorColumn<R extends ValidationReference> {
+
+    // @VisibleForTesting
+    static <R extends ValidationReference> ValidationErrorColumn<R> with(final int size,
+                                                                       final int[] indices,
+                                                                       final List<List<ValidationError<R>>> errors) {
+        return new ValidationErrorColumn<>(
+            size,
+            indices,
+            errors
+        );
+    }
+
+    private ValidationErrorColumn(final int size,
+                                  final int[] indices,
+                                  final List<List<ValidationError<R>>> errors) {
+        this.size = size;
+        this.indices = indices;
+        this.errors = errors;
+    }
+
+    /**
+     * The number of values that were validated.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    private final int size;
+
+    /**
+     * Returns true if every value was valid.
+     */
+    public boolean isValid() {
+        return 0 == this.indices.length;
+    }
+
+    /**
+     * Returns true if the value at the given index had no errors.
+     */
+    public boolean isValid(final int index) {
+        return this.find(index) < 0;
+    }
+
+    /**
+     * Returns the errors for the value at the given index, which will be empty if the value was valid.
+     */
+    public List<ValidationError<R>> errors(final int index) {
+        final int i = this.find(index);
+        return i < 0 ?
+            Lists.empty() :
+            this.errors.get(i);
+    }
+
+    private int find(final int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Invalid index " + index + " not between 0 and " + this.size);
+        }
+
+        return Arrays.binarySearch(
+            this.indices,
+            index
+        );
+    }
+
+    /**
+     * The number of values with errors.
+     */
+    public int invalidCount() {
+        return this.indices.length;
+    }
+
+    /**
+     * Returns the index of the n-th value with errors, in ascending order.
+     */
+    public int invalidIndex(final int n) {
+        return this.indices[n];
+    }
+
+    /**
+     * Returns the errors of the n-th value with errors.
+     */
+    public List<ValidationError<R>> invalidErrors(final int n) {
+        return this.errors.get(n);
+    }
+
+    /**
+     * The ascending indices of values with errors.
+     */
+    private final int[] indices;
+
+    /**
+     * The errors for each of {@link #indices}.
+     */
+    private final List<List<ValidationError<R>>> errors;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            this.size,
+            Arrays.hashCode(this.indices),
+            this.errors
+        );
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            other instanceof ValidationErrorColumn &&
+                this.equals0(Cast.to(other));
+    }
+
+    private boolean equals0(final ValidationErrorColumn<?> other) {
+        return this.size == other.size &&
+            Arrays.equals(this.indices, other.indices) &&
+            this.errors.equals(other.errors);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder b = new StringBuilder();
+        b.append(this.size);
+
+        final int[] indices = this.indices;
+        for (int i = 0; i < indices.length; i++) {
+            b.append(' ')
+                .append(indices[i])
+                .append('=')
+                .append(this.errors.get(i));
+        }
+
+        return b.toString();
+    }
+}
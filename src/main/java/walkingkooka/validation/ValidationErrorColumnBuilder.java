@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import walkingkooka.collect.list.Lists;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Collects the errors of each value as a column of values is validated, ignoring values without errors.
+ */
+final class ValidationErrorColumnBuilder<R extends ValidationReference> {
+
+    static <R extends ValidationReference> ValidationErrorColumnBuilder<R> with(final int size) {
+        return new ValidationErrorColumnBuilder<>(size);
+    }
+
+    private ValidationErrorColumnBuilder(final int size) {
+        super();
+        this.size = size;
+    }
+
+    /**
+     * Adds the errors for the value at the given index, indices must be added in ascending order.
+     */
+    ValidationErrorColumnBuilder<R> add(final int index,
+                                        final List<ValidationError<R>> errors) {
+        if (false == errors.isEmpty()) {
+            int[] indices = this.indices;
+            final int count = this.errors.size();
+
+            if (count == indices.length) {
+                indices = Arrays.copyOf(
+                    indices,
+                    Math.max(
+                        8,
+                        count * 2
+                    )
+                );
+                this.indices = indices;
+            }
+
+            indices[count] = index;
+            this.errors.add(errors);
+        }
+
+        return this;
+    }
+
+    ValidationErrorColumn<R> build() {
+        final List<List<ValidationError<R>>> errors = this.errors;
+
+        return ValidationErrorColumn.with(
+            this.size,
+            Arrays.copyOf(
+                this.indices,
+                errors.size()
+            ),
+            Lists.immutable(errors)
+        );
+    }
+
+    private final int size;
+
+    private int[] indices = new int[0];
+
+    private final List<List<ValidationError<R>>> errors = Lists.array();
+
+    @Override
+    public String toString() {
+        return this.build()
+            .toString();
+    }
+}
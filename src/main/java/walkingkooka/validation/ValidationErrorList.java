@@ -19,7 +19,6 @@ package walkingkooka.validation;
 
 import walkingkooka.Cast;
 import walkingkooka.collect.list.ImmutableListDefaults;
-import walkingkooka.collect.list.Lists;
 import walkingkooka.tree.json.JsonNode;
 import walkingkooka.tree.json.marshall.JsonNodeContext;
 import walkingkooka.tree.json.marshall.JsonNodeMarshallContext;
@@ -27,7 +26,6 @@ import walkingkooka.tree.json.marshall.JsonNodeUnmarshallContext;
 
 import java.util.AbstractList;
 import java.util.Collection;
-import java.util.List;
 import java.util.Objects;
 
 /**
@@ -48,21 +46,49 @@ public final class ValidationErrorList<T extends ValidationReference> extends Ab
         new ValidationError[0]
     );
 
+    /**
+     * Creates a {@link ValidationErrorListBuilder} which may be used to add many errors without copying.
+     */
+    public static <T extends ValidationReference> ValidationErrorListBuilder<T> builder() {
+        return ValidationErrorListBuilder.empty();
+    }
+
     // @VisibleForTesting
     ValidationErrorList(final ValidationError<T>[] errors) {
+        this(
+            errors,
+            errors.length,
+            false // truncated
+        );
+    }
+
+    /**
+     * Used by {@link ValidationErrorListBuilder#build()} which hands over its array, only the first size elements are
+     * used.
+     */
+    ValidationErrorList(final ValidationError<T>[] errors,
+                        final int size,
+                        final boolean truncated) {
         this.errors = errors;
+        this.size = size;
+        this.truncated = truncated;
     }
 
     @Override
     public ValidationError<T> get(final int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Invalid index " + index + " not between 0 and " + this.size);
+        }
         return this.errors[index];
     }
 
     @Override
     public int size() {
-        return this.errors.length;
+        return this.size;
     }
 
+    private final int size;
+
     @Override
     public void elementCheck(final ValidationError error) {
         Objects.requireNonNull(error, "error");
@@ -77,35 +103,43 @@ public final class ValidationErrorList<T extends ValidationReference> extends Ab
         if (errors instanceof ValidationErrorList) {
             validationErrorList = (ValidationErrorList<T>) errors;
         } else {
-            final List<ValidationError<T>> copy = Lists.array();
-            for (final ValidationError<T> error : errors) {
-                copy.add(
-                    Objects.requireNonNull(error, "includes null " + ValidationError.class.getSimpleName())
-                );
-            }
-
-            final int size = copy.size();
-            switch (size) {
-                case 0:
-                    validationErrorList = empty();
-                    break;
-                default:
-                    validationErrorList = new ValidationErrorList<>(
-                        copy.toArray(
-                            new ValidationError[size]
-                        )
-                    );
-                    break;
-            }
+            validationErrorList = ValidationErrorListBuilder.<T>with(errors.size())
+                .addAll(errors)
+                .build();
         }
 
-        return this.equals(validationErrorList) ?
+        return this.truncated == validationErrorList.truncated && this.equals(validationErrorList) ?
             this :
             validationErrorList;
     }
 
     private final ValidationError<T>[] errors;
 
+    // truncated........................................................................................................
+
+    /**
+     * When true more errors may exist, but validation stopped once enough errors were found. This is not part of
+     * equality, like any other {@link java.util.List}, and is not marshalled.
+     */
+    public boolean isTruncated() {
+        return this.truncated;
+    }
+
+    /**
+     * Would be setter that returns a {@link ValidationErrorList} with the given truncated flag, sharing the errors.
+     */
+    public ValidationErrorList<T> setTruncated(final boolean truncated) {
+        return this.truncated == truncated ?
+            this :
+            new ValidationErrorList<>(
+                this.errors,
+                this.size,
+                truncated
+            );
+    }
+
+    private final boolean truncated;
+
     // Json.............................................................................................................
 
     static <T extends ValidationReference> ValidationErrorList<T> unmarshall(final JsonNode node,
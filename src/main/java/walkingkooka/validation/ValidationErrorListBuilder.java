@@ -0,0 +1,166 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * A mutable builder that adds {@link ValidationError} to a growing array, avoiding the copy of each
+ * {@link ValidationErrorList#concat(Object)}. {@link #build()} hands the array to the {@link ValidationErrorList}
+ * without copying, and the builder is then empty and may be reused.
+ */
+public final class ValidationErrorListBuilder<T extends ValidationReference> {
+
+    /**
+     * The initial capacity of a builder created without a size hint.
+     */
+    final static int INITIAL_CAPACITY = 4;
+
+    static <T extends ValidationReference> ValidationErrorListBuilder<T> empty() {
+        return with(INITIAL_CAPACITY);
+    }
+
+    static <T extends ValidationReference> ValidationErrorListBuilder<T> with(final int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Invalid capacity " + capacity + " < 0");
+        }
+
+        return new ValidationErrorListBuilder<>(capacity);
+    }
+
+    private ValidationErrorListBuilder(final int capacity) {
+        super();
+        this.capacity = capacity;
+    }
+
+    /**
+     * Adds a single {@link ValidationError}.
+     */
+    public ValidationErrorListBuilder<T> add(final ValidationError<T> error) {
+        Objects.requireNonNull(error, "error");
+
+        this.add0(error);
+        return this;
+    }
+
+    /**
+     * Adds all the given {@link ValidationError}.
+     */
+    public ValidationErrorListBuilder<T> addAll(final Collection<ValidationError<T>> errors) {
+        Objects.requireNonNull(errors, "errors");
+
+        this.ensureCapacity(this.size + errors.size());
+
+        for (final ValidationError<T> error : errors) {
+            this.add0(
+                Objects.requireNonNull(error, "includes null " + ValidationError.class.getSimpleName())
+            );
+        }
+        return this;
+    }
+
+    private void add0(final ValidationError<T> error) {
+        final int size = this.size;
+        this.ensureCapacity(size + 1);
+
+        this.errors[size] = error;
+        this.size = size + 1;
+    }
+
+    /**
+     * Grows the array doubling its length, so adding many errors only copies each error a few times.
+     */
+    private void ensureCapacity(final int required) {
+        ValidationError<T>[] errors = this.errors;
+
+        if (null == errors) {
+            errors = new ValidationError[Math.max(this.capacity, required)];
+            this.errors = errors;
+        } else {
+            final int length = errors.length;
+            if (required > length) {
+                final ValidationError<T>[] grown = new ValidationError[Math.max(length * 2, required)];
+                System.arraycopy(errors, 0, grown, 0, this.size);
+                this.errors = grown;
+            }
+        }
+    }
+
+    /**
+     * The number of errors added since the last {@link #build()}.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return 0 == this.size;
+    }
+
+    /**
+     * Returns a {@link ValidationErrorList} with the added errors, handing over the array without copying. The builder is
+     * then empty.
+     */
+    public ValidationErrorList<T> build() {
+        final int size = this.size;
+
+        final ValidationErrorList<T> list = 0 == size ?
+            ValidationErrorList.empty() :
+            new ValidationErrorList<>(
+                this.errors,
+                size,
+                false // truncated
+            );
+
+        this.errors = null;
+        this.size = 0;
+
+        return list;
+    }
+
+    /**
+     * The length of the array when the first error is added.
+     */
+    private final int capacity;
+
+    /**
+     * Created when the first error is added, so builders that never have errors never allocate an array.
+     */
+    private ValidationError<T>[] errors;
+
+    private int size;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        final StringBuilder b = new StringBuilder();
+        b.append('[');
+
+        for (int i = 0; i < this.size; i++) {
+            if (i > 0) {
+                b.append(", ");
+            }
+            b.append(this.errors[i]);
+        }
+
+        return b.append(']')
+            .toString();
+    }
+}
@@ -50,6 +50,8 @@ public final class ValidationStartup implements PublicStaticHelper {
 
         ValueType.ANY_STRING.toString();
 
+        ValidatorMetricsSnapshot.EMPTY.toString();
+
         FormHandlerAliasSet.EMPTY.size();
         FormHandlerInfoSet.EMPTY.size();
         FormHandlerSelector.parse("hello");
@@ -17,7 +17,12 @@
 
 package walkingkooka.validation;
 
+import walkingkooka.tree.expression.ExpressionPurityContext;
+
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.IntFunction;
 
 /**
  * A validator accepts a value and potentially produces {@link ValidationError}.
@@ -30,6 +35,73 @@ public interface Validator<R extends ValidationReference, C extends ValidatorCon
     List<ValidationError<R>> validate(final Object value,
                                       final C context);
 
+    /**
+     * Tests if the value is valid, without returning any {@link ValidationError}. Validators should override this
+     * to avoid creating any {@link ValidationError} or lists.
+     */
+    default boolean isValid(final Object value,
+                            final C context) {
+        return this.validate(
+            value,
+            context
+        ).isEmpty();
+    }
+
+    /**
+     * Validates a column of values, the {@link IntFunction} returns the context for the value at each index. Only the
+     * errors of invalid values are kept. Validators should override this to prepare anything shared by every value once.
+     */
+    default ValidationErrorColumn<R> validateAll(final List<?> values,
+                                                 final IntFunction<C> contexts) {
+        Objects.requireNonNull(values, "values");
+        Objects.requireNonNull(contexts, "contexts");
+
+        final ValidationErrorColumnBuilder<R> errors = ValidationErrorColumnBuilder.with(values.size());
+
+        int i = 0;
+        for (final Object value : values) {
+            errors.add(
+                i,
+                this.validate(
+                    value,
+                    contexts.apply(i)
+                )
+            );
+            i++;
+        }
+
+        return errors.build();
+    }
+
+    /**
+     * Validates an array of values, see {@link #validateAll(List, IntFunction)}.
+     */
+    default ValidationErrorColumn<R> validateAll(final Object[] values,
+                                                 final IntFunction<C> contexts) {
+        return this.validateAll(
+            Arrays.asList(
+                Objects.requireNonNull(values, "values")
+            ),
+            contexts
+        );
+    }
+
+    /**
+     * The relative cost of this {@link Validator}, which defaults to {@link ValidatorCost#EXPENSIVE} so unknown
+     * validators are run last by an adaptive collection.
+     */
+    default ValidatorCost cost() {
+        return ValidatorCost.EXPENSIVE;
+    }
+
+    /**
+     * Pure validators always return the same errors for the same value and {@link ValidatorContext}, and may have their
+     * results cached or shared. This defaults to false, so unknown validators are never cached.
+     */
+    default boolean isPure(final ExpressionPurityContext context) {
+        return false;
+    }
+
     /**
      * Helper that may be used to return no errors.
      */
@@ -19,17 +19,46 @@ package walkingkooka.validation;
 
 import walkingkooka.Cast;
 import walkingkooka.collect.list.Lists;
+import walkingkooka.tree.expression.ExpressionPurityContext;
 
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A {@link Validator} that contains many other validators, and tries them until the error count exceeds the given {@link #maxErrors}.
+ * <br>
+ * An adaptive collection runs cheaper validators first using {@link Validator#cost()}, and validators with the same
+ * cost are periodically re-ordered so those that fail most often run earlier. A value is accepted by an adaptive
+ * collection only if every validator accepts it, which means the order never changes which values are accepted, but it
+ * may change which errors are reported when {@link #maxErrors} is reached.
  */
 final class ValidatorCollection<R extends ValidationReference, C extends ValidatorContext<R>> implements Validator<R, C> {
 
     static <R extends ValidationReference, C extends ValidatorContext<R>> ValidatorCollection<R, C> with(final int maxErrors,
                                                                                                          final List<Validator<R, C>> validators) {
+        return with(
+            maxErrors,
+            validators,
+            false // adaptive
+        );
+    }
+
+    static <R extends ValidationReference, C extends ValidatorContext<R>> ValidatorCollection<R, C> adaptive(final int maxErrors,
+                                                                                                             final List<Validator<R, C>> validators) {
+        return with(
+            maxErrors,
+            validators,
+            true // adaptive
+        );
+    }
+
+    private static <R extends ValidationReference, C extends ValidatorContext<R>> ValidatorCollection<R, C> with(final int maxErrors,
+                                                                                                                 final List<Validator<R, C>> validators,
+                                                                                                                 final boolean adaptive) {
         if (maxErrors <= 0) {
             throw new IllegalArgumentException("Invalid maxErrors " + maxErrors + " <= 0");
         }
@@ -38,12 +67,14 @@ final class ValidatorCollection<R extends ValidationReference, C extends Validat
             maxErrors,
             Lists.immutable(
                 Objects.requireNonNull(validators, "validators")
-            )
+            ),
+            adaptive
         );
     }
 
     private ValidatorCollection(final int maxErrors,
-                                final List<Validator<R, C>> validators) {
+                                final List<Validator<R, C>> validators,
+                                final boolean adaptive) {
         this.maxErrors = maxErrors;
 
         if (validators.isEmpty()) {
@@ -51,47 +82,338 @@ final class ValidatorCollection<R extends ValidationReference, C extends Validat
         }
 
         this.validators = validators;
+        this.adaptive = adaptive;
+
+        final int count = validators.size();
+
+        // statistics are only kept by an adaptive collection
+        if (adaptive) {
+            this.runs = counters(count);
+            this.failures = counters(count);
+            this.validations = new AtomicInteger();
+            this.order = this.computeOrder();
+        } else {
+            this.runs = null;
+            this.failures = null;
+            this.validations = null;
+
+            final int[] order = new int[count];
+            for (int i = 0; i < count; i++) {
+                order[i] = i;
+            }
+            this.order = order;
+        }
     }
 
+    /**
+     * Returns the unique errors of each validator, stopping once maxErrors is reached. The result is an immutable
+     * {@link ValidationErrorList}, like all other validators, previously a mutable list was returned and callers that
+     * modified the errors must now copy them first.
+     */
     @Override
     public List<ValidationError<R>> validate(final Object value,
                                              final C context) {
         Objects.requireNonNull(context, "context");
 
+        context.beginValidation();
+        try {
+            return this.validate0(
+                value,
+                context
+            );
+        } finally {
+            context.endValidation();
+        }
+    }
+
+    private List<ValidationError<R>> validate0(final Object value,
+                                               final C context) {
         final int maxErrors = this.maxErrors;
-        final List<ValidationError<R>> errors = Lists.array();
+        final List<Validator<R, C>> validators = this.validators;
+        final boolean adaptive = this.adaptive;
 
-        for (final Validator<R, C> validator : this.validators) {
-            final List<ValidationError<R>> newErrors = validator.validate(
+        // most validators return at most a single error, so this avoids growing for the common case
+        final ValidationErrorListBuilder<R> errors = ValidationErrorListBuilder.with(
+            Math.min(
+                maxErrors,
+                validators.size()
+            )
+        );
+
+        // created when the first error is added, so a valid value never allocates a set
+        Set<ValidationError<R>> unique = null;
+
+        for (final int i : this.order) {
+            final List<ValidationError<R>> newErrors = validators.get(i)
+                .validate(
+                    value,
+                    context
+                );
+
+            if (adaptive) {
+                this.record(
+                    i,
+                    false == newErrors.isEmpty()
+                );
+            }
+
+            if (false == newErrors.isEmpty()) {
+                if (null == unique) {
+                    unique = new HashSet<>();
+                }
+
+                for (final ValidationError<R> error : newErrors) {
+                    if (unique.add(error)) {
+                        errors.add(error);
+                    }
+                }
+
+                if (errors.size() >= maxErrors) {
+                    break;
+                }
+            }
+        }
+
+        if (adaptive) {
+            this.completed();
+        }
+
+        return errors.build();
+    }
+
+    /**
+     * Tests each validator until one is invalid, without creating any {@link ValidationError} for the built in
+     * validators.
+     */
+    @Override
+    public boolean isValid(final Object value,
+                           final C context) {
+        Objects.requireNonNull(context, "context");
+
+        context.beginValidation();
+        try {
+            return this.isValid0(
                 value,
                 context
             );
+        } finally {
+            context.endValidation();
+        }
+    }
 
-            for (final ValidationError<R> error : newErrors) {
-                if (false == errors.contains(error)) {
-                    errors.add(error);
-                }
+    private boolean isValid0(final Object value,
+                             final C context) {
+        final List<Validator<R, C>> validators = this.validators;
+        final boolean adaptive = this.adaptive;
+
+        boolean valid = true;
+
+        for (final int i : this.order) {
+            valid = validators.get(i)
+                .isValid(
+                    value,
+                    context
+                );
+
+            if (adaptive) {
+                this.record(
+                    i,
+                    false == valid
+                );
             }
 
-            if (errors.size() >= maxErrors) {
+            if (false == valid) {
                 break;
             }
         }
 
-        return errors;
+        if (adaptive) {
+            this.completed();
+        }
+
+        return valid;
     }
 
     private final int maxErrors;
 
     private final List<Validator<R, C>> validators;
 
+    // adaptive.........................................................................................................
+
+    /**
+     * The number of validations between each re-ordering of an adaptive collection.
+     */
+    // @VisibleForTesting
+    final static int REORDER_INTERVAL = 64;
+
+    /**
+     * Once any validator has run this many times all counts are halved, so recent failures count more than old failures.
+     */
+    private final static int DECAY_RUNS = 1 << 16;
+
+    private static AtomicInteger[] counters(final int count) {
+        final AtomicInteger[] counters = new AtomicInteger[count];
+        for (int i = 0; i < count; i++) {
+            counters[i] = new AtomicInteger();
+        }
+        return counters;
+    }
+
+    private void record(final int index,
+                        final boolean failed) {
+        this.runs[index].incrementAndGet();
+
+        if (failed) {
+            this.failures[index].incrementAndGet();
+        }
+    }
+
+    /**
+     * Counts the validation and periodically re-orders the validators, only the thread completing the validation at the
+     * interval re-orders.
+     */
+    private void completed() {
+        if (0 == this.validations.incrementAndGet() % REORDER_INTERVAL) {
+            this.order = this.computeOrder();
+        }
+    }
+
+    private static void halve(final AtomicInteger counter) {
+        int value;
+        do {
+            value = counter.get();
+        } while (false == counter.compareAndSet(value, value >> 1));
+    }
+
+    /**
+     * Sorts the validators by cost, then by observed failure rate, most failures first, then by declaration order.
+     */
+    private int[] computeOrder() {
+        final List<Validator<R, C>> validators = this.validators;
+        final AtomicInteger[] runCounters = this.runs;
+        final AtomicInteger[] failureCounters = this.failures;
+        final int count = validators.size();
+
+        final ValidatorCost[] costs = new ValidatorCost[count];
+        final Integer[] order = new Integer[count];
+        boolean decay = false;
+
+        for (int i = 0; i < count; i++) {
+            costs[i] = validators.get(i)
+                .cost();
+            order[i] = i;
+            decay |= runCounters[i].get() >= DECAY_RUNS;
+        }
+
+        if (decay) {
+            for (int i = 0; i < count; i++) {
+                halve(runCounters[i]);
+                halve(failureCounters[i]);
+            }
+        }
+
+        // a consistent copy of the counts while sorting
+        final int[] runs = new int[count];
+        final int[] failures = new int[count];
+        for (int i = 0; i < count; i++) {
+            runs[i] = runCounters[i].get();
+            failures[i] = failureCounters[i].get();
+        }
+
+        Arrays.sort(
+            order,
+            (l, r) -> {
+                int result = costs[l].compareTo(costs[r]);
+                if (0 == result) {
+                    // compares (failures + 1) / (runs + 2) without division, validators that never ran score half
+                    result = Long.compare(
+                        (failures[r] + 1L) * (runs[l] + 2L),
+                        (failures[l] + 1L) * (runs[r] + 2L)
+                    );
+                    if (0 == result) {
+                        result = Integer.compare(
+                            l,
+                            r
+                        );
+                    }
+                }
+                return result;
+            }
+        );
+
+        final int[] sorted = new int[count];
+        for (int i = 0; i < count; i++) {
+            sorted[i] = order[i];
+        }
+        return sorted;
+    }
+
+    /**
+     * When true validators are ordered by cost and failure rate, otherwise they run in declaration order.
+     */
+    private final boolean adaptive;
+
+    /**
+     * The indices of {@link #validators} in the order they are run. A new array replaces the old, so validations
+     * that are running concurrently continue with the order they started with.
+     */
+    private volatile int[] order;
+
+    /**
+     * Statistics used to order an adaptive collection, shared by all threads using this collection. These are null
+     * when the collection is not adaptive.
+     */
+    private final AtomicInteger[] runs;
+
+    private final AtomicInteger[] failures;
+
+    private final AtomicInteger validations;
+
+    // Validator........................................................................................................
+
+    /**
+     * The cost of the most expensive {@link Validator}.
+     */
+    @Override
+    public ValidatorCost cost() {
+        ValidatorCost cost = ValidatorCost.TRIVIAL;
+
+        for (final Validator<R, C> validator : this.validators) {
+            cost = cost.max(
+                validator.cost()
+            );
+        }
+
+        return cost;
+    }
+
+    /**
+     * A collection is only pure if all its validators are pure. An adaptive collection is never pure, because once
+     * {@link #maxErrors} is reached the errors it returns depend on the order learnt from earlier validations.
+     */
+    @Override
+    public boolean isPure(final ExpressionPurityContext context) {
+        if (this.adaptive) {
+            return false;
+        }
+
+        for (final Validator<R, C> validator : this.validators) {
+            if (false == validator.isPure(context)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     // Object...........................................................................................................
 
     @Override
     public int hashCode() {
         return Objects.hash(
             this.maxErrors,
-            this.validators
+            this.validators,
+            this.adaptive
         );
     }
 
@@ -104,11 +426,12 @@ final class ValidatorCollection<R extends ValidationReference, C extends Validat
 
     private boolean equals0(final ValidatorCollection<?, ?> other) {
         return this.maxErrors == other.maxErrors &&
-            this.validators.equals(other.validators);
+            this.validators.equals(other.validators) &&
+            this.adaptive == other.adaptive;
     }
 
     @Override
     public String toString() {
-        return "" + this.maxErrors + " " + this.validators;
+        return (this.adaptive ? "adaptive " : "") + this.maxErrors + " " + this.validators;
     }
 }
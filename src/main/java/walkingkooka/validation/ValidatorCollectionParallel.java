@@ -0,0 +1,382 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import walkingkooka.Cast;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.tree.expression.ExpressionPurityContext;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * A {@link Validator} that runs all its validators concurrently using the given {@link Executor}, the first validator
+ * is run by the calling thread, as is any validator the {@link Executor} has not yet started when its errors are
+ * merged. Errors are merged in declaration order, once {@link #maxErrors} is reached, validators that have not
+ * completed are cancelled, which means the errors are always the same as {@link ValidatorCollection}.
+ * <br>
+ * The {@link ValidatorContext} is shared by all validators and must support being used by many threads. Validators
+ * that are running when cancelled are interrupted, and a validation only returns once they have finished, so the
+ * {@link ValidatorContext} is never used after {@link ValidatorContext#endValidation()}.
+ * <br>
+ * This is not available to J2CL or GWT, which do not support threads.
+ */
+final class ValidatorCollectionParallel<R extends ValidationReference, C extends ValidatorContext<R>> implements Validator<R, C> {
+
+    static <R extends ValidationReference, C extends ValidatorContext<R>> ValidatorCollectionParallel<R, C> with(final int maxErrors,
+                                                                                                                 final List<Validator<R, C>> validators,
+                                                                                                                 final Executor executor) {
+        if (maxErrors <= 0) {
+            throw new IllegalArgumentException("Invalid maxErrors " + maxErrors + " <= 0");
+        }
+
+        return new ValidatorCollectionParallel<>(
+            maxErrors,
+            Lists.immutable(
+                Objects.requireNonNull(validators, "validators")
+            ),
+            Objects.requireNonNull(executor, "executor")
+        );
+    }
+
+    private ValidatorCollectionParallel(final int maxErrors,
+                                        final List<Validator<R, C>> validators,
+                                        final Executor executor) {
+        this.maxErrors = maxErrors;
+
+        if (validators.isEmpty()) {
+            throw new IllegalArgumentException("Empty validators");
+        }
+
+        this.validators = validators;
+        this.executor = executor;
+    }
+
+    @Override
+    public List<ValidationError<R>> validate(final Object value,
+                                             final C context) {
+        Objects.requireNonNull(context, "context");
+
+        context.beginValidation();
+        try {
+            return this.validate0(
+                value,
+                context
+            );
+        } finally {
+            context.endValidation();
+        }
+    }
+
+    private List<ValidationError<R>> validate0(final Object value,
+                                               final C context) {
+        final int maxErrors = this.maxErrors;
+        final List<Validator<R, C>> validators = this.validators;
+        final int count = validators.size();
+
+        final List<ValidatorCollectionParallelTask<List<ValidationError<R>>>> tasks = this.submit(
+            (v) -> v.validate(
+                value,
+                context
+            )
+        );
+
+        final ValidationErrorListBuilder<R> errors = ValidationErrorListBuilder.with(
+            Math.min(
+                maxErrors,
+                count
+            )
+        );
+        Set<ValidationError<R>> unique = null;
+
+        try {
+            for (int i = 0; i < count; i++) {
+                final List<ValidationError<R>> newErrors = 0 == i ?
+                    validators.get(0)
+                        .validate(
+                            value,
+                            context
+                        ) :
+                    this.get(tasks.get(i - 1));
+
+                if (false == newErrors.isEmpty()) {
+                    if (null == unique) {
+                        unique = new HashSet<>();
+                    }
+
+                    for (final ValidationError<R> error : newErrors) {
+                        if (unique.add(error)) {
+                            errors.add(error);
+                        }
+                    }
+
+                    if (errors.size() >= maxErrors) {
+                        break;
+                    }
+                }
+            }
+        } finally {
+            cancel(tasks);
+        }
+
+        return errors.build();
+    }
+
+    /**
+     * Tests all validators concurrently, cancelling those that have not completed once a validator is invalid.
+     */
+    @Override
+    public boolean isValid(final Object value,
+                           final C context) {
+        Objects.requireNonNull(context, "context");
+
+        context.beginValidation();
+        try {
+            return this.isValid0(
+                value,
+                context
+            );
+        } finally {
+            context.endValidation();
+        }
+    }
+
+    private boolean isValid0(final Object value,
+                             final C context) {
+        final List<Validator<R, C>> validators = this.validators;
+        final int count = validators.size();
+
+        final List<ValidatorCollectionParallelTask<Boolean>> tasks = this.submit(
+            (v) -> v.isValid(
+                value,
+                context
+            )
+        );
+
+        boolean valid = true;
+
+        try {
+            for (int i = 0; valid && i < count; i++) {
+                valid = 0 == i ?
+                    validators.get(0)
+                        .isValid(
+                            value,
+                            context
+                        ) :
+                    this.get(tasks.get(i - 1));
+            }
+        } finally {
+            cancel(tasks);
+        }
+
+        return valid;
+    }
+
+    /**
+     * Submits a task for every validator except the first, which will be run by the calling thread.
+     */
+    private <T> List<ValidatorCollectionParallelTask<T>> submit(final Function<Validator<R, C>, T> task) {
+        final List<Validator<R, C>> validators = this.validators;
+        final int count = validators.size();
+        final Executor executor = this.executor;
+
+        final List<ValidatorCollectionParallelTask<T>> tasks = new ArrayList<>(count - 1);
+
+        for (int i = 1; i < count; i++) {
+            final Validator<R, C> validator = validators.get(i);
+            final ValidatorCollectionParallelTask<T> futureTask = new ValidatorCollectionParallelTask<>(
+                () -> task.apply(validator)
+            );
+            tasks.add(futureTask);
+            executor.execute(futureTask);
+        }
+
+        return tasks;
+    }
+
+    /**
+     * Runs the task on the calling thread if the {@link Executor} has not started it, then waits for it to complete,
+     * rethrowing any exception thrown by the {@link Validator}. Running unstarted tasks here means a validation never
+     * waits on tasks queued behind it, so nesting within a pool such as the common {@link java.util.concurrent.ForkJoinPool}
+     * cannot starve or deadlock. {@link FutureTask#run()} does nothing when the task has already started.
+     */
+    private <T> T get(final FutureTask<T> task) {
+        task.run();
+
+        try {
+            return task.get();
+        } catch (final ExecutionException cause) {
+            final Throwable thrown = cause.getCause();
+            if (thrown instanceof RuntimeException) {
+                throw (RuntimeException) thrown;
+            }
+            if (thrown instanceof Error) {
+                throw (Error) thrown;
+            }
+            throw new IllegalStateException(thrown);
+        } catch (final CancellationException cause) {
+            throw new IllegalStateException("Validator cancelled", cause);
+        } catch (final InterruptedException cause) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while validating", cause);
+        }
+    }
+
+    /**
+     * Cancels any tasks that have not completed, tasks that are running are interrupted, then waits for the running
+     * tasks to return, so no {@link Validator} uses the {@link ValidatorContext} after the validation has ended.
+     */
+    private static void cancel(final List<? extends ValidatorCollectionParallelTask<?>> tasks) {
+        for (final ValidatorCollectionParallelTask<?> task : tasks) {
+            task.cancel(true);
+        }
+
+        boolean interrupted = false;
+        for (final ValidatorCollectionParallelTask<?> task : tasks) {
+            interrupted |= task.awaitFinished();
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * A {@link FutureTask} that remembers if it was started, so a cancelled task may be waited upon until its
+     * {@link Validator} returns, {@link FutureTask#get()} throws as soon as a task is cancelled.
+     */
+    private static final class ValidatorCollectionParallelTask<T> extends FutureTask<T> {
+
+        ValidatorCollectionParallelTask(final Callable<T> callable) {
+            super(callable);
+        }
+
+        @Override
+        public void run() {
+            if (this.started.compareAndSet(false, true)) {
+                try {
+                    super.run();
+                } finally {
+                    this.finished.countDown();
+                }
+            }
+        }
+
+        /**
+         * Waits until a started task has returned, returning true if the waiting thread was interrupted.
+         */
+        boolean awaitFinished() {
+            boolean interrupted = false;
+
+            if (this.started.get()) {
+                for (;;) {
+                    try {
+                        this.finished.await();
+                        break;
+                    } catch (final InterruptedException cause) {
+                        interrupted = true;
+                    }
+                }
+            }
+
+            return interrupted;
+        }
+
+        private final AtomicBoolean started = new AtomicBoolean();
+
+        private final CountDownLatch finished = new CountDownLatch(1);
+    }
+
+    private final int maxErrors;
+
+    private final List<Validator<R, C>> validators;
+
+    private final Executor executor;
+
+    // Validator........................................................................................................
+
+    /**
+     * The cost of the most expensive {@link Validator}.
+     */
+    @Override
+    public ValidatorCost cost() {
+        ValidatorCost cost = ValidatorCost.TRIVIAL;
+
+        for (final Validator<R, C> validator : this.validators) {
+            cost = cost.max(
+                validator.cost()
+            );
+        }
+
+        return cost;
+    }
+
+    /**
+     * A collection is only pure if all its validators are pure.
+     */
+    @Override
+    public boolean isPure(final ExpressionPurityContext context) {
+        for (final Validator<R, C> validator : this.validators) {
+            if (false == validator.isPure(context)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            this.maxErrors,
+            this.validators,
+            this.executor
+        );
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            other instanceof ValidatorCollectionParallel &&
+                this.equals0(Cast.to(other));
+    }
+
+    private boolean equals0(final ValidatorCollectionParallel<?, ?> other) {
+        return this.maxErrors == other.maxErrors &&
+            this.validators.equals(other.validators) &&
+            this.executor.equals(other.executor);
+    }
+
+    @Override
+    public String toString() {
+        return "parallel " + this.maxErrors + " " + this.validators;
+    }
+}
@@ -27,6 +27,10 @@ import java.util.Optional;
 
 /**
  * {@link walkingkooka.Context} that accompanies a {@link Validator} during validation.
+ * <br>
+ * Several validators may convert the same value to the same type, eg text. Between {@link #beginValidation()} and
+ * {@link #endValidation()} implementations may remember the most recent conversion of a value instance, see
+ * {@link ValidatorContexts#basic}, but must never share a conversion between values or validations.
  */
 public interface ValidatorContext<T extends ValidationReference> extends ConverterLike,
     EnvironmentContext {
@@ -58,6 +62,49 @@ public interface ValidatorContext<T extends ValidationReference> extends Convert
         );
     }
 
+    /**
+     * Returns a {@link ValidationError} from {@link #validationError()} with the given message.
+     */
+    default ValidationError<T> validationError(final String message) {
+        return this.validationError()
+            .setMessage(message);
+    }
+
+    /**
+     * Returns a {@link ValidationError} from {@link #validationError(String)} with the given message and value.
+     */
+    default ValidationError<T> validationError(final String message,
+                                               final Optional<Object> value) {
+        return this.validationError(message)
+            .setValue(value);
+    }
+
+    /**
+     * Called by a {@link Validator} that runs several validators with the same value, eg {@link Validators#collection},
+     * before the first validator. Calls may nest, when a collection contains another collection. By default nothing
+     * happens.
+     */
+    default void beginValidation() {
+        // nop
+    }
+
+    /**
+     * Called once every validator started after {@link #beginValidation()} has returned. When the top level validation
+     * ends any remembered conversions must be forgotten, as the value, converter or environment may change before the
+     * next validation.
+     */
+    default void endValidation() {
+        // nop
+    }
+
+    /**
+     * The {@link ValidatorMetrics} that receives the outcome of each {@link Validator} invocation, by default nothing
+     * is recorded.
+     */
+    default ValidatorMetrics validatorMetrics() {
+        return NoValidatorMetrics.INSTANCE;
+    }
+
     /**
      * Factory that returns a {@link Validator} for the given {@link ValidatorSelector}.
      */
@@ -24,6 +24,8 @@ import walkingkooka.environment.EnvironmentContextDelegator;
 import walkingkooka.tree.expression.ExpressionEvaluationContext;
 import walkingkooka.validation.provider.ValidatorSelector;
 
+import java.util.Optional;
+
 public interface ValidatorContextDelegator<T extends ValidationReference> extends ValidatorContext<T>,
     ConverterLikeDelegator,
     EnvironmentContextDelegator {
@@ -38,12 +40,46 @@ public interface ValidatorContextDelegator<T extends ValidationReference> extend
             .validationReference();
     }
 
+    @Override
+    default ValidationError<T> validationError(final String message) {
+        return this.validatorContext()
+            .validationError(message);
+    }
+
+    @Override
+    default ValidationError<T> validationError(final String message,
+                                               final Optional<Object> value) {
+        return this.validatorContext()
+            .validationError(
+                message,
+                value
+            );
+    }
+
     @Override
     default Validator<T, ? super ValidatorContext<T>> validator(final ValidatorSelector selector) {
         return this.validatorContext()
             .validator(selector);
     }
 
+    @Override
+    default void beginValidation() {
+        this.validatorContext()
+            .beginValidation();
+    }
+
+    @Override
+    default void endValidation() {
+        this.validatorContext()
+            .endValidation();
+    }
+
+    @Override
+    default ValidatorMetrics validatorMetrics() {
+        return this.validatorContext()
+            .validatorMetrics();
+    }
+
     @Override
     default ExpressionEvaluationContext expressionEvaluationContext(final Object value) {
         return this.validatorContext()
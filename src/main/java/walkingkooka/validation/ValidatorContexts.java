@@ -55,6 +55,31 @@ public final class ValidatorContexts implements PublicStaticHelper {
         );
     }
 
+    /**
+     * {@see BasicValidatorContext}
+     */
+    public static <T extends ValidationReference> ValidatorContext<T> basic(final T validationReference,
+                                                                            final Function<ValidatorSelector, Validator<T, ? super ValidatorContext<T>>> validatorSelectorToValidator,
+                                                                            final BiFunction<Object, T, ExpressionEvaluationContext> referenceToExpressionEvaluationContext,
+                                                                            final ConverterLike converterLike,
+                                                                            final EnvironmentContext environmentContext,
+                                                                            final ValidatorMetrics validatorMetrics) {
+        return BasicValidatorContext.with(
+            validationReference,
+            validatorSelectorToValidator,
+            referenceToExpressionEvaluationContext,
+            converterLike,
+            environmentContext
+        ).setValidatorMetrics(validatorMetrics);
+    }
+
+    /**
+     * {@see BasicValidatorMetrics}
+     */
+    public static ValidatorMetrics basicMetrics() {
+        return BasicValidatorMetrics.empty();
+    }
+
     /**
      * {@see FakeValidatorContext}
      */
@@ -62,6 +87,13 @@ public final class ValidatorContexts implements PublicStaticHelper {
         return new FakeValidatorContext<>();
     }
 
+    /**
+     * {@see NoValidatorMetrics}
+     */
+    public static ValidatorMetrics noMetrics() {
+        return NoValidatorMetrics.INSTANCE;
+    }
+
     /**
      * Stop creation
      */
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+/**
+ * The relative cost of running a {@link Validator}, cheaper validators are run first by an adaptive collection.
+ */
+public enum ValidatorCost {
+
+    /**
+     * The value is tested without being converted, eg non-null.
+     */
+    TRIVIAL,
+
+    /**
+     * The value is converted and a single property is tested, eg text length.
+     */
+    CHEAP,
+
+    /**
+     * Every character of the value is tested, eg text masks and email addresses.
+     */
+    MODERATE,
+
+    /**
+     * An {@link walkingkooka.tree.expression.Expression} or unknown logic is executed.
+     */
+    EXPENSIVE;
+
+    /**
+     * Returns the most expensive of the two costs.
+     */
+    public ValidatorCost max(final ValidatorCost other) {
+        return this.compareTo(other) >= 0 ?
+            this :
+            other;
+    }
+}
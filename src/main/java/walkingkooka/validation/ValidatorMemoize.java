@@ -0,0 +1,354 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import walkingkooka.Cast;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.tree.expression.ExpressionFunctionName;
+import walkingkooka.tree.expression.ExpressionPurityContext;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A {@link Validator} that caches the errors of a pure {@link Validator} keyed by text. Cached errors are rebound to
+ * the {@link ValidationReference} of the caller using {@link ValidatorContext#validationError()}, so cells with equal
+ * text share one validation. Validators that are not pure, when every function is treated as impure, are always
+ * called and never cached.
+ * <br>
+ * Only {@link CharSequence} values are cached, as text converts to text with any converter. Other values including
+ * null are always validated, because validators convert them using the converter, locale and environment of the
+ * {@link ValidatorContext}, which may differ between callers.
+ * <br>
+ * Large caches are split into stripes each with its own lock, and each stripe evicts its least recently used value when
+ * full. Validation of a value that is not cached happens outside any lock.
+ */
+final class ValidatorMemoize<R extends ValidationReference, C extends ValidatorContext<R>> implements Validator<R, C> {
+
+    /**
+     * The maximum number of stripes.
+     */
+    final static int STRIPES = 16;
+
+    /**
+     * Small caches use fewer stripes, so each stripe holds at least this many values.
+     */
+    final static int MIN_STRIPE_ENTRIES = 64;
+
+    static <R extends ValidationReference, C extends ValidatorContext<R>> ValidatorMemoize<R, C> with(final Validator<R, C> validator,
+                                                                                                      final int maxEntries) {
+        Objects.requireNonNull(validator, "validator");
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Invalid maxEntries " + maxEntries + " <= 0");
+        }
+
+        return new ValidatorMemoize<>(
+            validator,
+            maxEntries
+        );
+    }
+
+    private ValidatorMemoize(final Validator<R, C> validator,
+                             final int maxEntries) {
+        super();
+        this.validator = validator;
+        this.maxEntries = maxEntries;
+        this.pure = validator.isPure(IMPURE_FUNCTIONS);
+
+        final int count = Math.max(
+            1,
+            Math.min(
+                STRIPES,
+                maxEntries / MIN_STRIPE_ENTRIES
+            )
+        );
+        final int maxStripeEntries = (maxEntries + count - 1) / count;
+
+        final Stripe[] stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe(maxStripeEntries);
+        }
+        this.stripes = stripes;
+    }
+
+    // Validator........................................................................................................
+
+    @Override
+    public List<ValidationError<R>> validate(final Object value,
+                                             final C context) {
+        Objects.requireNonNull(context, "context");
+
+        if (false == this.isCacheable(value)) {
+            return this.validator.validate(
+                value,
+                context
+            );
+        }
+
+        final String key = value.toString();
+        final Stripe stripe = this.stripe(key);
+
+        List<ValidationError<R>> errors = Cast.to(
+            stripe.getOrCount(key)
+        );
+        if (null == errors) {
+            errors = this.validator.validate(
+                value,
+                context
+            );
+            stripe.cache(
+                key,
+                Lists.immutable(errors)
+            );
+        } else {
+            errors = rebind(
+                errors,
+                context
+            );
+        }
+
+        return errors;
+    }
+
+    @Override
+    public boolean isValid(final Object value,
+                           final C context) {
+        Objects.requireNonNull(context, "context");
+
+        if (false == this.isCacheable(value)) {
+            return this.validator.isValid(
+                value,
+                context
+            );
+        }
+
+        final String key = value.toString();
+        final Stripe stripe = this.stripe(key);
+
+        List<ValidationError<R>> errors = Cast.to(
+            stripe.getOrCount(key)
+        );
+        if (null == errors) {
+            errors = this.validator.validate(
+                value,
+                context
+            );
+            stripe.cache(
+                key,
+                Lists.immutable(errors)
+            );
+        }
+
+        return errors.isEmpty();
+    }
+
+    @Override
+    public ValidatorCost cost() {
+        return this.validator.cost();
+    }
+
+    @Override
+    public boolean isPure(final ExpressionPurityContext context) {
+        return this.validator.isPure(context);
+    }
+
+    /**
+     * Copies the message and value of each cached error to an error with the {@link ValidationReference} of the context.
+     */
+    private static <R extends ValidationReference> List<ValidationError<R>> rebind(final List<ValidationError<R>> errors,
+                                                                                   final ValidatorContext<R> context) {
+        final List<ValidationError<R>> rebound;
+        if (errors.isEmpty()) {
+            rebound = context.validationErrorList();
+        } else {
+            final ValidationErrorListBuilder<R> copy = ValidationErrorListBuilder.with(errors.size());
+
+            final ValidationError<R> error = context.validationError();
+            for (final ValidationError<R> cached : errors) {
+                copy.add(
+                    error.setMessage(cached.message())
+                        .setValue(cached.value())
+                );
+            }
+            rebound = copy.build();
+        }
+
+        return rebound;
+    }
+
+    /**
+     * Only text given to a pure {@link Validator} is cached, the text is the key.
+     */
+    private boolean isCacheable(final Object value) {
+        return this.pure &&
+            value instanceof CharSequence;
+    }
+
+    private Stripe stripe(final String key) {
+        final Stripe[] stripes = this.stripes;
+
+        // spread the high bits so values with similar hash codes use different stripes
+        final int hash = key.hashCode();
+        return stripes[((hash ^ (hash >>> 16)) & 0x7fffffff) % stripes.length];
+    }
+
+    private final Validator<R, C> validator;
+
+    private final int maxEntries;
+
+    /**
+     * When false the {@link #validator} is always called and nothing is cached.
+     */
+    private final boolean pure;
+
+    /**
+     * The functions available when validating are unknown, so purity is tested with every function impure.
+     */
+    private final static ExpressionPurityContext IMPURE_FUNCTIONS = new ExpressionPurityContext() {
+        @Override
+        public boolean isPure(final ExpressionFunctionName name) {
+            return false;
+        }
+    };
+
+    private final Stripe[] stripes;
+
+    // stats............................................................................................................
+
+    int size() {
+        int size = 0;
+        for (final Stripe stripe : this.stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    long hits() {
+        long hits = 0;
+        for (final Stripe stripe : this.stripes) {
+            synchronized (stripe) {
+                hits += stripe.hits;
+            }
+        }
+        return hits;
+    }
+
+    long misses() {
+        long misses = 0;
+        for (final Stripe stripe : this.stripes) {
+            synchronized (stripe) {
+                misses += stripe.misses;
+            }
+        }
+        return misses;
+    }
+
+    long evictions() {
+        long evictions = 0;
+        for (final Stripe stripe : this.stripes) {
+            synchronized (stripe) {
+                evictions += stripe.evictions;
+            }
+        }
+        return evictions;
+    }
+
+    /**
+     * A least recently used map of values to errors, with all access synchronized on the stripe.
+     */
+    private final static class Stripe extends LinkedHashMap<Object, List<?>> {
+
+        Stripe(final int maxEntries) {
+            super(
+                16,
+                0.75f,
+                true // access order
+            );
+            this.maxEntries = maxEntries;
+        }
+
+        synchronized List<?> getOrCount(final Object key) {
+            final List<?> errors = this.get(key);
+            if (null != errors) {
+                this.hits++;
+            } else {
+                this.misses++;
+            }
+            return errors;
+        }
+
+        synchronized void cache(final Object key,
+                                final List<?> errors) {
+            // another thread may have validated the same value, keep the first
+            if (false == this.containsKey(key)) {
+                this.put(
+                    key,
+                    errors
+                );
+            }
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Object, List<?>> eldest) {
+            final boolean remove = this.size() > this.maxEntries;
+            if (remove) {
+                this.evictions++;
+            }
+            return remove;
+        }
+
+        private final int maxEntries;
+
+        long hits;
+
+        long misses;
+
+        long evictions;
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            this.validator,
+            this.maxEntries
+        );
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            other instanceof ValidatorMemoize &&
+                this.equals0(Cast.to(other));
+    }
+
+    private boolean equals0(final ValidatorMemoize<?, ?> other) {
+        return this.maxEntries == other.maxEntries &&
+            this.validator.equals(other.validator);
+    }
+
+    @Override
+    public String toString() {
+        return "memoize " + this.maxEntries + " " + this.validator;
+    }
+}
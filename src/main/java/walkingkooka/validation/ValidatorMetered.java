@@ -0,0 +1,206 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.validation;
+
+import walkingkooka.Cast;
+import walkingkooka.tree.expression.ExpressionPurityContext;
+import walkingkooka.validation.provider.ValidatorSelector;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntFunction;
+
+/**
+ * A {@link Validator} that records every invocation of the wrapped {@link Validator} with the
+ * {@link ValidatorContext#validatorMetrics()} of the caller, using the given {@link ValidatorSelector}. Nothing is timed
+ * when the metrics are not {@link ValidatorMetrics#isRecording()}. An invalid {@link #isValid(Object, ValidatorContext)}
+ * is recorded as a single error.
+ */
+final class ValidatorMetered<R extends ValidationReference, C extends ValidatorContext<R>> implements Validator<R, C> {
+
+    static <R extends ValidationReference, C extends ValidatorContext<R>> Validator<R, C> with(final ValidatorSelector selector,
+                                                                                               final Validator<R, C> validator) {
+        Objects.requireNonNull(selector, "selector");
+        Objects.requireNonNull(validator, "validator");
+
+        // never record the same invocation twice
+        return validator instanceof ValidatorMetered && selector.equals(((ValidatorMetered<?, ?>) validator).selector) ?
+            validator :
+            new ValidatorMetered<>(
+                selector,
+                validator
+            );
+    }
+
+    private ValidatorMetered(final ValidatorSelector selector,
+                             final Validator<R, C> validator) {
+        super();
+        this.selector = selector;
+        this.validator = validator;
+    }
+
+    // Validator........................................................................................................
+
+    @Override
+    public List<ValidationError<R>> validate(final Object value,
+                                             final C context) {
+        Objects.requireNonNull(context, "context");
+
+        final ValidatorMetrics metrics = context.validatorMetrics();
+        final List<ValidationError<R>> errors;
+
+        if (metrics.isRecording()) {
+            final long start = System.nanoTime();
+
+            errors = this.validator.validate(
+                value,
+                context
+            );
+
+            metrics.record(
+                this.selector,
+                System.nanoTime() - start,
+                errors.size()
+            );
+        } else {
+            errors = this.validator.validate(
+                value,
+                context
+            );
+        }
+
+        return errors;
+    }
+
+    @Override
+    public boolean isValid(final Object value,
+                           final C context) {
+        Objects.requireNonNull(context, "context");
+
+        final ValidatorMetrics metrics = context.validatorMetrics();
+        final boolean valid;
+
+        if (metrics.isRecording()) {
+            final long start = System.nanoTime();
+
+            valid = this.validator.isValid(
+                value,
+                context
+            );
+
+            metrics.record(
+                this.selector,
+                System.nanoTime() - start,
+                valid ? 0 : 1
+            );
+        } else {
+            valid = this.validator.isValid(
+                value,
+                context
+            );
+        }
+
+        return valid;
+    }
+
+    /**
+     * The values are validated by the wrapped {@link Validator} as a single batch, which may be faster than one value
+     * at a time. The batch is timed as a whole, and each value is recorded with the metrics of the first context, an
+     * equal share of the time and its own errors.
+     */
+    @Override
+    public ValidationErrorColumn<R> validateAll(final List<?> values,
+                                                final IntFunction<C> contexts) {
+        Objects.requireNonNull(values, "values");
+        Objects.requireNonNull(contexts, "contexts");
+
+        final int count = values.size();
+        final ValidatorMetrics metrics = count > 0 ?
+            contexts.apply(0)
+                .validatorMetrics() :
+            NoValidatorMetrics.INSTANCE;
+        final ValidationErrorColumn<R> errors;
+
+        if (metrics.isRecording()) {
+            final long start = System.nanoTime();
+
+            errors = this.validator.validateAll(
+                values,
+                contexts
+            );
+
+            final long nanos = (System.nanoTime() - start) / count;
+            for (int i = 0; i < count; i++) {
+                metrics.record(
+                    this.selector,
+                    nanos,
+                    errors.errors(i)
+                        .size()
+                );
+            }
+        } else {
+            errors = this.validator.validateAll(
+                values,
+                contexts
+            );
+        }
+
+        return errors;
+    }
+
+    @Override
+    public ValidatorCost cost() {
+        return this.validator.cost();
+    }
+
+    @Override
+    public boolean isPure(final ExpressionPurityContext context) {
+        return this.validator.isPure(context);
+    }
+
+    private final ValidatorSelector selector;
+
+    // @VisibleForTesting
+    final Validator<R, C> validator;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            this.selector,
+            this.validator
+        );
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            other instanceof ValidatorMetered &&
+                this.equals0(Cast.to(other));
+    }
+
+    private boolean equals0(final ValidatorMetered<?, ?> other) {
+        return this.selector.equals(other.selector) &&
+            this.validator.equals(other.validator);
+    }
+
+    @Override
+    public String toString() {
+        return this.validator.toString();
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import walkingkooka.validation.provider.ValidatorName;
+import walkingkooka.validation.provider.ValidatorSelector;
+
+/**
+ * A SPI carried by a {@link ValidatorContext} that receives the outcome of every {@link Validator} invocation, so the
+ * cost of individual validators can be measured. Metrics are kept per {@link ValidatorSelector} and per
+ * {@link ValidatorName}.
+ * <br>
+ * {@link #record(ValidatorSelector, long, int)} is called for every validation and must be cheap.
+ */
+public interface ValidatorMetrics {
+
+    /**
+     * Records a single {@link Validator} invocation that took the given nanos and returned the given number of errors.
+     * An invocation returning one or more errors is counted as a failure.
+     */
+    void record(final ValidatorSelector selector,
+                final long nanos,
+                final int errorCount);
+
+    /**
+     * When false {@link #record(ValidatorSelector, long, int)} ignores everything, so callers may skip timing.
+     */
+    default boolean isRecording() {
+        return true;
+    }
+
+    /**
+     * Returns an immutable copy of the metrics gathered so far.
+     */
+    ValidatorMetricsSnapshot snapshot();
+}
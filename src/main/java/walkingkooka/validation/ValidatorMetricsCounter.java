@@ -0,0 +1,127 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The mutable counters for a single {@link walkingkooka.validation.provider.ValidatorSelector} or
+ * {@link walkingkooka.validation.provider.ValidatorName}. Latencies are counted in power of two buckets, where bucket
+ * N holds durations less than 2^N nanos, giving a fixed size histogram with a bounded relative error.
+ * <br>
+ * Every counter and bucket is a separate atomic, so recording never locks. A snapshot taken while other threads record
+ * may be mid way through a record, eg counting an invocation before its latency.
+ */
+final class ValidatorMetricsCounter {
+
+    /**
+     * A bucket for zero and one for each bit of a positive long.
+     */
+    final static int BUCKET_COUNT = 64;
+
+    /**
+     * Returns the histogram bucket for the given nanos, negative durations are treated as zero.
+     */
+    static int bucket(final long nanos) {
+        return nanos <= 0 ?
+            0 :
+            64 - Long.numberOfLeadingZeros(nanos);
+    }
+
+    ValidatorMetricsCounter() {
+        super();
+    }
+
+    void record(final long nanos,
+                final int errorCount) {
+        final long duration = Math.max(
+            0,
+            nanos
+        );
+
+        this.invocations.incrementAndGet();
+        if (errorCount > 0) {
+            this.failures.incrementAndGet();
+            this.errors.addAndGet(errorCount);
+        }
+        this.totalNanos.addAndGet(duration);
+
+        final AtomicLong maxNanos = this.maxNanos;
+        long max;
+        do {
+            max = maxNanos.get();
+        } while (duration > max && false == maxNanos.compareAndSet(max, duration));
+
+        this.buckets[bucket(duration)].incrementAndGet();
+    }
+
+    ValidatorMetricsSnapshotEntry snapshot() {
+        final long[] buckets = new long[BUCKET_COUNT];
+        int last = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            final long count = this.buckets[i].get();
+            buckets[i] = count;
+            if (0 != count) {
+                last = i + 1;
+            }
+        }
+
+        final Long[] histogram = new Long[last];
+        for (int i = 0; i < last; i++) {
+            histogram[i] = buckets[i];
+        }
+
+        return ValidatorMetricsSnapshotEntry.with(
+            this.invocations.get(),
+            this.failures.get(),
+            this.errors.get(),
+            this.totalNanos.get(),
+            this.maxNanos.get(),
+            Arrays.asList(histogram)
+        );
+    }
+
+    private final AtomicLong invocations = new AtomicLong();
+
+    private final AtomicLong failures = new AtomicLong();
+
+    private final AtomicLong errors = new AtomicLong();
+
+    private final AtomicLong totalNanos = new AtomicLong();
+
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    private final AtomicLong[] buckets = buckets();
+
+    private static AtomicLong[] buckets() {
+        final AtomicLong[] buckets = new AtomicLong[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new AtomicLong();
+        }
+        return buckets;
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.snapshot()
+            .toString();
+    }
+}
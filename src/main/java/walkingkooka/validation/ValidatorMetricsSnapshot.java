@@ -0,0 +1,221 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.JsonObject;
+import walkingkooka.tree.json.JsonPropertyName;
+import walkingkooka.tree.json.marshall.JsonNodeContext;
+import walkingkooka.tree.json.marshall.JsonNodeMarshallContext;
+import walkingkooka.tree.json.marshall.JsonNodeUnmarshallContext;
+import walkingkooka.validation.provider.ValidatorName;
+import walkingkooka.validation.provider.ValidatorSelector;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * An immutable copy of the metrics gathered by a {@link ValidatorMetrics}, holding a {@link ValidatorMetricsSnapshotEntry}
+ * for each {@link ValidatorName} and each {@link ValidatorSelector}.
+ */
+public final class ValidatorMetricsSnapshot {
+
+    /**
+     * A snapshot without any metrics.
+     */
+    public final static ValidatorMetricsSnapshot EMPTY = new ValidatorMetricsSnapshot(
+        Collections.emptyMap(),
+        Collections.emptyMap()
+    );
+
+    public static ValidatorMetricsSnapshot with(final Map<ValidatorName, ValidatorMetricsSnapshotEntry> names,
+                                                final Map<ValidatorSelector, ValidatorMetricsSnapshotEntry> selectors) {
+        Objects.requireNonNull(names, "names");
+        Objects.requireNonNull(selectors, "selectors");
+
+        return names.isEmpty() && selectors.isEmpty() ?
+            EMPTY :
+            new ValidatorMetricsSnapshot(
+                Collections.unmodifiableMap(
+                    new LinkedHashMap<>(names)
+                ),
+                Collections.unmodifiableMap(
+                    new LinkedHashMap<>(selectors)
+                )
+            );
+    }
+
+    private ValidatorMetricsSnapshot(final Map<ValidatorName, ValidatorMetricsSnapshotEntry> names,
+                                     final Map<ValidatorSelector, ValidatorMetricsSnapshotEntry> selectors) {
+        this.names = names;
+        this.selectors = selectors;
+    }
+
+    /**
+     * The metrics for each {@link ValidatorName}, combining all {@link ValidatorSelector} with that name.
+     */
+    public Map<ValidatorName, ValidatorMetricsSnapshotEntry> names() {
+        return this.names;
+    }
+
+    private final Map<ValidatorName, ValidatorMetricsSnapshotEntry> names;
+
+    /**
+     * The metrics for each {@link ValidatorSelector}.
+     */
+    public Map<ValidatorSelector, ValidatorMetricsSnapshotEntry> selectors() {
+        return this.selectors;
+    }
+
+    private final Map<ValidatorSelector, ValidatorMetricsSnapshotEntry> selectors;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            this.names,
+            this.selectors
+        );
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            (other instanceof ValidatorMetricsSnapshot &&
+                this.equals0((ValidatorMetricsSnapshot) other));
+    }
+
+    private boolean equals0(final ValidatorMetricsSnapshot other) {
+        return this.names.equals(other.names) &&
+            this.selectors.equals(other.selectors);
+    }
+
+    @Override
+    public String toString() {
+        return "names=" + this.names +
+            " selectors=" + this.selectors;
+    }
+
+    // json.............................................................................................................
+
+    static ValidatorMetricsSnapshot unmarshall(final JsonNode node,
+                                               final JsonNodeUnmarshallContext context) {
+        final Map<ValidatorName, ValidatorMetricsSnapshotEntry> names = new LinkedHashMap<>();
+        final Map<ValidatorSelector, ValidatorMetricsSnapshotEntry> selectors = new LinkedHashMap<>();
+
+        for (final JsonNode child : node.objectOrFail().children()) {
+            final JsonPropertyName name = child.name();
+            switch (name.value()) {
+                case NAMES_PROPERTY_STRING:
+                    for (final JsonNode nameAndEntry : child.objectOrFail().children()) {
+                        names.put(
+                            ValidatorName.with(
+                                nameAndEntry.name()
+                                    .value()
+                            ),
+                            context.unmarshall(
+                                nameAndEntry,
+                                ValidatorMetricsSnapshotEntry.class
+                            )
+                        );
+                    }
+                    break;
+                case SELECTORS_PROPERTY_STRING:
+                    for (final JsonNode selectorAndEntry : child.objectOrFail().children()) {
+                        selectors.put(
+                            ValidatorSelector.parse(
+                                selectorAndEntry.name()
+                                    .value()
+                            ),
+                            context.unmarshall(
+                                selectorAndEntry,
+                                ValidatorMetricsSnapshotEntry.class
+                            )
+                        );
+                    }
+                    break;
+                default:
+                    JsonNodeUnmarshallContext.unknownPropertyPresent(name, node);
+                    break;
+            }
+        }
+
+        return with(
+            names,
+            selectors
+        );
+    }
+
+    private JsonNode marshall(final JsonNodeMarshallContext context) {
+        JsonObject names = JsonNode.object();
+        for (final Map.Entry<ValidatorName, ValidatorMetricsSnapshotEntry> nameAndEntry : this.names.entrySet()) {
+            names = names.set(
+                JsonPropertyName.with(
+                    nameAndEntry.getKey()
+                        .value()
+                ),
+                context.marshall(nameAndEntry.getValue())
+            );
+        }
+
+        JsonObject selectors = JsonNode.object();
+        for (final Map.Entry<ValidatorSelector, ValidatorMetricsSnapshotEntry> selectorAndEntry : this.selectors.entrySet()) {
+            selectors = selectors.set(
+                JsonPropertyName.with(
+                    selectorAndEntry.getKey()
+                        .toString()
+                ),
+                context.marshall(selectorAndEntry.getValue())
+            );
+        }
+
+        return JsonNode.object()
+            .set(NAMES_PROPERTY, names)
+            .set(SELECTORS_PROPERTY, selectors);
+    }
+
+    private final static String NAMES_PROPERTY_STRING = "names";
+    private final static String SELECTORS_PROPERTY_STRING = "selectors";
+
+    // @VisibleForTesting
+
+    final static JsonPropertyName NAMES_PROPERTY = JsonPropertyName.with(NAMES_PROPERTY_STRING);
+    final static JsonPropertyName SELECTORS_PROPERTY = JsonPropertyName.with(SELECTORS_PROPERTY_STRING);
+
+    static {
+        // trigger registering of json marshall/unmarshallers
+        ValidatorMetricsSnapshotEntry.with(
+            0,
+            0,
+            0,
+            0,
+            0,
+            Collections.emptyList()
+        );
+
+        JsonNodeContext.register(
+            JsonNodeContext.computeTypeName(ValidatorMetricsSnapshot.class),
+            ValidatorMetricsSnapshot::unmarshall,
+            ValidatorMetricsSnapshot::marshall,
+            ValidatorMetricsSnapshot.class
+        );
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import walkingkooka.collect.list.Lists;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.JsonPropertyName;
+import walkingkooka.tree.json.marshall.JsonNodeContext;
+import walkingkooka.tree.json.marshall.JsonNodeMarshallContext;
+import walkingkooka.tree.json.marshall.JsonNodeUnmarshallContext;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An immutable copy of the counters for a single {@link walkingkooka.validation.provider.ValidatorSelector} or
+ * {@link walkingkooka.validation.provider.ValidatorName}.
+ * <br>
+ * The histogram holds the number of invocations in each power of two bucket, bucket 0 is for zero nanos and bucket N
+ * counts durations from 2^(N-1) up to but excluding 2^N nanos. Trailing empty buckets are removed.
+ */
+public final class ValidatorMetricsSnapshotEntry {
+
+    public static ValidatorMetricsSnapshotEntry with(final long invocations,
+                                                     final long failures,
+                                                     final long errors,
+                                                     final long totalNanos,
+                                                     final long maxNanos,
+                                                     final List<Long> histogram) {
+        return new ValidatorMetricsSnapshotEntry(
+            checkCount(invocations, "invocations"),
+            checkCount(failures, "failures"),
+            checkCount(errors, "errors"),
+            checkCount(totalNanos, "totalNanos"),
+            checkCount(maxNanos, "maxNanos"),
+            Lists.immutable(
+                Objects.requireNonNull(histogram, "histogram")
+            )
+        );
+    }
+
+    private static long checkCount(final long value,
+                                   final String label) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Invalid " + label + " " + value + " < 0");
+        }
+        return value;
+    }
+
+    private ValidatorMetricsSnapshotEntry(final long invocations,
+                                          final long failures,
+                                          final long errors,
+                                          final long totalNanos,
+                                          final long maxNanos,
+                                          final List<Long> histogram) {
+        this.invocations = invocations;
+        this.failures = failures;
+        this.errors = errors;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+        this.histogram = histogram;
+    }
+
+    /**
+     * The number of times the validator was invoked.
+     */
+    public long invocations() {
+        return this.invocations;
+    }
+
+    private final long invocations;
+
+    /**
+     * The number of invocations that returned one or more errors.
+     */
+    public long failures() {
+        return this.failures;
+    }
+
+    private final long failures;
+
+    /**
+     * The total number of errors returned by all invocations.
+     */
+    public long errors() {
+        return this.errors;
+    }
+
+    private final long errors;
+
+    /**
+     * The sum of the durations of all invocations in nanos.
+     */
+    public long totalNanos() {
+        return this.totalNanos;
+    }
+
+    private final long totalNanos;
+
+    /**
+     * The longest invocation in nanos.
+     */
+    public long maxNanos() {
+        return this.maxNanos;
+    }
+
+    private final long maxNanos;
+
+    /**
+     * The latency histogram, see the class javadoc.
+     */
+    public List<Long> histogram() {
+        return this.histogram;
+    }
+
+    private final List<Long> histogram;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            this.invocations,
+            this.failures,
+            this.errors,
+            this.totalNanos,
+            this.maxNanos,
+            this.histogram
+        );
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+            (other instanceof ValidatorMetricsSnapshotEntry &&
+                this.equals0((ValidatorMetricsSnapshotEntry) other));
+    }
+
+    private boolean equals0(final ValidatorMetricsSnapshotEntry other) {
+        return this.invocations == other.invocations &&
+            this.failures == other.failures &&
+            this.errors == other.errors &&
+            this.totalNanos == other.totalNanos &&
+            this.maxNanos == other.maxNanos &&
+            this.histogram.equals(other.histogram);
+    }
+
+    @Override
+    public String toString() {
+        return "invocations=" + this.invocations +
+            " failures=" + this.failures +
+            " errors=" + this.errors +
+            " totalNanos=" + this.totalNanos +
+            " maxNanos=" + this.maxNanos +
+            " histogram=" + this.histogram;
+    }
+
+    // json.............................................................................................................
+
+    static ValidatorMetricsSnapshotEntry unmarshall(final JsonNode node,
+                                                    final JsonNodeUnmarshallContext context) {
+        Long invocations = null;
+        Long failures = null;
+        Long errors = null;
+        Long totalNanos = null;
+        Long maxNanos = null;
+        List<Long> histogram = null;
+
+        for (final JsonNode child : node.objectOrFail().children()) {
+            final JsonPropertyName name = child.name();
+            switch (name.value()) {
+                case INVOCATIONS_PROPERTY_STRING:
+                    invocations = context.unmarshall(child, Long.class);
+                    break;
+                case FAILURES_PROPERTY_STRING:
+                    failures = context.unmarshall(child, Long.class);
+                    break;
+                case ERRORS_PROPERTY_STRING:
+                    errors = context.unmarshall(child, Long.class);
+                    break;
+                case TOTAL_NANOS_PROPERTY_STRING:
+                    totalNanos = context.unmarshall(child, Long.class);
+                    break;
+                case MAX_NANOS_PROPERTY_STRING:
+                    maxNanos = context.unmarshall(child, Long.class);
+                    break;
+                case HISTOGRAM_PROPERTY_STRING:
+                    histogram = context.unmarshallList(child, Long.class);
+                    break;
+                default:
+                    JsonNodeUnmarshallContext.unknownPropertyPresent(name, node);
+                    break;
+            }
+        }
+
+        if (null == invocations) {
+            JsonNodeUnmarshallContext.missingProperty(INVOCATIONS_PROPERTY, node);
+        }
+        if (null == failures) {
+            JsonNodeUnmarshallContext.missingProperty(FAILURES_PROPERTY, node);
+        }
+        if (null == errors) {
+            JsonNodeUnmarshallContext.missingProperty(ERRORS_PROPERTY, node);
+        }
+        if (null == totalNanos) {
+            JsonNodeUnmarshallContext.missingProperty(TOTAL_NANOS_PROPERTY, node);
+        }
+        if (null == maxNanos) {
+            JsonNodeUnmarshallContext.missingProperty(MAX_NANOS_PROPERTY, node);
+        }
+        if (null == histogram) {
+            JsonNodeUnmarshallContext.missingProperty(HISTOGRAM_PROPERTY, node);
+        }
+
+        return with(
+            invocations,
+            failures,
+            errors,
+            totalNanos,
+            maxNanos,
+            histogram
+        );
+    }
+
+    private JsonNode marshall(final JsonNodeMarshallContext context) {
+        return JsonNode.object()
+            .set(INVOCATIONS_PROPERTY, context.marshall(this.invocations))
+            .set(FAILURES_PROPERTY, context.marshall(this.failures))
+            .set(ERRORS_PROPERTY, context.marshall(this.errors))
+            .set(TOTAL_NANOS_PROPERTY, context.marshall(this.totalNanos))
+            .set(MAX_NANOS_PROPERTY, context.marshall(this.maxNanos))
+            .set(HISTOGRAM_PROPERTY, context.marshallCollection(this.histogram));
+    }
+
+    private final static String INVOCATIONS_PROPERTY_STRING = "invocations";
+    private final static String FAILURES_PROPERTY_STRING = "failures";
+    private final static String ERRORS_PROPERTY_STRING = "errors";
+    private final static String TOTAL_NANOS_PROPERTY_STRING = "totalNanos";
+    private final static String MAX_NANOS_PROPERTY_STRING = "maxNanos";
+    private final static String HISTOGRAM_PROPERTY_STRING = "histogram";
+
+    // @VisibleForTesting
+
+    final static JsonPropertyName INVOCATIONS_PROPERTY = JsonPropertyName.with(INVOCATIONS_PROPERTY_STRING);
+    final static JsonPropertyName FAILURES_PROPERTY = JsonPropertyName.with(FAILURES_PROPERTY_STRING);
+    final static JsonPropertyName ERRORS_PROPERTY = JsonPropertyName.with(ERRORS_PROPERTY_STRING);
+    final static JsonPropertyName TOTAL_NANOS_PROPERTY = JsonPropertyName.with(TOTAL_NANOS_PROPERTY_STRING);
+    final static JsonPropertyName MAX_NANOS_PROPERTY = JsonPropertyName.with(MAX_NANOS_PROPERTY_STRING);
+    final static JsonPropertyName HISTOGRAM_PROPERTY = JsonPropertyName.with(HISTOGRAM_PROPERTY_STRING);
+
+    static {
+        JsonNodeContext.register(
+            JsonNodeContext.computeTypeName(ValidatorMetricsSnapshotEntry.class),
+            ValidatorMetricsSnapshotEntry::unmarshall,
+            ValidatorMetricsSnapshotEntry::marshall,
+            ValidatorMetricsSnapshotEntry.class
+        );
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+/**
+ * The result of a validation-only scanner, which checks text without parsing or throwing. Scanners only answer
+ * {@link #VALID} or {@link #INVALID} when certain, leaving everything else to the parser.
+ */
+enum ValidatorScanResult {
+
+    /**
+     * The text is certainly valid, parsing will succeed.
+     */
+    VALID,
+
+    /**
+     * The text is certainly invalid, parsing will fail.
+     */
+    INVALID,
+
+    /**
+     * The scanner is not sure, the text must be parsed.
+     */
+    UNKNOWN
+}
@@ -18,8 +18,10 @@
 package walkingkooka.validation;
 
 import walkingkooka.test.Testing;
+import walkingkooka.tree.expression.ExpressionPurityContext;
 
 import java.util.List;
+import java.util.function.IntFunction;
 
 public interface ValidatorTesting extends Testing {
 
@@ -47,4 +49,48 @@ public interface ValidatorTesting extends Testing {
             )
         );
     }
+
+    // isValid..........................................................................................................
+
+    default <R extends ValidationReference, C extends ValidatorContext<R>> void isValidAndCheck(final Validator<R, C> validator,
+                                                                                                final Object value,
+                                                                                                final C context,
+                                                                                                final boolean expected) {
+        this.checkEquals(
+            expected,
+            validator.isValid(
+                value,
+                context
+            ),
+            () -> validator + " isValid " + value
+        );
+    }
+
+    // isPure...........................................................................................................
+
+    default void isPureAndCheck(final Validator<?, ?> validator,
+                                final ExpressionPurityContext context,
+                                final boolean expected) {
+        this.checkEquals(
+            expected,
+            validator.isPure(context),
+            () -> validator + " isPure"
+        );
+    }
+
+    // validateAll......................................................................................................
+
+    default <R extends ValidationReference, C extends ValidatorContext<R>> void validateAllAndCheck(final Validator<R, C> validator,
+                                                                                                    final List<?> values,
+                                                                                                    final IntFunction<C> contexts,
+                                                                                                    final ValidationErrorColumn<R> expected) {
+        this.checkEquals(
+            expected,
+            validator.validateAll(
+                values,
+                contexts
+            ),
+            () -> validator + " validateAll " + values
+        );
+    }
 }
@@ -18,6 +18,7 @@
 package walkingkooka.validation;
 
 import org.junit.jupiter.api.Test;
+import walkingkooka.tree.expression.ExpressionPurityContext;
 
 import java.util.List;
 
@@ -60,6 +61,42 @@ public interface ValidatorTesting2<V extends Validator<R, C>, R extends Validati
         );
     }
 
+    // isValid..........................................................................................................
+
+    @Test
+    default void testIsValidWithNullContextFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createValidator()
+                .isValid(
+                    "Hello",
+                    null
+                )
+        );
+    }
+
+    default void isValidAndCheck(final Object value,
+                                 final C context,
+                                 final boolean expected) {
+        this.isValidAndCheck(
+            this.createValidator(),
+            value,
+            context,
+            expected
+        );
+    }
+
+    // isPure...........................................................................................................
+
+    default void isPureAndCheck(final ExpressionPurityContext context,
+                                final boolean expected) {
+        this.isPureAndCheck(
+            this.createValidator(),
+            context,
+            expected
+        );
+    }
+
     V createValidator();
 
     C createContext();
@@ -19,6 +19,7 @@ package walkingkooka.validation;
 
 import walkingkooka.reflect.PublicStaticHelper;
 import walkingkooka.tree.expression.Expression;
+import walkingkooka.validation.provider.ValidatorSelector;
 
 import java.util.List;
 
@@ -34,6 +35,18 @@ public final class Validators implements PublicStaticHelper {
         return AbsoluteUrlValidator.instance();
     }
 
+    /**
+     * {@link ValidatorCollection} that runs cheaper validators first, and re-orders validators with the same
+     * {@link ValidatorCost} so those that fail most often run earlier.
+     */
+    public static <R extends ValidationReference, C extends ValidatorContext<R>> Validator<R, C> adaptiveCollection(final int maxErrors,
+                                                                                                                    final List<Validator<R, C>> validators) {
+        return ValidatorCollection.adaptive(
+            maxErrors,
+            validators
+        );
+    }
+
     /**
      * {@see ValidationCheckboxExpressionValidator}
      */
@@ -84,6 +97,32 @@ public final class Validators implements PublicStaticHelper {
         return new FakeValidator<>();
     }
 
+    /**
+     * {@see ValidatorMemoize}
+     * <br>
+     * Only a pure {@link Validator}, see {@link Validator#isPure(walkingkooka.tree.expression.ExpressionPurityContext)},
+     * is cached, because cached errors are shared by all equal values. Other validators are always called. Only text
+     * values are cached, other values are always validated with the converter of the given {@link ValidatorContext}.
+     */
+    public static <R extends ValidationReference, C extends ValidatorContext<R>> Validator<R, C> memoize(final Validator<R, C> validator,
+                                                                                                         final int maxEntries) {
+        return ValidatorMemoize.with(
+            validator,
+            maxEntries
+        );
+    }
+
+    /**
+     * {@see ValidatorMetered}
+     */
+    public static <R extends ValidationReference, C extends ValidatorContext<R>> Validator<R, C> metered(final ValidatorSelector selector,
+                                                                                                        final Validator<R, C> validator) {
+        return ValidatorMetered.with(
+            selector,
+            validator
+        );
+    }
+
     /**
      * {@see NonNullValidator}
      */
@@ -104,9 +143,22 @@ public final class Validators implements PublicStaticHelper {
 
     /**
      * {@see TextMaskValidator}
+     * <br>
+     * Parsed masks are shared, equal masks return the same {@link Validator}. The {@link Validator} is also a
+     * {@link java.util.function.Predicate} of {@link CharSequence}, which only tests if text matches.
      */
     public static <R extends ValidationReference, C extends ValidatorContext<R>> Validator<R, C> textMask(final String mask) {
-        return TextMaskValidator.parse(mask);
+        return TextMaskValidatorCache.INSTANCE.parse(mask);
+    }
+
+    /**
+     * {@see TextMaskAnyValidator}
+     * <br>
+     * The {@link Validator} is also a {@link java.util.function.Predicate} of {@link CharSequence}, which only tests
+     * if text matches any mask, and {@link TextMaskAnyValidator#matchedMask(CharSequence)} returns which mask matched.
+     */
+    public static <R extends ValidationReference, C extends ValidatorContext<R>> TextMaskAnyValidator<R, C> textMaskAny(final List<String> masks) {
+        return TextMaskAnyValidator.parse(masks);
     }
 
     /**
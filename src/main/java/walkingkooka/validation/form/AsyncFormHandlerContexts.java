@@ -0,0 +1,212 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation.form;
+
+import walkingkooka.Cast;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.collect.set.SortedSets;
+import walkingkooka.reflect.PublicStaticHelper;
+import walkingkooka.text.CharSequences;
+import walkingkooka.text.CharacterConstant;
+import walkingkooka.validation.AsyncValidators;
+import walkingkooka.validation.ValidationError;
+import walkingkooka.validation.ValidationErrorList;
+import walkingkooka.validation.ValidationErrorListBuilder;
+import walkingkooka.validation.ValidationReference;
+import walkingkooka.validation.Validator;
+import walkingkooka.validation.ValidatorContext;
+import walkingkooka.validation.Validators;
+import walkingkooka.validation.provider.ValidatorSelector;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Asynchronous counterparts of {@link FormHandlerContext} methods.
+ * <br>
+ * This is not available to J2CL or GWT, which do not support threads.
+ */
+public final class AsyncFormHandlerContexts implements PublicStaticHelper {
+
+    /**
+     * {@link #validateFormFields(FormHandlerContext, List, Executor)} using the {@link ForkJoinPool#commonPool()}.
+     */
+    public static <R extends ValidationReference> CompletionStage<List<ValidationError<R>>> validateFormFields(final FormHandlerContext<R, ?> context,
+                                                                                                               final List<FormField<R>> fields) {
+        return validateFormFields(
+            context,
+            fields,
+            ForkJoinPool.commonPool()
+        );
+    }
+
+    /**
+     * Validates the given form fields like {@link FormHandlerContext#validateFormFields(List)}, except that the
+     * validator of each field runs using the given {@link Executor}, so slow validators overlap. The errors are
+     * returned in field order. Unknown fields and missing validators are reported before any validator is started.
+     * <br>
+     * Once {@link FormHandlerContext#formMaxErrors()} errors have been merged the result completes without waiting for
+     * the remaining fields, their validators are cancelled and the returned {@link ValidationErrorList#isTruncated()}
+     * is true, the same errors as {@link FormHandlerContext#validateFormFields(List)}. Validators are recorded with
+     * the {@link ValidatorContext#validatorMetrics()} like the synchronous validate.
+     */
+    public static <R extends ValidationReference> CompletionStage<List<ValidationError<R>>> validateFormFields(final FormHandlerContext<R, ?> context,
+                                                                                                               final List<FormField<R>> fields,
+                                                                                                               final Executor executor) {
+        Objects.requireNonNull(context, "context");
+        Objects.requireNonNull(fields, "fields");
+        Objects.requireNonNull(executor, "executor");
+
+        final int maxErrors = context.formMaxErrors();
+        final Form<R> form = context.form();
+
+        final Comparator<R> formFieldReferenceComparator = context.formFieldReferenceComparator();
+        final Map<R, FormField<R>> referenceToField = form.referenceAndFormFieldMap(formFieldReferenceComparator);
+
+        // complain if given Form has extra fields, before starting any validator.
+        final Set<R> unknownFields = SortedSets.tree(formFieldReferenceComparator);
+        for (final FormField<R> field : fields) {
+            final R reference = field.reference();
+            if (false == referenceToField.containsKey(reference)) {
+                unknownFields.add(reference);
+            }
+        }
+
+        if (false == unknownFields.isEmpty()) {
+            throw new IllegalArgumentException(
+                "Form contains unknown fields: " + CharacterConstant.COMMA.toSeparatedString(
+                    unknownFields,
+                    R::text
+                )
+            );
+        }
+
+        final List<CompletableFuture<List<ValidationError<R>>>> futures = Lists.array();
+
+        // start the validator of each field, use the Validator from the source form not the given form.
+        for (final FormField<R> field : fields) {
+            final R reference = field.reference();
+
+            final ValidatorSelector validatorSelector = referenceToField.get(reference)
+                .validator()
+                .orElse(null);
+
+            // if there is no ValidatorSelector skip validating field.
+            if (null != validatorSelector) {
+                final ValidatorContext<R> validatorContext = context.validatorContext(reference);
+
+                Validator<R, ValidatorContext<R>> validator = null;
+                try {
+                    validator = Cast.to(
+                        validatorContext.validator(validatorSelector)
+                    );
+                } catch (final RuntimeException missing) {
+                    final String message = missing.getMessage();
+
+                    futures.add(
+                        CompletableFuture.completedFuture(
+                            Lists.of(
+                                validatorContext.validationError()
+                                    .setMessage(
+                                        CharSequences.isNullOrEmpty(message) ?
+                                            "Validator error: " + validatorSelector :
+                                            message
+                                    )
+                            )
+                        )
+                    );
+                }
+
+                if (null != validator) {
+                    if (validatorContext.validatorMetrics().isRecording()) {
+                        validator = Validators.metered(
+                            validatorSelector,
+                            validator
+                        );
+                    }
+
+                    futures.add(
+                        AsyncValidators.async(
+                            validator,
+                            executor
+                        ).validateAsync(
+                            field.value()
+                                .orElse(null),
+                            validatorContext
+                        ).toCompletableFuture()
+                    );
+                }
+            }
+        }
+
+        final ValidationErrorListBuilder<R> errors = ValidationErrorList.builder();
+        final AtomicBoolean truncated = new AtomicBoolean();
+
+        // merge each result in field order, once the error budget is used up the remaining results are ignored
+        CompletableFuture<ValidationErrorListBuilder<R>> result = CompletableFuture.completedFuture(errors);
+
+        for (final CompletableFuture<List<ValidationError<R>>> future : futures) {
+            result = result.thenCompose(
+                (e) -> {
+                    if (e.size() >= maxErrors) {
+                        truncated.set(true);
+                        return CompletableFuture.completedFuture(e);
+                    }
+                    return future.thenApply(
+                        (newErrors) -> {
+                            for (final ValidationError<R> error : newErrors) {
+                                if (e.size() >= maxErrors) {
+                                    truncated.set(true);
+                                    break;
+                                }
+                                e.add(error);
+                            }
+                            return e;
+                        }
+                    );
+                }
+            );
+        }
+
+        return result.<List<ValidationError<R>>>thenApply(
+            (e) -> e.build()
+                .setTruncated(truncated.get())
+        ).whenComplete(
+            (e, thrown) -> {
+                for (final CompletableFuture<?> future : futures) {
+                    future.cancel(true);
+                }
+            }
+        );
+    }
+
+    /**
+     * Stop creation
+     */
+    private AsyncFormHandlerContexts() {
+        throw new UnsupportedOperationException();
+    }
+}
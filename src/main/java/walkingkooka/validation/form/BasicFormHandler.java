@@ -73,7 +73,8 @@ final class BasicFormHandler<R extends ValidationReference, S, C extends FormHan
     }
 
     /**
-     * Delegates validation of the form fields to {@link FormHandlerExpressionEvaluationContext#validateFormFields(List)}.
+     * Delegates validation of the form fields to {@link FormHandlerExpressionEvaluationContext#validateFormFields(List)},
+     * which stops once {@link FormHandlerContext#formMaxErrors()} errors have been found.
      */
     @Override
     public List<ValidationError<R>> validateForm(final Form<R> form,
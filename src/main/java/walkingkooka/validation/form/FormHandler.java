@@ -36,6 +36,7 @@ public interface FormHandler<R extends ValidationReference, S, C extends FormHan
     /**
      * Validates the given form, returning an aggregation of {@link ValidationError} but does not submit the form.
      * This is useful so the UI can continuously validate one or more fields and update to show any error messages.
+     * Implementations should stop once {@link FormHandlerContext#formMaxErrors()} errors have been found.
      */
     List<ValidationError<R>> validateForm(final Form<R> form,
                                           final C context);
@@ -18,7 +18,6 @@
 package walkingkooka.validation.form;
 
 import walkingkooka.Cast;
-import walkingkooka.collect.list.Lists;
 import walkingkooka.collect.set.SortedSets;
 import walkingkooka.convert.ConverterLike;
 import walkingkooka.environment.EnvironmentContext;
@@ -26,9 +25,11 @@ import walkingkooka.text.CharSequences;
 import walkingkooka.text.CharacterConstant;
 import walkingkooka.validation.ValidationError;
 import walkingkooka.validation.ValidationErrorList;
+import walkingkooka.validation.ValidationErrorListBuilder;
 import walkingkooka.validation.ValidationReference;
 import walkingkooka.validation.Validator;
 import walkingkooka.validation.ValidatorContext;
+import walkingkooka.validation.Validators;
 import walkingkooka.validation.provider.ValidatorSelector;
 
 import java.util.Comparator;
@@ -64,14 +65,42 @@ public interface FormHandlerContext<R extends ValidationReference, S> extends Co
      */
     ValidatorContext<R> validatorContext(final R reference);
 
+    /**
+     * The maximum number of errors {@link #validateFormFields(List)} will find before skipping the remaining fields. The
+     * default is no limit, a value of 1 stops on the first error.
+     */
+    default int formMaxErrors() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * A default validate of the given form fields, using the error budget from {@link #formMaxErrors()}.
+     */
+    default List<ValidationError<R>> validateFormFields(final List<FormField<R>> fields) {
+        return this.validateFormFields(
+            fields,
+            this.formMaxErrors()
+        );
+    }
+
     /**
      * A default validate of the given form fields, only using the reference and value from the given {@link FormField},
      * fetching the validator from the given {@link #form()}.
      * <br>
      * Unknown fields will throw an exception and different given {@link FormField} definitions are ignored.
+     * <br>
+     * Once maxErrors have been found the validators of the remaining fields are skipped, and the returned
+     * {@link ValidationErrorList#isTruncated()} is true.
+     * <br>
+     * Each {@link Validator} invocation is recorded with the {@link ValidatorContext#validatorMetrics()}, see
+     * {@link Validators#metered(ValidatorSelector, Validator)}.
      */
-    default List<ValidationError<R>> validateFormFields(final List<FormField<R>> fields) {
+    default List<ValidationError<R>> validateFormFields(final List<FormField<R>> fields,
+                                                        final int maxErrors) {
         Objects.requireNonNull(fields, "fields");
+        if (maxErrors <= 0) {
+            throw new IllegalArgumentException("Invalid maxErrors " + maxErrors + " <= 0");
+        }
 
         final Form<R> form = this.form();
 
@@ -81,7 +110,8 @@ public interface FormHandlerContext<R extends ValidationReference, S> extends Co
         // complain if given Form has extra fields.
         final Set<R> unknownFields = SortedSets.tree(formFieldReferenceComparator);
 
-        final List<ValidationError<R>> errors = Lists.array();
+        final ValidationErrorListBuilder<R> errors = ValidationErrorList.builder();
+        boolean truncated = false;
 
         // validate each field one by one, use the Validator from the source form not the given form.
         for (final FormField<R> field : fields) {
@@ -103,6 +133,12 @@ public interface FormHandlerContext<R extends ValidationReference, S> extends Co
 
             // if there is no ValidatorSelector skip validating field.
             if (null != validatorSelector) {
+                // error budget used up, skip validating the remaining fields but continue checking for unknown fields
+                if (errors.size() >= maxErrors) {
+                    truncated = true;
+                    continue;
+                }
+
                 final ValidatorContext<R> validatorContext = this.validatorContext(reference);
 
                 Validator<R, ValidatorContext<R>> validator = null;
@@ -124,13 +160,27 @@ public interface FormHandlerContext<R extends ValidationReference, S> extends Co
                 }
 
                 if (null != validator) {
-                    errors.addAll(
-                        validator.validate(
-                            field.value()
-                                .orElse(null),
-                            validatorContext
-                        )
+                    // only timed when the metrics are recording
+                    if (validatorContext.validatorMetrics().isRecording()) {
+                        validator = Validators.metered(
+                            validatorSelector,
+                            validator
+                        );
+                    }
+
+                    final List<ValidationError<R>> validatorErrors = validator.validate(
+                        field.value()
+                            .orElse(null),
+                        validatorContext
                     );
+
+                    for (final ValidationError<R> error : validatorErrors) {
+                        if (errors.size() >= maxErrors) {
+                            truncated = true;
+                            break;
+                        }
+                        errors.add(error);
+                    }
                 }
             }
         }
@@ -144,8 +194,8 @@ public interface FormHandlerContext<R extends ValidationReference, S> extends Co
             );
         }
 
-        return ValidationErrorList.<R>empty()
-            .setElements(errors);
+        return errors.build()
+            .setTruncated(truncated);
     }
 
     /**
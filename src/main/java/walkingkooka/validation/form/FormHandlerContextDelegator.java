@@ -44,6 +44,12 @@ public interface FormHandlerContextDelegator<R extends ValidationReference, S> e
             .formFieldReferenceComparator();
     }
 
+    @Override
+    default int formMaxErrors() {
+        return this.formHandlerContext()
+            .formMaxErrors();
+    }
+
     @Override
     default ValidatorContext<R> validatorContext(final R reference) {
         return this.formHandlerContext()
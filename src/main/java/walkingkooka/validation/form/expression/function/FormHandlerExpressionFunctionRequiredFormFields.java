@@ -23,6 +23,7 @@ import walkingkooka.collect.set.Sets;
 import walkingkooka.tree.expression.function.ExpressionFunctionParameter;
 import walkingkooka.validation.ValidationError;
 import walkingkooka.validation.ValidationErrorList;
+import walkingkooka.validation.ValidationErrorListBuilder;
 import walkingkooka.validation.ValidationReference;
 import walkingkooka.validation.form.FormField;
 import walkingkooka.validation.form.expression.FormHandlerExpressionEvaluationContext;
@@ -70,7 +71,7 @@ final class FormHandlerExpressionFunctionRequiredFormFields<R extends Validation
                                                   final C context) {
         final List<FormField<R>> formFields = this.formFields.getOrFail(parameters, 0);
 
-        final List<ValidationError<R>> errors = Lists.array();
+        final ValidationErrorListBuilder<R> errors = ValidationErrorList.builder();
         final Set<R> requiredFields = this.fields;
 
         for (final FormField<R> formField : formFields) {
@@ -89,8 +90,7 @@ final class FormHandlerExpressionFunctionRequiredFormFields<R extends Validation
             }
         }
 
-        return ValidationErrorList.<R>empty()
-            .setElements(errors);
+        return errors.build();
     }
 
     private final Set<R> fields;
@@ -92,6 +92,22 @@ final public class ValidatorName implements PluginNameLike<ValidatorName> {
         (p, c) -> Validators.absoluteUrl()
     );
 
+    private final static String ADAPTIVE_COLLECTION_STRING = "adaptive-collection";
+
+    /**
+     * The name of the {@link Validator} returned by {@link Validators#adaptiveCollection(int, List)}
+     */
+    public final static ValidatorName ADAPTIVE_COLLECTION = registerConstantName(
+        ADAPTIVE_COLLECTION_STRING,
+        (p, c) -> collection(
+            p,
+            (m, v) -> Validators.adaptiveCollection(
+                m,
+                Cast.to(v)
+            )
+        )
+    );
+
     private final static String CHECKBOX_STRING = "checkbox";
 
     /**
@@ -152,31 +168,43 @@ final public class ValidatorName implements PluginNameLike<ValidatorName> {
      */
     public final static ValidatorName COLLECTION = registerConstantName(
         COLLECTION_STRING,
-        (p, c) -> {
-            boolean first = true;
-            int max = 0;
-            final List<Validator<?, ?>> validators = Lists.array();
+        (p, c) -> collection(
+            p,
+            (m, v) -> Validators.collection(
+                m,
+                Cast.to(v)
+            )
+        )
+    );
 
-            for (final Object parameter : p) {
-                if (first) {
-                    if (false == parameter instanceof Number) {
-                        throw new IllegalArgumentException("Expected number got " + parameter);
-                    }
-                    first = false;
-                    max = ((Number) parameter).intValue();
-                } else {
-                    if (false == parameter instanceof Validator) {
-                        throw new IllegalArgumentException("Expected only validator(s) got " + parameter);
-                    }
-                    validators.add((Validator<?, ?>) parameter);
+    /**
+     * Parses the max errors followed by one or more validators and creates the collection {@link Validator}.
+     */
+    private static Validator<?, ?> collection(final List<?> parameters,
+                                              final BiFunction<Integer, List<Validator<?, ?>>, Validator<?, ?>> factory) {
+        boolean first = true;
+        int max = 0;
+        final List<Validator<?, ?>> validators = Lists.array();
+
+        for (final Object parameter : parameters) {
+            if (first) {
+                if (false == parameter instanceof Number) {
+                    throw new IllegalArgumentException("Expected number got " + parameter);
+                }
+                first = false;
+                max = ((Number) parameter).intValue();
+            } else {
+                if (false == parameter instanceof Validator) {
+                    throw new IllegalArgumentException("Expected only validator(s) got " + parameter);
                 }
+                validators.add((Validator<?, ?>) parameter);
             }
-            return Validators.collection(
-                max,
-                Cast.to(validators)
-            );
         }
-    );
+        return factory.apply(
+            max,
+            validators
+        );
+    }
 
     private final static String EMAIL_ADDRESS_STRING = "email-address";
 
@@ -247,6 +275,28 @@ final public class ValidatorName implements PluginNameLike<ValidatorName> {
         )
     );
 
+    private final static String TEXT_MASK_ANY_STRING = "text-mask-any";
+
+    /**
+     * The name of the {@link Validator} returned by {@link Validators#textMaskAny(List)}.
+     */
+    public final static ValidatorName TEXT_MASK_ANY = registerConstantName(
+        TEXT_MASK_ANY_STRING,
+        (p, c) -> {
+            final List<String> masks = Lists.array();
+
+            for (final Object parameter : p) {
+                masks.add(
+                    c.convertOrFail(
+                        parameter,
+                        String.class
+                    )
+                );
+            }
+            return Validators.textMaskAny(masks);
+        }
+    );
+
     /**
      * Factory that creates a {@link ValidatorName}
      */
@@ -259,6 +309,9 @@ final public class ValidatorName implements PluginNameLike<ValidatorName> {
             case ABSOLUTE_URL_STRING:
                 validatorName = ABSOLUTE_URL;
                 break;
+            case ADAPTIVE_COLLECTION_STRING:
+                validatorName = ADAPTIVE_COLLECTION;
+                break;
             case CHECKBOX_STRING:
                 validatorName = CHECKBOX;
                 break;
@@ -283,6 +336,9 @@ final public class ValidatorName implements PluginNameLike<ValidatorName> {
             case TEXT_MASK_STRING:
                 validatorName = TEXT_MASK;
                 break;
+            case TEXT_MASK_ANY_STRING:
+                validatorName = TEXT_MASK_ANY;
+                break;
             default:
                 validatorName = new ValidatorName(name);
                 break;
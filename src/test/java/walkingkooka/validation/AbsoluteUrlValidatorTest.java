@@ -87,6 +87,53 @@ public final class AbsoluteUrlValidatorTest implements ValidatorTesting2<Absolut
         );
     }
 
+    // isValid..........................................................................................................
+
+    @Test
+    public void testIsValidWithNull() {
+        this.isValidAndCheck(
+            null,
+            this.createContext(),
+            false
+        );
+    }
+
+    @Test
+    public void testIsValidWithEmptyString() {
+        this.isValidAndCheck(
+            "",
+            this.createContext(),
+            false
+        );
+    }
+
+    @Test
+    public void testIsValidWithStringRelativeUrl() {
+        this.isValidAndCheck(
+            "/relative/path",
+            this.createContext(),
+            false
+        );
+    }
+
+    @Test
+    public void testIsValidWithAbsoluteUrl() {
+        this.isValidAndCheck(
+            AbsoluteUrl.parse("https://example.com/123"),
+            this.createContext(),
+            true
+        );
+    }
+
+    @Test
+    public void testIsValidWithAbsoluteUrlString() {
+        this.isValidAndCheck(
+            "https://example.com/456",
+            this.createContext(),
+            true
+        );
+    }
+
     @Override
     public AbsoluteUrlValidator<TestValidationReference, TestValidatorContext> createValidator() {
         return AbsoluteUrlValidator.instance();
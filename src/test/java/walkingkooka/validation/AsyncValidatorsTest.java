@@ -0,0 +1,455 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.reflect.PublicStaticHelperTesting;
+import walkingkooka.reflect.ThrowableTesting;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class AsyncValidatorsTest implements PublicStaticHelperTesting<AsyncValidators>,
+    ValidatorTesting,
+    ThrowableTesting {
+
+    private final static TestValidationReference REFERENCE = new TestValidationReference("Field1");
+
+    private final static Object VALUE = "Value111";
+
+    private static ValidationError<TestValidationReference> error(final int messageNumber) {
+        return ValidationError.with(REFERENCE)
+            .setMessage("Message " + messageNumber);
+    }
+
+    private static AsyncValidator<TestValidationReference, TestValidatorContext> completed(final int... messageNumbers) {
+        return (value, context) -> {
+            final List<ValidationError<TestValidationReference>> errors = Lists.array();
+            for (final int messageNumber : messageNumbers) {
+                errors.add(
+                    error(messageNumber)
+                );
+            }
+            return CompletableFuture.completedFuture(errors);
+        };
+    }
+
+    /**
+     * An {@link AsyncValidator} that never completes.
+     */
+    private final static AsyncValidator<TestValidationReference, TestValidatorContext> NEVER = (value, context) -> new CompletableFuture<>();
+
+    // async............................................................................................................
+
+    @Test
+    public void testAsync() throws Exception {
+        final Validator<TestValidationReference, TestValidatorContext> validator = Validators.nonNull();
+
+        this.checkEquals(
+            Lists.of(
+                ValidationError.with(REFERENCE)
+                    .setMessage("Missing Field1")
+            ),
+            AsyncValidators.async(validator)
+                .validateAsync(
+                    null,
+                    this.context()
+                ).toCompletableFuture()
+                .get(10, TimeUnit.SECONDS)
+        );
+    }
+
+    @Test
+    public void testAsyncCancelInterruptsRunningValidator() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+
+        final Validator<TestValidationReference, TestValidatorContext> validator = (value, context) -> {
+            started.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (final InterruptedException cause) {
+                interrupted.countDown();
+            }
+            return Lists.empty();
+        };
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final CompletableFuture<List<ValidationError<TestValidationReference>>> future = AsyncValidators.async(
+                validator,
+                executor
+            ).validateAsync(
+                VALUE,
+                this.context()
+            ).toCompletableFuture();
+
+            started.await(10, TimeUnit.SECONDS);
+            future.cancel(true);
+
+            this.checkEquals(
+                true,
+                interrupted.await(10, TimeUnit.SECONDS),
+                "running validator interrupted"
+            );
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testAsyncCancelBeforeStartSkipsValidator() {
+        final List<Runnable> tasks = Lists.array();
+        final List<Object> validated = Lists.array();
+
+        final CompletableFuture<List<ValidationError<TestValidationReference>>> future = AsyncValidators.<TestValidationReference, TestValidatorContext>async(
+            (value, context) -> {
+                validated.add(value);
+                return Lists.empty();
+            },
+            tasks::add
+        ).validateAsync(
+            VALUE,
+            this.context()
+        ).toCompletableFuture();
+
+        future.cancel(true);
+        tasks.forEach(Runnable::run);
+
+        this.checkEquals(
+            Lists.empty(),
+            validated,
+            "cancelled validator not run"
+        );
+    }
+
+    @Test
+    public void testAsyncWithNullValidatorFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> AsyncValidators.async(null)
+        );
+    }
+
+    @Test
+    public void testAsyncWithNullExecutorFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> AsyncValidators.async(
+                Validators.nonNull(),
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testAsyncBlockingUnwraps() {
+        final AsyncValidator<TestValidationReference, TestValidatorContext> validator = completed(1);
+
+        assertSame(
+            validator,
+            AsyncValidators.async(
+                AsyncValidators.blocking(validator)
+            )
+        );
+    }
+
+    // blocking.........................................................................................................
+
+    @Test
+    public void testBlocking() {
+        this.validateAndCheck(
+            AsyncValidators.blocking(
+                completed(1, 2)
+            ),
+            VALUE,
+            this.context(),
+            error(1),
+            error(2)
+        );
+    }
+
+    @Test
+    public void testBlockingRethrows() {
+        final AsyncValidator<TestValidationReference, TestValidatorContext> failing = (value, context) -> CompletableFuture.supplyAsync(
+            () -> {
+                throw new IllegalArgumentException("Lookup failed 123");
+            }
+        );
+
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> AsyncValidators.blocking(failing)
+                .validate(
+                    VALUE,
+                    this.context()
+                )
+        );
+
+        this.getMessageAndCheck(
+            thrown,
+            "Lookup failed 123"
+        );
+    }
+
+    @Test
+    public void testBlockingAsyncUnwraps() {
+        final Validator<TestValidationReference, TestValidatorContext> validator = Validators.nonNull();
+
+        assertSame(
+            validator,
+            AsyncValidators.blocking(
+                AsyncValidators.async(validator)
+            )
+        );
+    }
+
+    // collection.......................................................................................................
+
+    @Test
+    public void testCollectionWithInvalidMaxErrorsFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> AsyncValidators.collection(
+                0,
+                Lists.of(
+                    completed(1)
+                )
+            )
+        );
+
+        this.getMessageAndCheck(
+            thrown,
+            "Invalid maxErrors 0 <= 0"
+        );
+    }
+
+    @Test
+    public void testCollectionWithEmptyValidatorsFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> AsyncValidators.collection(
+                1,
+                Lists.empty()
+            )
+        );
+
+        this.getMessageAndCheck(
+            thrown,
+            "Empty validators"
+        );
+    }
+
+    @Test
+    public void testCollectionDeclarationOrder() throws Exception {
+        final CompletableFuture<List<ValidationError<TestValidationReference>>> later = new CompletableFuture<>();
+        final AsyncValidator<TestValidationReference, TestValidatorContext> first = (value, context) -> later;
+
+        final CompletionStage<List<ValidationError<TestValidationReference>>> result = AsyncValidators.collection(
+            10,
+            Lists.of(
+                first,
+                completed(2, 3),
+                completed(1, 4)
+            )
+        ).validateAsync(
+            VALUE,
+            this.context()
+        );
+
+        this.checkEquals(
+            false,
+            result.toCompletableFuture()
+                .isDone(),
+            "waiting for first validator"
+        );
+
+        later.complete(
+            Lists.of(
+                error(1)
+            )
+        );
+
+        this.checkEquals(
+            Lists.of(
+                error(1),
+                error(2),
+                error(3),
+                error(4)
+            ),
+            result.toCompletableFuture()
+                .get(10, TimeUnit.SECONDS)
+        );
+    }
+
+    @Test
+    public void testCollectionMaxErrorsCompletesWithoutWaiting() throws Exception {
+        final CompletableFuture<List<ValidationError<TestValidationReference>>> never = new CompletableFuture<>();
+        final AsyncValidator<TestValidationReference, TestValidatorContext> second = (value, context) -> never;
+
+        this.checkEquals(
+            Lists.of(
+                error(1),
+                error(2)
+            ),
+            AsyncValidators.collection(
+                2,
+                Lists.of(
+                    completed(1, 2),
+                    second
+                )
+            ).validateAsync(
+                VALUE,
+                this.context()
+            ).toCompletableFuture()
+                .get(10, TimeUnit.SECONDS)
+        );
+
+        this.checkEquals(
+            true,
+            never.isCancelled(),
+            "outstanding validator cancelled"
+        );
+    }
+
+    @Test
+    public void testCollectionErrorsImmutable() throws Exception {
+        final List<ValidationError<TestValidationReference>> errors = AsyncValidators.collection(
+            10,
+            Lists.of(
+                completed(1),
+                completed(2)
+            )
+        ).validateAsync(
+            VALUE,
+            this.context()
+        ).toCompletableFuture()
+            .get(10, TimeUnit.SECONDS);
+
+        this.checkEquals(
+            Lists.of(
+                error(1),
+                error(2)
+            ),
+            errors
+        );
+
+        assertThrows(
+            UnsupportedOperationException.class,
+            () -> errors.add(
+                error(3)
+            )
+        );
+    }
+
+    @Test
+    public void testCollectionSameAsValidatorCollection() throws Exception {
+        final List<Validator<TestValidationReference, TestValidatorContext>> validators = Lists.of(
+            AsyncValidators.blocking(completed(1, 2)),
+            AsyncValidators.blocking(completed(3)),
+            AsyncValidators.blocking(completed(2, 4))
+        );
+
+        for (int maxErrors = 1; maxErrors < 6; maxErrors++) {
+            final List<AsyncValidator<TestValidationReference, TestValidatorContext>> asyncValidators = Lists.array();
+            for (final Validator<TestValidationReference, TestValidatorContext> validator : validators) {
+                asyncValidators.add(
+                    AsyncValidators.async(
+                        validator,
+                        ForkJoinPool.commonPool()
+                    )
+                );
+            }
+
+            this.checkEquals(
+                Validators.collection(
+                    maxErrors,
+                    validators
+                ).validate(
+                    VALUE,
+                    this.context()
+                ),
+                AsyncValidators.collection(
+                    maxErrors,
+                    asyncValidators
+                ).validateAsync(
+                    VALUE,
+                    this.context()
+                ).toCompletableFuture()
+                    .get(10, TimeUnit.SECONDS),
+                "maxErrors=" + maxErrors
+            );
+        }
+    }
+
+    @Test
+    public void testCollectionNeverCompletesWhenMaxErrorsNotReached() {
+        this.checkEquals(
+            false,
+            AsyncValidators.collection(
+                    10,
+                    Lists.of(
+                        completed(1),
+                        NEVER
+                    )
+                ).validateAsync(
+                    VALUE,
+                    this.context()
+                ).toCompletableFuture()
+                .isDone()
+        );
+    }
+
+    private TestValidatorContext context() {
+        return new TestValidatorContext() {
+            @Override
+            public TestValidationReference validationReference() {
+                return REFERENCE;
+            }
+        };
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public boolean canHavePublicTypes(final Method method) {
+        return false;
+    }
+
+    @Override
+    public Class<AsyncValidators> type() {
+        return AsyncValidators.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
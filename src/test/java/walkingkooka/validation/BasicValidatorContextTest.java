@@ -19,10 +19,13 @@ package walkingkooka.validation;
 
 import org.junit.jupiter.api.Test;
 import walkingkooka.Cast;
+import walkingkooka.Either;
 import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
 import walkingkooka.convert.BinaryNumberConverterFunctions;
 import walkingkooka.convert.ConverterContexts;
 import walkingkooka.convert.ConverterLike;
+import walkingkooka.convert.ConverterLikeDelegator;
 import walkingkooka.convert.Converters;
 import walkingkooka.currency.CurrencyLocaleContexts;
 import walkingkooka.datetime.DateTimeContextTesting;
@@ -32,6 +35,8 @@ import walkingkooka.math.DecimalNumberContextTesting;
 import walkingkooka.tree.expression.ExpressionEvaluationContext;
 import walkingkooka.validation.provider.ValidatorSelector;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -167,6 +172,425 @@ public final class BasicValidatorContextTest implements ValidatorContextTesting2
         );
     }
 
+    // validationError..................................................................................................
+
+    @Test
+    public void testValidationErrorWithMessage() {
+        this.checkEquals(
+            ValidationError.with(VALIDATION_REFERENCE)
+                .setMessage("Message123"),
+            this.createContext()
+                .validationError("Message123")
+        );
+    }
+
+    @Test
+    public void testValidationErrorWithMessageUsesValidationError() {
+        final Optional<Object> value = Optional.of("Value123");
+
+        this.checkEquals(
+            ValidationError.with(VALIDATION_REFERENCE)
+                .setMessage("Message123")
+                .setValue(value),
+            new TestValidatorContext() {
+                @Override
+                public ValidationError<TestValidationReference> validationError() {
+                    return ValidationError.with(VALIDATION_REFERENCE)
+                        .setValue(value);
+                }
+            }.validationError("Message123")
+        );
+    }
+
+    @Test
+    public void testValidationErrorWithMessageShared() {
+        final BasicValidatorContext<TestValidationReference> context = this.createContext();
+
+        assertSame(
+            context.validationError("Message123"),
+            context.validationError("Message123")
+        );
+    }
+
+    @Test
+    public void testValidationErrorWithMessageAndValue() {
+        final Optional<Object> value = Optional.of("Value123");
+
+        this.checkEquals(
+            ValidationError.with(VALIDATION_REFERENCE)
+                .setMessage("Message123")
+                .setValue(value),
+            this.createContext()
+                .validationError(
+                    "Message123",
+                    value
+                )
+        );
+    }
+
+    @Test
+    public void testValidationErrorWithMessageAndValueShared() {
+        final BasicValidatorContext<TestValidationReference> context = this.createContext();
+
+        assertSame(
+            context.validationError(
+                "Message123",
+                Optional.of("Value123")
+            ),
+            context.validationError(
+                "Message123",
+                Optional.of("Value123")
+            )
+        );
+    }
+
+    @Test
+    public void testValidationErrorWithMessageAndValueUsesValidationError() {
+        final Optional<Object> value = Optional.of("Value123");
+
+        this.checkEquals(
+            ValidationError.with(VALIDATION_REFERENCE)
+                .setMessage("Message123")
+                .setValue(value),
+            new TestValidatorContext() {
+                @Override
+                public ValidationError<TestValidationReference> validationError() {
+                    return ValidationError.with(VALIDATION_REFERENCE);
+                }
+            }.validationError(
+                "Message123",
+                value
+            )
+        );
+    }
+
+    @Test
+    public void testSetValidationReferenceSharesValidationErrors() {
+        final BasicValidatorContext<TestValidationReference> context = this.createContext();
+        final BasicValidatorContext<TestValidationReference> different = Cast.to(
+            context.setValidationReference(
+                new TestValidationReference("Different")
+            )
+        );
+
+        assertSame(
+            context.validationErrorCache,
+            different.validationErrorCache
+        );
+    }
+
+    // convert..........................................................................................................
+
+    @Test
+    public void testConvertSameValueMemoized() {
+        final BasicValidatorContext<TestValidationReference> context = this.createContextCountingConversions();
+        context.beginValidation();
+        final String value = "abc";
+
+        this.checkEquals(
+            Either.left(value),
+            context.convert(
+                value,
+                String.class
+            )
+        );
+        this.checkEquals(
+            Either.left(value),
+            context.convert(
+                value,
+                String.class
+            )
+        );
+
+        this.checkEquals(
+            1,
+            this.conversions,
+            "conversions"
+        );
+    }
+
+    @Test
+    public void testConvertOrFailSameValueMemoized() {
+        final BasicValidatorContext<TestValidationReference> context = this.createContextCountingConversions();
+        context.beginValidation();
+        final String value = "abc";
+
+        context.convert(
+            value,
+            String.class
+        );
+
+        this.checkEquals(
+            value,
+            context.convertOrFail(
+                value,
+                String.class
+            )
+        );
+
+        this.checkEquals(
+            1,
+            this.conversions,
+            "conversions"
+        );
+    }
+
+    @Test
+    public void testConvertDifferentValueReplacesMemo() {
+        final BasicValidatorContext<TestValidationReference> context = this.createContextCountingConversions();
+        context.beginValidation();
+
+        context.convert("abc", String.class);
+        context.convert("def", String.class);
+        context.convert("abc", String.class);
+
+        this.checkEquals(
+            3,
+            this.conversions,
+            "conversions"
+        );
+    }
+
+    @Test
+    public void testConvertDifferentTypeReplacesMemo() {
+        final BasicValidatorContext<TestValidationReference> context = this.createContextCountingConversions();
+        context.beginValidation();
+        final String value = "abc";
+
+        context.convert(value, String.class);
+        context.convert(value, CharSequence.class);
+        context.convert(value, String.class);
+
+        this.checkEquals(
+            3,
+            this.conversions,
+            "conversions"
+        );
+    }
+
+    @Test
+    public void testConvertOutsideValidationNotMemoized() {
+        final BasicValidatorContext<TestValidationReference> context = this.createContextCountingConversions();
+        final String value = "abc";
+
+        context.convert(value, String.class);
+        context.convert(value, String.class);
+
+        this.checkEquals(
+            2,
+            this.conversions,
+            "conversions"
+        );
+    }
+
+    @Test
+    public void testConvertAfterEndValidationNotMemoized() {
+        final BasicValidatorContext<TestValidationReference> context = this.createContextCountingConversions();
+        final String value = "abc";
+
+        context.beginValidation();
+        context.convert(value, String.class);
+        context.endValidation();
+
+        context.convert(value, String.class);
+
+        context.beginValidation();
+        context.convert(value, String.class);
+        context.endValidation();
+
+        this.checkEquals(
+            3,
+            this.conversions,
+            "conversions"
+        );
+    }
+
+    @Test
+    public void testConvertNestedValidationKeepsMemo() {
+        final BasicValidatorContext<TestValidationReference> context = this.createContextCountingConversions();
+        final String value = "abc";
+
+        context.beginValidation();
+        context.convert(value, String.class);
+
+        context.beginValidation();
+        context.convert(value, String.class);
+        context.endValidation();
+
+        context.convert(value, String.class);
+        context.endValidation();
+
+        this.checkEquals(
+            1,
+            this.conversions,
+            "conversions"
+        );
+
+        context.convert(value, String.class);
+
+        this.checkEquals(
+            2,
+            this.conversions,
+            "conversions after top level validation ended"
+        );
+    }
+
+    @Test
+    public void testConvertNestedCollectionsShareMemo() {
+        final BasicValidatorContext<TestValidationReference> context = this.createContextCountingConversions();
+
+        final Validator<TestValidationReference, BasicValidatorContext<TestValidationReference>> converting = new FakeValidator<>() {
+            @Override
+            public List<ValidationError<TestValidationReference>> validate(final Object value,
+                                                                           final BasicValidatorContext<TestValidationReference> context) {
+                context.convert(
+                    value,
+                    String.class
+                );
+                return context.validationErrorList();
+            }
+        };
+
+        ValidatorCollection.with(
+            10,
+            Lists.of(
+                converting,
+                ValidatorCollection.with(
+                    10,
+                    Lists.of(
+                        converting,
+                        converting
+                    )
+                ),
+                converting
+            )
+        ).validate(
+            "abc",
+            context
+        );
+
+        this.checkEquals(
+            1,
+            this.conversions,
+            "conversions"
+        );
+    }
+
+    private BasicValidatorContext<TestValidationReference> createContextCountingConversions() {
+        return BasicValidatorContext.with(
+            VALIDATION_REFERENCE,
+            VALIDATOR_SELECTOR_TO_VALIDATOR,
+            REFERENCE_EXPRESSION_EVALUATION_CONTEXT_FUNCTION,
+            new ConverterLikeDelegator() {
+                @Override
+                public <T> Either<T, String> convert(final Object value,
+                                                     final Class<T> type) {
+                    BasicValidatorContextTest.this.conversions++;
+                    return CONVERTER_LIKE.convert(
+                        value,
+                        type
+                    );
+                }
+
+                @Override
+                public ConverterLike converterLike() {
+                    return CONVERTER_LIKE;
+                }
+            },
+            ENVIRONMENT_CONTEXT.cloneEnvironment()
+        );
+    }
+
+    private int conversions;
+
+    // validatorMetrics...............................................................................................
+
+    @Test
+    public void testValidatorMetricsDefault() {
+        assertSame(
+            NoValidatorMetrics.INSTANCE,
+            this.createContext()
+                .validatorMetrics()
+        );
+    }
+
+    @Test
+    public void testSetValidatorMetricsNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> this.createContext()
+                .setValidatorMetrics(null)
+        );
+    }
+
+    @Test
+    public void testSetValidatorMetricsSame() {
+        final BasicValidatorContext<TestValidationReference> context = this.createContext();
+
+        assertSame(
+            context,
+            context.setValidatorMetrics(NoValidatorMetrics.INSTANCE)
+        );
+    }
+
+    @Test
+    public void testSetValidatorMetricsDifferent() {
+        final BasicValidatorContext<TestValidationReference> context = this.createContext();
+        final ValidatorMetrics metrics = BasicValidatorMetrics.empty();
+
+        final BasicValidatorContext<TestValidationReference> different = context.setValidatorMetrics(metrics);
+
+        assertNotSame(
+            context,
+            different
+        );
+        assertSame(
+            metrics,
+            different.validatorMetrics()
+        );
+        assertSame(
+            metrics,
+            different.cloneEnvironment()
+                .validatorMetrics(),
+            "cloneEnvironment"
+        );
+    }
+
+    @Test
+    public void testValidatorNotRecording() {
+        final Validator<TestValidationReference, ValidatorContext<TestValidationReference>> validator = Validators.nonNull();
+
+        assertSame(
+            validator,
+            this.createContext(validator)
+                .validator(SELECTOR)
+        );
+    }
+
+    @Test
+    public void testValidatorRecordingNotWrapped() {
+        final Validator<TestValidationReference, ValidatorContext<TestValidationReference>> validator = Validators.nonNull();
+
+        assertSame(
+            validator,
+            this.createContext(validator)
+                .setValidatorMetrics(BasicValidatorMetrics.empty())
+                .validator(SELECTOR)
+        );
+    }
+
+    private final static ValidatorSelector SELECTOR = ValidatorSelector.parse("non-null");
+
+    private BasicValidatorContext<TestValidationReference> createContext(final Validator<TestValidationReference, ValidatorContext<TestValidationReference>> validator) {
+        return BasicValidatorContext.with(
+            VALIDATION_REFERENCE,
+            (s) -> validator,
+            REFERENCE_EXPRESSION_EVALUATION_CONTEXT_FUNCTION,
+            CONVERTER_LIKE,
+            ENVIRONMENT_CONTEXT.cloneEnvironment()
+        );
+    }
+
     // cloneEnvironment..................................................................................................
 
     @Test
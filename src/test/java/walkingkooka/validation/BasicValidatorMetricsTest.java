@@ -0,0 +1,237 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.validation.provider.ValidatorName;
+import walkingkooka.validation.provider.ValidatorSelector;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class BasicValidatorMetricsTest implements ClassTesting<BasicValidatorMetrics> {
+
+    private final static ValidatorSelector SELECTOR1 = ValidatorSelector.parse("text-length(1, 10)");
+
+    private final static ValidatorSelector SELECTOR2 = ValidatorSelector.parse("text-length(2, 20)");
+
+    @Test
+    public void testRecordNullSelectorFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> BasicValidatorMetrics.empty()
+                .record(
+                    null,
+                    1,
+                    0
+                )
+        );
+    }
+
+    @Test
+    public void testRecordNegativeErrorCountFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> BasicValidatorMetrics.empty()
+                .record(
+                    SELECTOR1,
+                    1,
+                    -1
+                )
+        );
+        this.checkEquals(
+            "Invalid errorCount -1 < 0",
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testSnapshotEmpty() {
+        this.checkEquals(
+            ValidatorMetricsSnapshot.EMPTY,
+            BasicValidatorMetrics.empty()
+                .snapshot()
+        );
+    }
+
+    @Test
+    public void testRecordAndSnapshot() {
+        final BasicValidatorMetrics metrics = BasicValidatorMetrics.empty();
+        metrics.record(
+            SELECTOR1,
+            0,
+            0
+        );
+        metrics.record(
+            SELECTOR1,
+            5,
+            2
+        );
+        metrics.record(
+            SELECTOR2,
+            1,
+            0
+        );
+
+        final ValidatorMetricsSnapshot snapshot = metrics.snapshot();
+
+        this.checkEquals(
+            Map.of(
+                SELECTOR1,
+                ValidatorMetricsSnapshotEntry.with(
+                    2, // invocations
+                    1, // failures
+                    2, // errors
+                    5, // totalNanos
+                    5, // maxNanos
+                    Lists.of(1L, 0L, 0L, 1L) // 0, 1, 2..3, 4..7
+                ),
+                SELECTOR2,
+                ValidatorMetricsSnapshotEntry.with(
+                    1, // invocations
+                    0, // failures
+                    0, // errors
+                    1, // totalNanos
+                    1, // maxNanos
+                    Lists.of(0L, 1L)
+                )
+            ),
+            snapshot.selectors(),
+            "selectors"
+        );
+
+        this.checkEquals(
+            Map.of(
+                ValidatorName.with("text-length"),
+                ValidatorMetricsSnapshotEntry.with(
+                    3, // invocations
+                    1, // failures
+                    2, // errors
+                    6, // totalNanos
+                    5, // maxNanos
+                    Lists.of(1L, 1L, 0L, 1L)
+                )
+            ),
+            snapshot.names(),
+            "names"
+        );
+    }
+
+    @Test
+    public void testRecordNegativeNanos() {
+        final BasicValidatorMetrics metrics = BasicValidatorMetrics.empty();
+        metrics.record(
+            SELECTOR1,
+            -1,
+            0
+        );
+
+        this.checkEquals(
+            ValidatorMetricsSnapshotEntry.with(
+                1, // invocations
+                0, // failures
+                0, // errors
+                0, // totalNanos
+                0, // maxNanos
+                Lists.of(1L)
+            ),
+            metrics.snapshot()
+                .selectors()
+                .get(SELECTOR1)
+        );
+    }
+
+    @Test
+    public void testSnapshotIsCopy() {
+        final BasicValidatorMetrics metrics = BasicValidatorMetrics.empty();
+        metrics.record(
+            SELECTOR1,
+            1,
+            0
+        );
+
+        final ValidatorMetricsSnapshot snapshot = metrics.snapshot();
+
+        metrics.record(
+            SELECTOR1,
+            1,
+            0
+        );
+
+        this.checkEquals(
+            1L,
+            snapshot.selectors()
+                .get(SELECTOR1)
+                .invocations()
+        );
+    }
+
+    @Test
+    public void testIsRecording() {
+        this.checkEquals(
+            true,
+            BasicValidatorMetrics.empty()
+                .isRecording()
+        );
+    }
+
+    @Test
+    public void testNoValidatorMetricsIsRecording() {
+        this.checkEquals(
+            false,
+            NoValidatorMetrics.INSTANCE.isRecording()
+        );
+    }
+
+    @Test
+    public void testBucket() {
+        this.bucketAndCheck(0, 0);
+        this.bucketAndCheck(1, 1);
+        this.bucketAndCheck(2, 2);
+        this.bucketAndCheck(3, 2);
+        this.bucketAndCheck(4, 3);
+        this.bucketAndCheck(1023, 10);
+        this.bucketAndCheck(1024, 11);
+        this.bucketAndCheck(Long.MAX_VALUE, ValidatorMetricsCounter.BUCKET_COUNT - 1);
+    }
+
+    private void bucketAndCheck(final long nanos,
+                                final int expected) {
+        this.checkEquals(
+            expected,
+            ValidatorMetricsCounter.bucket(nanos),
+            () -> "bucket " + nanos
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<BasicValidatorMetrics> type() {
+        return BasicValidatorMetrics.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,376 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.net.email.EmailAddress;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class EmailAddressValidatorScannerTest implements ClassTesting<EmailAddressValidatorScanner> {
+
+    @Test
+    public void testScanNull() {
+        this.scanAndCheck(
+            null,
+            ValidatorScanResult.UNKNOWN
+        );
+    }
+
+    @Test
+    public void testScanEmpty() {
+        this.scanAndCheck(
+            "",
+            ValidatorScanResult.INVALID
+        );
+    }
+
+    @Test
+    public void testScanMissingAt() {
+        this.scanAndCheck(
+            "user.example.com",
+            ValidatorScanResult.INVALID
+        );
+    }
+
+    @Test
+    public void testScanDoubleAt() {
+        this.scanAndCheck(
+            "user@@example.com",
+            ValidatorScanResult.INVALID
+        );
+    }
+
+    @Test
+    public void testScanMissingUser() {
+        this.scanAndCheck(
+            "@example.com",
+            ValidatorScanResult.INVALID
+        );
+    }
+
+    @Test
+    public void testScanMissingHost() {
+        this.scanAndCheck(
+            "missing.host@",
+            ValidatorScanResult.INVALID
+        );
+    }
+
+    @Test
+    public void testScanValid() {
+        this.scanAndCheck(
+            "user@example.com",
+            ValidatorScanResult.VALID
+        );
+    }
+
+    @Test
+    public void testScanValidDotsAndSymbols() {
+        this.scanAndCheck(
+            "first.last+tag_1-2@mail-1.example.com.au",
+            ValidatorScanResult.VALID
+        );
+    }
+
+    @Test
+    public void testScanLocalLeadingDot() {
+        this.scanAndCheck(
+            ".user@example.com",
+            ValidatorScanResult.INVALID
+        );
+    }
+
+    @Test
+    public void testScanLocalDoubleDot() {
+        this.scanAndCheck(
+            "us..er@example.com",
+            ValidatorScanResult.INVALID
+        );
+    }
+
+    @Test
+    public void testScanLocalTrailingDot() {
+        this.scanAndCheck(
+            "user.@example.com",
+            ValidatorScanResult.INVALID
+        );
+    }
+
+    @Test
+    public void testScanLocalSpace() {
+        this.scanAndCheck(
+            "us er@example.com",
+            ValidatorScanResult.INVALID
+        );
+    }
+
+    @Test
+    public void testScanLocalAtextSymbolUnknown() {
+        this.scanAndCheck(
+            "us!er@example.com",
+            ValidatorScanResult.UNKNOWN
+        );
+    }
+
+    @Test
+    public void testScanLocalNonAsciiUnknown() {
+        this.scanAndCheck(
+            "us\u00e9r@example.com",
+            ValidatorScanResult.UNKNOWN
+        );
+    }
+
+    @Test
+    public void testScanQuotedLocalUnknown() {
+        this.scanAndCheck(
+            "\"user\"@example.com",
+            ValidatorScanResult.UNKNOWN
+        );
+    }
+
+    @Test
+    public void testScanSingleLabelDomainUnknown() {
+        this.scanAndCheck(
+            "user@localhost",
+            ValidatorScanResult.UNKNOWN
+        );
+    }
+
+    @Test
+    public void testScanIpAddressDomainUnknown() {
+        this.scanAndCheck(
+            "user@[192.168.1.1]",
+            ValidatorScanResult.UNKNOWN
+        );
+    }
+
+    @Test
+    public void testScanNumericTopLevelDomainUnknown() {
+        this.scanAndCheck(
+            "user@192.168.1.1",
+            ValidatorScanResult.UNKNOWN
+        );
+    }
+
+    @Test
+    public void testScanDomainLeadingHyphen() {
+        this.scanAndCheck(
+            "user@-example.com",
+            ValidatorScanResult.INVALID
+        );
+    }
+
+    @Test
+    public void testScanDomainTrailingHyphen() {
+        this.scanAndCheck(
+            "user@example-.com",
+            ValidatorScanResult.INVALID
+        );
+    }
+
+    @Test
+    public void testScanDomainDoubleDot() {
+        this.scanAndCheck(
+            "user@example..com",
+            ValidatorScanResult.INVALID
+        );
+    }
+
+    @Test
+    public void testScanDomainInvalidCharacter() {
+        this.scanAndCheck(
+            "user@exa_mple.com",
+            ValidatorScanResult.INVALID
+        );
+    }
+
+    @Test
+    public void testScanTrailingDotUnknown() {
+        this.scanAndCheck(
+            "user@example.com.",
+            ValidatorScanResult.UNKNOWN
+        );
+    }
+
+    @Test
+    public void testScanTooLong() {
+        this.scanAndCheck(
+            "user@" + "a".repeat(EmailAddressValidatorScanner.MAX_LENGTH) + ".com",
+            ValidatorScanResult.INVALID
+        );
+    }
+
+    /**
+     * The scanner must never disagree with {@link EmailAddress#parse(String)}.
+     */
+    @Test
+    public void testScanAgreesWithParse() {
+        for (final String text : new String[]{
+            "",
+            "user",
+            "@",
+            "@example.com",
+            "missing.host@",
+            "user@@example.com",
+            ".user@example.com",
+            "us..er@example.com",
+            "user.@example.com",
+            "us er@example.com",
+            "us(er@example.com",
+            "user@-example.com",
+            "user@example-.com",
+            "user@example..com",
+            "user@.example.com",
+            "user@exa_mple.com",
+            "user@exa mple.com",
+            "user@" + "a".repeat(EmailAddressValidatorScanner.MAX_LENGTH) + ".com",
+            "user@example.com",
+            "USER@EXAMPLE.COM",
+            "first.last@example.com",
+            "first+tag@example.com",
+            "first_last@example.co.uk",
+            "first-last@sub-domain.example.org",
+            "a@b.cd"
+        }) {
+            switch (EmailAddressValidatorScanner.scan(text)) {
+                case VALID:
+                    EmailAddress.parse(text);
+                    break;
+                case INVALID:
+                    final RuntimeException thrown = assertThrows(
+                        RuntimeException.class,
+                        () -> EmailAddress.parse(text),
+                        text
+                    );
+                    this.checkEquals(
+                        thrown.getMessage(),
+                        EmailAddressValidatorScanner.invalidMessage(text),
+                        () -> "invalidMessage " + text
+                    );
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    @Test
+    public void testInvalidMessageEmpty() {
+        this.invalidMessageAndCheck(
+            "",
+            "Empty \"EmailAddress\""
+        );
+    }
+
+    @Test
+    public void testInvalidMessageMissingUser() {
+        this.invalidMessageAndCheck(
+            "@example.com",
+            "Email missing user"
+        );
+    }
+
+    @Test
+    public void testInvalidMessageMissingHost() {
+        this.invalidMessageAndCheck(
+            "missing.host@",
+            "Email missing host"
+        );
+    }
+
+    @Test
+    public void testInvalidMessageMissingAt() {
+        this.invalidMessageAndCheck(
+            "user.example.com",
+            "Email missing '@'"
+        );
+    }
+
+    @Test
+    public void testInvalidMessageTooLong() {
+        this.invalidMessageAndCheck(
+            "user@" + "a".repeat(EmailAddressValidatorScanner.MAX_LENGTH) + ".com",
+            "Email too long"
+        );
+    }
+
+    @Test
+    public void testInvalidMessageDoubleAt() {
+        this.invalidMessageAndCheck(
+            "user@@example.com",
+            "Invalid character '@' at 5 in \"user@@example.com\""
+        );
+    }
+
+    @Test
+    public void testInvalidMessageLocalDoubleDot() {
+        this.invalidMessageAndCheck(
+            "us..er@example.com",
+            "Invalid character '.' at 3 in \"us..er@example.com\""
+        );
+    }
+
+    @Test
+    public void testInvalidMessageDomainTrailingHyphen() {
+        this.invalidMessageAndCheck(
+            "user@example-.com",
+            "Invalid character '-' at 12 in \"user@example-.com\""
+        );
+    }
+
+    @Test
+    public void testInvalidMessageValidFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> EmailAddressValidatorScanner.invalidMessage("user@example.com")
+        );
+    }
+
+    private void invalidMessageAndCheck(final String text,
+                                        final String expected) {
+        this.checkEquals(
+            expected,
+            EmailAddressValidatorScanner.invalidMessage(text),
+            () -> "invalidMessage " + text
+        );
+    }
+
+    private void scanAndCheck(final String text,
+                              final ValidatorScanResult expected) {
+        this.checkEquals(
+            expected,
+            EmailAddressValidatorScanner.scan(text),
+            () -> "scan " + text
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<EmailAddressValidatorScanner> type() {
+        return EmailAddressValidatorScanner.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
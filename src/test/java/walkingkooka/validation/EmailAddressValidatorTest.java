@@ -71,6 +71,26 @@ public final class EmailAddressValidatorTest implements ValidatorTesting2<EmailA
         );
     }
 
+    @Test
+    public void testValidateWithStringMissingAt() {
+        this.validateAndCheck(
+            "user.example.com",
+            this.createContext(),
+            ValidationError.with(REFERENCE)
+                .setMessage("Email missing '@'")
+        );
+    }
+
+    @Test
+    public void testValidateWithStringInvalidCharacter() {
+        this.validateAndCheck(
+            "user@@example.com",
+            this.createContext(),
+            ValidationError.with(REFERENCE)
+                .setMessage("Invalid character '@' at 5 in \"user@@example.com\"")
+        );
+    }
+
     @Test
     public void testValidateWithEmailAddress() {
         this.validateAndCheck(
@@ -87,6 +107,53 @@ public final class EmailAddressValidatorTest implements ValidatorTesting2<EmailA
         );
     }
 
+    // isValid..........................................................................................................
+
+    @Test
+    public void testIsValidWithNull() {
+        this.isValidAndCheck(
+            null,
+            this.createContext(),
+            false
+        );
+    }
+
+    @Test
+    public void testIsValidWithEmptyString() {
+        this.isValidAndCheck(
+            "",
+            this.createContext(),
+            false
+        );
+    }
+
+    @Test
+    public void testIsValidWithStringMissingHost() {
+        this.isValidAndCheck(
+            "missing.host@",
+            this.createContext(),
+            false
+        );
+    }
+
+    @Test
+    public void testIsValidWithEmailAddress() {
+        this.isValidAndCheck(
+            EmailAddress.parse("user@example.com"),
+            this.createContext(),
+            true
+        );
+    }
+
+    @Test
+    public void testIsValidWithEmailAddressString() {
+        this.isValidAndCheck(
+            "user@example.com",
+            this.createContext(),
+            true
+        );
+    }
+
     @Override
     public EmailAddressValidator<TestValidationReference, TestValidatorContext> createValidator() {
         return EmailAddressValidator.instance();
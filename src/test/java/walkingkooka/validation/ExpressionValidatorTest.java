@@ -20,8 +20,11 @@ package walkingkooka.validation;
 import org.junit.jupiter.api.Test;
 import walkingkooka.Cast;
 import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
 import walkingkooka.tree.expression.Expression;
 import walkingkooka.tree.expression.ExpressionEvaluationContext;
+import walkingkooka.tree.expression.ExpressionFunctionName;
+import walkingkooka.tree.expression.ExpressionPurityContext;
 import walkingkooka.tree.expression.FakeExpressionEvaluationContext;
 
 public final class ExpressionValidatorTest implements ValidatorTesting2<ExpressionValidator<TestValidationReference, TestValidatorContext>, TestValidationReference, TestValidatorContext>,
@@ -72,6 +75,51 @@ public final class ExpressionValidatorTest implements ValidatorTesting2<Expressi
         };
     }
 
+    // isPure...........................................................................................................
+
+    @Test
+    public void testIsPureValue() {
+        this.isPureAndCheck(
+            this.purityContext(false),
+            true
+        );
+    }
+
+    @Test
+    public void testIsPureFunctionPure() {
+        this.isPureAndCheck(
+            ExpressionValidator.with(FUNCTION),
+            this.purityContext(true),
+            true
+        );
+    }
+
+    @Test
+    public void testIsPureFunctionNotPure() {
+        this.isPureAndCheck(
+            ExpressionValidator.with(FUNCTION),
+            this.purityContext(false),
+            false
+        );
+    }
+
+    private final static ExpressionFunctionName FUNCTION_NAME = ExpressionFunctionName.with("getValidator");
+
+    private final static Expression FUNCTION = Expression.call(
+        Expression.namedFunction(FUNCTION_NAME),
+        Lists.empty()
+    );
+
+    private ExpressionPurityContext purityContext(final boolean pure) {
+        return new ExpressionPurityContext() {
+            @Override
+            public boolean isPure(final ExpressionFunctionName name) {
+                checkEquals(FUNCTION_NAME, name);
+                return pure;
+            }
+        };
+    }
+
     // toString.........................................................................................................
 
     @Test
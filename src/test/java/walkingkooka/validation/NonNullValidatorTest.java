@@ -20,6 +20,11 @@ package walkingkooka.validation;
 import org.junit.jupiter.api.Test;
 import walkingkooka.Cast;
 import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.tree.expression.ExpressionFunctionName;
+import walkingkooka.tree.expression.ExpressionPurityContext;
+
+import java.util.List;
 
 public final class NonNullValidatorTest implements ValidatorTesting2<NonNullValidator<TestValidationReference, TestValidatorContext>, TestValidationReference, TestValidatorContext>,
     ToStringTesting<NonNullValidator<TestValidationReference, TestValidatorContext>> {
@@ -44,6 +49,67 @@ public final class NonNullValidatorTest implements ValidatorTesting2<NonNullVali
         );
     }
 
+    // isValid..........................................................................................................
+
+    @Test
+    public void testIsValidWithNull() {
+        this.isValidAndCheck(
+            null,
+            this.createContext(),
+            false
+        );
+    }
+
+    @Test
+    public void testIsValidWithNonNull() {
+        this.isValidAndCheck(
+            "Hello",
+            this.createContext(),
+            true
+        );
+    }
+
+    // validateAll......................................................................................................
+
+    @Test
+    public void testValidateAll() {
+        final List<Integer> contextIndices = Lists.array();
+
+        this.validateAllAndCheck(
+            this.createValidator(),
+            Lists.of(
+                "A",
+                null,
+                "C",
+                null
+            ),
+            (i) -> {
+                contextIndices.add(i);
+                return this.createContext();
+            },
+            ValidationErrorColumnBuilder.<TestValidationReference>with(4)
+                .add(
+                    1,
+                    Lists.of(
+                        ValidationError.with(REFERENCE)
+                            .setMessage("Missing HelloField")
+                    )
+                ).add(
+                    3,
+                    Lists.of(
+                        ValidationError.with(REFERENCE)
+                            .setMessage("Missing HelloField")
+                    )
+                ).build()
+        );
+
+        this.checkEquals(
+            Lists.of(1, 3),
+            contextIndices,
+            "contexts only created for null values"
+        );
+    }
+
     @Override
     public NonNullValidator<TestValidationReference, TestValidatorContext> createValidator() {
         return NonNullValidator.instance();
@@ -60,6 +126,21 @@ public final class NonNullValidatorTest implements ValidatorTesting2<NonNullVali
         };
     }
 
+    // isPure...........................................................................................................
+
+    @Test
+    public void testIsPure() {
+        this.isPureAndCheck(
+            new ExpressionPurityContext() {
+                @Override
+                public boolean isPure(final ExpressionFunctionName name) {
+                    throw new UnsupportedOperationException();
+                }
+            },
+            false
+        );
+    }
+
     // toString.........................................................................................................
 
     @Test
@@ -63,7 +63,110 @@ public final class TextLengthValidatorTest implements ValidatorTesting2<TextLeng
             "ABCDEFG",
             this.createContext(),
             ValidationError.with(REFERENCE)
-                .setMessage("Text length 7 > 2")
+                .setMessage("Text length 7 > 4")
+        );
+    }
+
+    @Test
+    public void testValidateWithMaxLengthString() {
+        this.validateAndCheck(
+            "ABCD",
+            this.createContext()
+        );
+    }
+
+    @Test
+    public void testValidateWithOneMoreThanMaxLengthString() {
+        this.validateAndCheck(
+            TextLengthValidator.with(
+                1,
+                3
+            ),
+            "ABCD",
+            this.createContext(),
+            ValidationError.with(REFERENCE)
+                .setMessage("Text length 4 > 3")
+        );
+    }
+
+    @Test
+    public void testValidateNullWithZeroMinLength() {
+        this.validateAndCheck(
+            TextLengthValidator.with(
+                0,
+                4
+            ),
+            null,
+            this.createContext()
+        );
+    }
+
+    // isValid..........................................................................................................
+
+    @Test
+    public void testIsValidWithNullAndZeroMinLength() {
+        this.isValidAndCheck(
+            TextLengthValidator.with(
+                0,
+                4
+            ),
+            null,
+            this.createContext(),
+            true
+        );
+    }
+
+    @Test
+    public void testIsValidWithNull() {
+        this.isValidAndCheck(
+            null,
+            this.createContext(),
+            false
+        );
+    }
+
+    @Test
+    public void testIsValidWithEmptyString() {
+        this.isValidAndCheck(
+            "",
+            this.createContext(),
+            false
+        );
+    }
+
+    @Test
+    public void testIsValidWithShorterString() {
+        this.isValidAndCheck(
+            "A",
+            this.createContext(),
+            false
+        );
+    }
+
+    @Test
+    public void testIsValidWithLongerString() {
+        this.isValidAndCheck(
+            "ABCDEFG",
+            this.createContext(),
+            false
+        );
+    }
+
+    @Test
+    public void testIsValidWithMinLength() {
+        this.isValidAndCheck(
+            "AB",
+            this.createContext(),
+            true
+        );
+    }
+
+    @Test
+    public void testIsValidWithMaxLength() {
+        this.isValidAndCheck(
+            "ABCD",
+            this.createContext(),
+            true
         );
     }
 
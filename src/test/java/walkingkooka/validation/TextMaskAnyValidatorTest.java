@@ -0,0 +1,461 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.Either;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.convert.Converter;
+import walkingkooka.convert.Converters;
+import walkingkooka.text.printer.TreePrintableTesting;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class TextMaskAnyValidatorTest implements ValidatorTesting2<TextMaskAnyValidator<TestValidationReference, TestValidatorContext>, TestValidationReference, TestValidatorContext>,
+    ToStringTesting<TextMaskAnyValidator<TestValidationReference, TestValidatorContext>>,
+    HashCodeEqualsDefinedTesting2<TextMaskAnyValidator<TestValidationReference, TestValidatorContext>>,
+    TreePrintableTesting {
+
+    private final static TestValidationReference REFERENCE = new TestValidationReference("HelloField");
+
+    private final static List<String> MASKS = Lists.of(
+        "AAA",
+        "999",
+        "9-9"
+    );
+
+    // parse............................................................................................................
+
+    @Test
+    public void testParseWithNullMasksFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> TextMaskAnyValidator.parse(null)
+        );
+    }
+
+    @Test
+    public void testParseWithEmptyMasksFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> TextMaskAnyValidator.parse(Lists.empty())
+        );
+        this.checkEquals(
+            "Empty masks",
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testParseWithInvalidMaskFails() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> TextMaskAnyValidator.parse(
+                Lists.of(
+                    "999",
+                    "B"
+                )
+            )
+        );
+    }
+
+    // validate.........................................................................................................
+
+    @Test
+    public void testValidateFirstMask() {
+        this.textValidateAndCheck(
+            "abc"
+        );
+    }
+
+    @Test
+    public void testValidateSecondMask() {
+        this.textValidateAndCheck(
+            "123"
+        );
+    }
+
+    @Test
+    public void testValidateLastMask() {
+        this.textValidateAndCheck(
+            "1-2"
+        );
+    }
+
+    @Test
+    public void testValidateEmpty() {
+        this.textValidateAndCheck(
+            "",
+            "End of text expected letter or digit"
+        );
+    }
+
+    @Test
+    public void testValidateEndOfText() {
+        this.textValidateAndCheck(
+            "12",
+            "End of text expected digit"
+        );
+    }
+
+    @Test
+    public void testValidateInvalidCharacter() {
+        this.textValidateAndCheck(
+            "1a",
+            "Invalid character 'a' at 1 expected digit or '-'"
+        );
+    }
+
+    @Test
+    public void testValidateInvalidFirstCharacter() {
+        this.textValidateAndCheck(
+            "!",
+            "Invalid character '!' at 0 expected letter or digit"
+        );
+    }
+
+    @Test
+    public void testValidateTextAfterCompleteMatch() {
+        this.textValidateAndCheck(
+            "abcd",
+            "Invalid character 'd' at 3"
+        );
+    }
+
+    @Test
+    public void testValidateWithTextLiterals() {
+        this.validateAndCheck(
+            TextMaskAnyValidator.parse(
+                Lists.of(
+                    "\"Hello\"",
+                    "\"Help\""
+                )
+            ),
+            "Hel",
+            this.createContext(),
+            ValidationError.with(REFERENCE)
+                .setMessage("End of text expected \"Hello\" or \"Help\"")
+        );
+    }
+
+    @Test
+    public void testValidateWithManyMasks() {
+        final List<String> masks = Lists.array();
+        final StringBuilder mask = new StringBuilder();
+
+        for (int i = 0; i < 70; i++) {
+            mask.append('9');
+            masks.add(mask.toString());
+        }
+
+        final TextMaskAnyValidator<TestValidationReference, TestValidatorContext> validator = TextMaskAnyValidator.parse(masks);
+
+        this.validateAndCheck(
+            validator,
+            "123456789012",
+            this.createContext()
+        );
+
+        this.validateAndCheck(
+            validator,
+            "12345678901a",
+            this.createContext(),
+            ValidationError.with(REFERENCE)
+                .setMessage("Invalid character 'a' at 11 expected digit")
+        );
+    }
+
+    private void textValidateAndCheck(final String text,
+                                      final String expected) {
+        this.validateAndCheck(
+            this.createValidator(),
+            text,
+            this.createContext(),
+            ValidationError.with(REFERENCE)
+                .setMessage(expected)
+        );
+    }
+
+    private void textValidateAndCheck(final String text) {
+        this.validateAndCheck(
+            this.createValidator(),
+            text,
+            this.createContext()
+        );
+    }
+
+    // matchedMask......................................................................................................
+
+    @Test
+    public void testMatchedMask() {
+        this.matchedMaskAndCheck(
+            "abc",
+            0
+        );
+    }
+
+    @Test
+    public void testMatchedMask2() {
+        this.matchedMaskAndCheck(
+            "123",
+            1
+        );
+    }
+
+    @Test
+    public void testMatchedMask3() {
+        this.matchedMaskAndCheck(
+            "1-2",
+            2
+        );
+    }
+
+    @Test
+    public void testMatchedMaskNone() {
+        this.matchedMaskAndCheck(
+            "12",
+            -1
+        );
+    }
+
+    @Test
+    public void testMatchedMaskFirstOfSeveral() {
+        this.checkEquals(
+            1,
+            TextMaskAnyValidator.parse(
+                Lists.of(
+                    "AA",
+                    "9*",
+                    "99"
+                )
+            ).matchedMask("12")
+        );
+    }
+
+    @Test
+    public void testMatchedMaskNull() {
+        this.checkEquals(
+            0,
+            TextMaskAnyValidator.parse(
+                Lists.of(
+                    "9+",
+                    "AA"
+                )
+            ).matchedMask(null)
+        );
+    }
+
+    @Test
+    public void testMatchedMaskTooShort() {
+        this.matchedMaskAndCheck(
+            "1",
+            -1
+        );
+    }
+
+    @Test
+    public void testMatchedMaskTooLong() {
+        this.matchedMaskAndCheck(
+            "1234",
+            -1
+        );
+    }
+
+    @Test
+    public void testMatchedMaskWithCount() {
+        this.checkEquals(
+            1,
+            TextMaskAnyValidator.parse(
+                Lists.of(
+                    "AA",
+                    "9{2,3}"
+                )
+            ).matchedMask("123")
+        );
+    }
+
+    @Test
+    public void testMatchedMaskWithManySteps() {
+        final String longMask = "\"" + "x".repeat(70) + "\"";
+
+        this.checkEquals(
+            1,
+            TextMaskAnyValidator.parse(
+                Lists.of(
+                    "99",
+                    longMask
+                )
+            ).matchedMask(
+                "x".repeat(70)
+            )
+        );
+    }
+
+    @Test
+    public void testMatchedMaskValidatorsTextMaskAny() {
+        this.checkEquals(
+            2,
+            Validators.<TestValidationReference, TestValidatorContext>textMaskAny(MASKS)
+                .matchedMask("1-2")
+        );
+    }
+
+    // test.............................................................................................................
+
+    @Test
+    public void testTest() {
+        this.checkEquals(
+            true,
+            this.createValidator()
+                .test("1-2")
+        );
+    }
+
+    @Test
+    public void testTestNoMatch() {
+        this.checkEquals(
+            false,
+            this.createValidator()
+                .test("1-")
+        );
+    }
+
+    @Test
+    public void testIsValid() {
+        this.isValidAndCheck(
+            "1-2",
+            this.createContext(),
+            true
+        );
+    }
+
+    @Test
+    public void testIsValidNoMatch() {
+        this.isValidAndCheck(
+            "1-",
+            this.createContext(),
+            false
+        );
+    }
+
+    private void matchedMaskAndCheck(final String text,
+                                     final int expected) {
+        this.checkEquals(
+            expected,
+            this.createValidator()
+                .matchedMask(text),
+            () -> "matchedMask " + text
+        );
+    }
+
+    @Override
+    public TextMaskAnyValidator<TestValidationReference, TestValidatorContext> createValidator() {
+        return TextMaskAnyValidator.parse(MASKS);
+    }
+
+    @Override
+    public TestValidatorContext createContext() {
+        return new TestValidatorContext() {
+
+            @Override
+            public <T> Either<T, String> convert(final Object value,
+                                                 final Class<T> target) {
+                return this.converter.convert(
+                    value,
+                    target,
+                    this
+                );
+            }
+
+            private final Converter<TestValidatorContext> converter = Converters.collection(
+                Lists.of(
+                    Converters.characterOrCharSequenceOrHasTextOrStringToCharacterOrCharSequenceOrString(),
+                    Converters.toText()
+                )
+            );
+
+            @Override
+            public TestValidationReference validationReference() {
+                return REFERENCE;
+            }
+        };
+    }
+
+    // hashCode/equals..................................................................................................
+
+    @Test
+    public void testEqualsDifferentMasks() {
+        this.checkNotEquals(
+            TextMaskAnyValidator.parse(
+                Lists.of(
+                    "AAA",
+                    "999"
+                )
+            )
+        );
+    }
+
+    @Override
+    public TextMaskAnyValidator<TestValidationReference, TestValidatorContext> createObject() {
+        return TextMaskAnyValidator.parse(MASKS);
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createValidator(),
+            "[AAA, 999, 9-9]"
+        );
+    }
+
+    // TreePrintable....................................................................................................
+
+    @Test
+    public void testTreePrint() {
+        this.treePrintAndCheck(
+            TextMaskAnyValidator.parse(
+                Lists.of(
+                    "99",
+                    "A"
+                )
+            ),
+            "TextMaskAnyValidator\n" +
+                "  TextMaskValidator\n" +
+                "    \"99\"\n" +
+                "      TextMaskValidatorComponentCharacterDigit 9\n" +
+                "      TextMaskValidatorComponentCharacterDigit 9\n" +
+                "  TextMaskValidator\n" +
+                "    \"A\"\n" +
+                "      TextMaskValidatorComponentCharacterLetter A\n"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<TextMaskAnyValidator<TestValidationReference, TestValidatorContext>> type() {
+        return Cast.to(TextMaskAnyValidator.class);
+    }
+}
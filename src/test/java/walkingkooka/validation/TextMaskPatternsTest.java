@@ -0,0 +1,319 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.reflect.PublicStaticHelperTesting;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class TextMaskPatternsTest implements PublicStaticHelperTesting<TextMaskPatterns> {
+
+    // pattern..........................................................................................................
+
+    @Test
+    public void testPatternWithNullMaskFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> TextMaskPatterns.pattern(null)
+        );
+    }
+
+    @Test
+    public void testPatternDigitLetter() {
+        this.patternAndCheck(
+            "9A",
+            "[\\p{javaDigit}][\\p{javaLetter}]"
+        );
+    }
+
+    @Test
+    public void testPatternAnyLowerUpper() {
+        this.patternAndCheck(
+            "?LU",
+            "[\\x{0}-\\x{ffff}][\\p{javaLowerCase}][\\p{javaUpperCase}]"
+        );
+    }
+
+    @Test
+    public void testPatternCharacters() {
+        this.patternAndCheck(
+            "- /",
+            "[\\x{2d}][\\x{20}][\\x{2f}]"
+        );
+    }
+
+    @Test
+    public void testPatternTextLiteral() {
+        this.patternAndCheck(
+            "\"Hello.\"",
+            "Hello\\x{2e}"
+        );
+    }
+
+    @Test
+    public void testPatternNot() {
+        this.patternAndCheck(
+            "~9~\"ab\"",
+            "[^\\p{javaDigit}][^\\x{61}][^\\x{62}]"
+        );
+    }
+
+    @Test
+    public void testPatternOptionalRepeatingCount() {
+        this.patternAndCheck(
+            "9+A*\"ab\"{2,3}",
+            "(?:[\\p{javaDigit}])?(?:[\\p{javaLetter}])*(?:ab){2,3}"
+        );
+    }
+
+    @Test
+    public void testPatternMatchesSameText() {
+        final String mask = "9*9-\"ab\"{1,2}~A";
+        final Pattern pattern = TextMaskPatterns.pattern(mask);
+        final TextMaskValidator<?, ?> validator = TextMaskValidator.parse(mask);
+
+        for (final String text : new String[]{
+            "1-ab1",
+            "123-abab!",
+            "-ab1",
+            "12-ababab1",
+            "12-abA",
+            "12-ab"
+        }) {
+            this.checkEquals(
+                validator.test(text),
+                pattern.matcher(text)
+                    .matches(),
+                () -> mask + " " + text
+            );
+        }
+    }
+
+    private void patternAndCheck(final String mask,
+                                 final String expected) {
+        this.checkEquals(
+            expected,
+            TextMaskPatterns.pattern(mask)
+                .pattern(),
+            () -> "pattern " + mask
+        );
+    }
+
+    // mask.............................................................................................................
+
+    @Test
+    public void testMaskWithNullPatternFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> TextMaskPatterns.mask(null)
+        );
+    }
+
+    @Test
+    public void testMaskLiteral() {
+        this.maskAndCheck(
+            "abc",
+            "\"abc\""
+        );
+    }
+
+    @Test
+    public void testMaskLiteralAndEscapedCharacter() {
+        this.maskAndCheck(
+            "a\\-",
+            "\"a-\""
+        );
+    }
+
+    @Test
+    public void testMaskEscapedCharacters() {
+        this.maskAndCheck(
+            "\\.\\$",
+            "\".$\""
+        );
+    }
+
+    @Test
+    public void testMaskCharacterClasses() {
+        this.maskAndCheck(
+            "\\p{javaDigit}[\\p{javaLetter}]\\p{javaLowerCase}[^\\p{javaUpperCase}]",
+            "9AL~U"
+        );
+    }
+
+    @Test
+    public void testMaskNotLiteral() {
+        this.maskAndCheck(
+            "[^a][^b]",
+            "~\"ab\""
+        );
+    }
+
+    @Test
+    public void testMaskQuantifiers() {
+        this.maskAndCheck(
+            "a?\\p{javaDigit}*(?:ab){2,3}",
+            "\\a+9*\"ab\"{2,3}"
+        );
+    }
+
+    @Test
+    public void testMaskOneOrMore() {
+        this.maskAndCheck(
+            "\\p{javaDigit}+",
+            "99*"
+        );
+    }
+
+    @Test
+    public void testMaskDotAll() {
+        this.maskAndCheck(
+            Pattern.compile(
+                ".",
+                Pattern.DOTALL
+            ),
+            "?"
+        );
+    }
+
+    @Test
+    public void testMaskDotWithoutDotAll() {
+        this.maskAndCheck(
+            ".",
+            Optional.empty()
+        );
+    }
+
+    @Test
+    public void testMaskDigitShorthand() {
+        this.maskAndCheck(
+            "\\d",
+            Optional.empty()
+        );
+    }
+
+    @Test
+    public void testMaskAlternation() {
+        this.maskAndCheck(
+            "a|b",
+            Optional.empty()
+        );
+    }
+
+    @Test
+    public void testMaskCapturingGroup() {
+        this.maskAndCheck(
+            "(a)",
+            Optional.empty()
+        );
+    }
+
+    @Test
+    public void testMaskLazyQuantifier() {
+        this.maskAndCheck(
+            "a*?",
+            Optional.empty()
+        );
+    }
+
+    @Test
+    public void testMaskCaseInsensitive() {
+        this.maskAndCheck(
+            Pattern.compile(
+                "a",
+                Pattern.CASE_INSENSITIVE
+            ),
+            Optional.empty()
+        );
+    }
+
+    @Test
+    public void testMaskRoundtrip() {
+        for (final String mask : new String[]{
+            "99-AA",
+            "?LU",
+            "\"Hello\"",
+            "~9~\"Hi\"",
+            "9+A*\"ab\"{2,3}"
+        }) {
+            this.checkEquals(
+                Optional.of(mask),
+                TextMaskPatterns.mask(
+                    TextMaskPatterns.pattern(mask)
+                ),
+                () -> "roundtrip " + mask
+            );
+        }
+    }
+
+    private void maskAndCheck(final String regex,
+                              final String expected) {
+        this.maskAndCheck(
+            Pattern.compile(regex),
+            Optional.of(expected)
+        );
+    }
+
+    private void maskAndCheck(final String regex,
+                              final Optional<String> expected) {
+        this.maskAndCheck(
+            Pattern.compile(regex),
+            expected
+        );
+    }
+
+    private void maskAndCheck(final Pattern pattern,
+                              final String expected) {
+        this.maskAndCheck(
+            pattern,
+            Optional.of(expected)
+        );
+    }
+
+    private void maskAndCheck(final Pattern pattern,
+                              final Optional<String> expected) {
+        this.checkEquals(
+            expected,
+            TextMaskPatterns.mask(pattern),
+            () -> "mask " + pattern
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public boolean canHavePublicTypes(final Method method) {
+        return false;
+    }
+
+    @Override
+    public Class<TextMaskPatterns> type() {
+        return TextMaskPatterns.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
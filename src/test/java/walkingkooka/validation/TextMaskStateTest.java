@@ -0,0 +1,279 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class TextMaskStateTest implements ClassTesting2<TextMaskState>,
+    HashCodeEqualsDefinedTesting2<TextMaskState>,
+    ToStringTesting<TextMaskState> {
+
+    private final static String MASK = "999-9999";
+
+    @Test
+    public void testParseWithNullMaskFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> TextMaskState.parse(null)
+        );
+    }
+
+    @Test
+    public void testParse() {
+        this.checkState(
+            TextMaskState.parse(MASK),
+            TextMaskStatus.VALID_PREFIX,
+            0
+        );
+    }
+
+    @Test
+    public void testParseOptionalMask() {
+        this.checkState(
+            TextMaskState.parse("9+"),
+            TextMaskStatus.COMPLETE,
+            0
+        );
+    }
+
+    @Test
+    public void testAppendWithNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> TextMaskState.parse(MASK)
+                .append(null)
+        );
+    }
+
+    @Test
+    public void testAppendEmpty() {
+        final TextMaskState state = TextMaskState.parse(MASK);
+
+        assertSame(
+            state,
+            state.append("")
+        );
+    }
+
+    @Test
+    public void testAppendValidPrefix() {
+        this.appendAndCheck(
+            MASK,
+            TextMaskStatus.VALID_PREFIX,
+            3,
+            "12",
+            "3"
+        );
+    }
+
+    @Test
+    public void testAppendComplete() {
+        this.appendAndCheck(
+            MASK,
+            TextMaskStatus.COMPLETE,
+            8,
+            "12",
+            "3-45",
+            "67"
+        );
+    }
+
+    @Test
+    public void testAppendInvalid() {
+        this.appendAndCheck(
+            MASK,
+            TextMaskStatus.INVALID,
+            3,
+            "12",
+            "3!"
+        );
+    }
+
+    @Test
+    public void testAppendAfterComplete() {
+        this.appendAndCheck(
+            MASK,
+            TextMaskStatus.INVALID,
+            8,
+            "123-4567",
+            "8"
+        );
+    }
+
+    @Test
+    public void testAppendAfterInvalid() {
+        final TextMaskState state = TextMaskState.parse(MASK)
+            .append("1A");
+
+        this.checkState(
+            state,
+            TextMaskStatus.INVALID,
+            1
+        );
+
+        assertSame(
+            state,
+            state.append("23")
+        );
+    }
+
+    @Test
+    public void testAppendRepeating() {
+        this.appendAndCheck(
+            "A9*",
+            TextMaskStatus.COMPLETE,
+            4,
+            "A",
+            "1",
+            "23"
+        );
+    }
+
+    @Test
+    public void testAppendOptional() {
+        this.appendAndCheck(
+            "\"Hello\"9+",
+            TextMaskStatus.COMPLETE,
+            5,
+            "Hel",
+            "lo"
+        );
+    }
+
+    @Test
+    public void testAppendMaskMoreThan64Components() {
+        final StringBuilder mask = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            mask.append('9');
+        }
+
+        TextMaskState state = TextMaskState.parse(mask.toString());
+        for (int i = 0; i < 99; i++) {
+            state = state.append("1");
+        }
+
+        this.checkState(
+            state,
+            TextMaskStatus.VALID_PREFIX,
+            99
+        );
+
+        this.checkState(
+            state.append("1"),
+            TextMaskStatus.COMPLETE,
+            100
+        );
+    }
+
+    @Test
+    public void testAppendSameAsAllAtOnce() {
+        this.checkEquals(
+            TextMaskState.parse(MASK)
+                .append("123-4567"),
+            TextMaskState.parse(MASK)
+                .append("1")
+                .append("23-")
+                .append("4567")
+        );
+    }
+
+    private void appendAndCheck(final String mask,
+                                final TextMaskStatus status,
+                                final int offset,
+                                final String... texts) {
+        TextMaskState state = TextMaskState.parse(mask);
+        for (final String text : texts) {
+            state = state.append(text);
+        }
+
+        this.checkState(
+            state,
+            status,
+            offset
+        );
+    }
+
+    private void checkState(final TextMaskState state,
+                            final TextMaskStatus status,
+                            final int offset) {
+        this.checkEquals(
+            status,
+            state.status(),
+            () -> "status " + state
+        );
+        this.checkEquals(
+            offset,
+            state.offset(),
+            () -> "offset " + state
+        );
+    }
+
+    // hashCode/equals..................................................................................................
+
+    @Test
+    public void testEqualsDifferentOffset() {
+        this.checkNotEquals(
+            TextMaskState.parse(MASK)
+                .append("12")
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentMask() {
+        this.checkNotEquals(
+            TextMaskState.parse("999-999")
+                .append("1")
+        );
+    }
+
+    @Override
+    public TextMaskState createObject() {
+        return TextMaskState.parse(MASK)
+            .append("1");
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            TextMaskState.parse(MASK)
+                .append("12"),
+            "VALID_PREFIX 2"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<TextMaskState> type() {
+        return TextMaskState.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class TextMaskValidatorCacheTest implements ClassTesting<TextMaskValidatorCache>,
+    ToStringTesting<TextMaskValidatorCache> {
+
+    @Test
+    public void testWithZeroMaxSizeFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> TextMaskValidatorCache.with(0)
+        );
+        this.checkEquals(
+            "Invalid maxSize 0 <= 0",
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testParseWithNullMaskFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> TextMaskValidatorCache.with(1)
+                .parse(null)
+        );
+    }
+
+    @Test
+    public void testParseWithInvalidMaskFailsAndNotCached() {
+        final TextMaskValidatorCache cache = TextMaskValidatorCache.with(2);
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> cache.parse("B")
+        );
+        this.checkEquals(
+            0,
+            cache.size(),
+            "size"
+        );
+    }
+
+    @Test
+    public void testParseSameMaskReturnsSameInstance() {
+        final TextMaskValidatorCache cache = TextMaskValidatorCache.with(2);
+
+        final TextMaskValidator<?, ?> validator = cache.parse("99-99");
+        assertSame(
+            validator,
+            cache.parse("99-99")
+        );
+
+        this.checkEquals(
+            TextMaskValidator.parse("99-99"),
+            validator
+        );
+        this.sizeHitsMissesAndEvictionsCheck(
+            cache,
+            1,
+            1,
+            1,
+            0
+        );
+    }
+
+    @Test
+    public void testParseDifferentMasks() {
+        final TextMaskValidatorCache cache = TextMaskValidatorCache.with(2);
+
+        assertNotSame(
+            cache.parse("99"),
+            cache.parse("AA")
+        );
+        this.sizeHitsMissesAndEvictionsCheck(
+            cache,
+            2,
+            0,
+            2,
+            0
+        );
+    }
+
+    @Test
+    public void testParseEvictsLeastRecentlyUsed() {
+        final TextMaskValidatorCache cache = TextMaskValidatorCache.with(2);
+
+        final TextMaskValidator<?, ?> digits = cache.parse("99");
+        cache.parse("AA");
+        cache.parse("99"); // AA is now least recently used
+        cache.parse("LL"); // evicts AA
+
+        assertSame(
+            digits,
+            cache.parse("99")
+        );
+        this.sizeHitsMissesAndEvictionsCheck(
+            cache,
+            2,
+            2,
+            3,
+            1
+        );
+
+        cache.parse("AA");
+        this.sizeHitsMissesAndEvictionsCheck(
+            cache,
+            2,
+            2,
+            4,
+            2
+        );
+    }
+
+    @Test
+    public void testInstance() {
+        assertSame(
+            TextMaskValidatorCache.INSTANCE.parse("9A9"),
+            TextMaskValidatorCache.INSTANCE.parse("9A9")
+        );
+    }
+
+    private void sizeHitsMissesAndEvictionsCheck(final TextMaskValidatorCache cache,
+                                                 final int size,
+                                                 final long hits,
+                                                 final long misses,
+                                                 final long evictions) {
+        this.checkEquals(
+            size,
+            cache.size(),
+            "size"
+        );
+        this.checkEquals(
+            hits,
+            cache.hits(),
+            "hits"
+        );
+        this.checkEquals(
+            misses,
+            cache.misses(),
+            "misses"
+        );
+        this.checkEquals(
+            evictions,
+            cache.evictions(),
+            "evictions"
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        final TextMaskValidatorCache cache = TextMaskValidatorCache.with(1);
+        cache.parse("99");
+        cache.parse("99");
+        cache.parse("AA");
+
+        this.toStringAndCheck(
+            cache,
+            "size=1 hits=1 misses=2 evictions=1"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<TextMaskValidatorCache> type() {
+        return TextMaskValidatorCache.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -19,10 +19,10 @@ package walkingkooka.validation;
 
 import walkingkooka.Cast;
 
-public final class TextMaskValidatorComponentRepeatingNextTest extends TextMaskValidatorComponentTestCase<TextMaskValidatorComponentRepeatingNext<?>> {
+public final class TextMaskValidatorComponentCountTest extends TextMaskValidatorComponentTestCase<TextMaskValidatorComponentCount<?>> {
 
     @Override
-    public Class<TextMaskValidatorComponentRepeatingNext<?>> type() {
-        return Cast.to(TextMaskValidatorComponentRepeatingNext.class);
+    public Class<TextMaskValidatorComponentCount<?>> type() {
+        return Cast.to(TextMaskValidatorComponentCount.class);
     }
 }
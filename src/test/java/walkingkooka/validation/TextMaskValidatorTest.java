@@ -78,6 +78,110 @@ public final class TextMaskValidatorTest implements ValidatorTesting2<TextMaskVa
         );
     }
 
+    @Test
+    public void testParseCountWithoutPrecedingComponent() {
+        this.parseStringFails(
+            "{2}",
+            new IllegalArgumentException("Count '{': Missing component before")
+        );
+    }
+
+    @Test
+    public void testParseCountAfterOptional() {
+        this.parseStringFails(
+            "9+{2}",
+            new IllegalArgumentException("Count '{': Cannot follow \"9+\"")
+        );
+    }
+
+    @Test
+    public void testParseCountAfterNot() {
+        this.parseStringFails(
+            "9~{2}",
+            new IllegalArgumentException("Count '{': Cannot follow '~'")
+        );
+    }
+
+    @Test
+    public void testParseCountAfterCount() {
+        this.parseStringFails(
+            "9{2}{3}",
+            new IllegalArgumentException("Count '{': Cannot follow \"9{2}\"")
+        );
+    }
+
+    @Test
+    public void testParseOptionalAfterCount() {
+        this.parseStringFails(
+            "9{2}+",
+            new IllegalArgumentException("Optional '+': Cannot follow \"9{2}\"")
+        );
+    }
+
+    @Test
+    public void testParseRepeatingAfterCount() {
+        this.parseStringFails(
+            "9{2}*",
+            new IllegalArgumentException("Repeating '*': Cannot follow \"9{2}\"")
+        );
+    }
+
+    @Test
+    public void testParseUnclosedCount() {
+        this.parseStringFails(
+            "9{2",
+            new IllegalArgumentException("Unclosed count")
+        );
+    }
+
+    @Test
+    public void testParseCountInvalidCharacter() {
+        this.parseStringInvalidCharacterFails(
+            "9{2A}",
+            'A'
+        );
+    }
+
+    @Test
+    public void testParseEmptyCount() {
+        this.parseStringFails(
+            "9{}",
+            new IllegalArgumentException("Invalid count \"{}\"")
+        );
+    }
+
+    @Test
+    public void testParseCountZero() {
+        this.parseStringFails(
+            "9{0}",
+            new IllegalArgumentException("Invalid count \"{0}\"")
+        );
+    }
+
+    @Test
+    public void testParseCountMinGreaterThanMax() {
+        this.parseStringFails(
+            "9{3,2}",
+            new IllegalArgumentException("Invalid count \"{3,2}\"")
+        );
+    }
+
+    @Test
+    public void testParseCountExtraComma() {
+        this.parseStringFails(
+            "9{1,2,3}",
+            new IllegalArgumentException("Invalid count \"{1,2,3}\"")
+        );
+    }
+
+    @Test
+    public void testParseCountMaxTooLarge() {
+        this.parseStringFails(
+            "9{1,5000}",
+            new IllegalArgumentException("Invalid count \"{1,5000}\"")
+        );
+    }
+
     @Test
     public void testParseAny() {
         this.parseMaskAndCheck(
@@ -227,6 +331,57 @@ public final class TextMaskValidatorTest implements ValidatorTesting2<TextMaskVa
         );
     }
 
+    @Test
+    public void testParseCount() {
+        this.parseMaskAndCheck(
+            "9{4}",
+            TextMaskValidatorComponentCount.with(
+                TextMaskValidatorComponent.digit(),
+                4,
+                4
+            )
+        );
+    }
+
+    @Test
+    public void testParseCountMinMax() {
+        this.parseMaskAndCheck(
+            "9{4,12}-",
+            TextMaskValidatorComponentCount.with(
+                TextMaskValidatorComponent.digit(),
+                4,
+                12
+            ),
+            TextMaskValidatorComponent.character('-')
+        );
+    }
+
+    @Test
+    public void testParseCountTextLiteral() {
+        this.parseMaskAndCheck(
+            "\"ab\"{0,3}",
+            TextMaskValidatorComponentCount.with(
+                TextMaskValidatorComponent.textLiteral("ab"),
+                0,
+                3
+            )
+        );
+    }
+
+    @Test
+    public void testParseNotCount() {
+        this.parseMaskAndCheck(
+            "~9{3}",
+            TextMaskValidatorComponentCount.with(
+                TextMaskValidatorComponent.not(
+                    TextMaskValidatorComponent.digit()
+                ),
+                3,
+                3
+            )
+        );
+    }
+
     @Test
     public void testParseOptionalLetterDigit() {
         this.parseMaskAndCheck(
@@ -609,6 +764,319 @@ public final class TextMaskValidatorTest implements ValidatorTesting2<TextMaskVa
         );
     }
 
+    @Test
+    public void testValidateWithTextLiteralMissingCharacters() {
+        this.maskValidateAndCheck(
+            "\"Hello\"",
+            "Hel",
+            "End of text expected \"Hello\""
+        );
+    }
+
+    @Test
+    public void testValidateWithTextLiteralAndExtraCharacter() {
+        this.maskValidateAndCheck(
+            "\"Hello\"",
+            "Hello!",
+            "Invalid character '!' at 5"
+        );
+    }
+
+    @Test
+    public void testValidateWithOptionalLetterAndInvalidCharacter() {
+        this.maskValidateAndCheck(
+            "A+9",
+            "!",
+            "Invalid character '!' at 0 expected digit"
+        );
+    }
+
+    @Test
+    public void testValidateWithNonAsciiLetter() {
+        this.maskValidateAndCheck(
+            "A",
+            "é"
+        );
+    }
+
+    @Test
+    public void testValidateWithDigitMaskAndNonAsciiLetter() {
+        this.maskValidateAndCheck(
+            "9",
+            "é",
+            "Invalid character 'é' at 0 expected digit"
+        );
+    }
+
+    @Test
+    public void testValidateWithMaskMoreThan64Components() {
+        final StringBuilder mask = new StringBuilder();
+        final StringBuilder text = new StringBuilder();
+
+        for (int i = 0; i < 100; i++) {
+            mask.append(i % 2 == 0 ? '9' : 'A');
+            text.append(i % 2 == 0 ? '1' : 'b');
+        }
+
+        this.maskValidateAndCheck(
+            mask.toString(),
+            text.toString()
+        );
+    }
+
+    @Test
+    public void testValidateWithMaskMoreThan64ComponentsAndInvalidCharacter() {
+        final StringBuilder mask = new StringBuilder();
+        final StringBuilder text = new StringBuilder();
+
+        for (int i = 0; i < 100; i++) {
+            mask.append(i % 2 == 0 ? '9' : 'A');
+            text.append(i % 2 == 0 ? '1' : 'b');
+        }
+        text.setCharAt(70, '!');
+
+        this.maskValidateAndCheck(
+            mask.toString(),
+            text.toString(),
+            "Invalid character '!' at 70 expected digit"
+        );
+    }
+
+    @Test
+    public void testValidateWithTextLongerThanMaskAndInvalidFirstCharacter() {
+        this.maskValidateAndCheck(
+            "99",
+            "a123",
+            "Invalid character 'a' at 0 expected digit"
+        );
+    }
+
+    @Test
+    public void testValidateWithTextLongerThanMask() {
+        this.maskValidateAndCheck(
+            "\"Hello\"+9",
+            "Hello12",
+            "Invalid character '2' at 6"
+        );
+    }
+
+    @Test
+    public void testValidateWithTextLongerThanMaskAndInvalidCharacterBeforeMaxLength() {
+        this.maskValidateAndCheck(
+            "99",
+            "1a3",
+            "Invalid character 'a' at 1 expected digit"
+        );
+    }
+
+    @Test
+    public void testValidateWithRepeatingAndLongText() {
+        this.maskValidateAndCheck(
+            "9*A",
+            "1234567A"
+        );
+    }
+
+    @Test
+    public void testValidateWithRepeatingFollowedBySameComponent() {
+        this.maskValidateAndCheck(
+            "9*9",
+            "123"
+        );
+    }
+
+    @Test
+    public void testValidateWithRepeatingFollowedBySameComponentSingleCharacter() {
+        this.maskValidateAndCheck(
+            "9*9",
+            "1"
+        );
+    }
+
+    @Test
+    public void testValidateWithRepeatingFollowedBySameComponentMissing() {
+        this.maskValidateAndCheck(
+            "9*99",
+            "1",
+            "End of text expected digit"
+        );
+    }
+
+    @Test
+    public void testValidateWithRepeatingFollowedByTextLiteral() {
+        this.maskValidateAndCheck(
+            "A*\"ab\"",
+            "abab"
+        );
+    }
+
+    @Test
+    public void testValidateWithRepeatingFollowedByTextLiteralMissing() {
+        this.maskValidateAndCheck(
+            "A*\"ab\"",
+            "aba",
+            "End of text expected \"ab\""
+        );
+    }
+
+    @Test
+    public void testValidateWithOptionalFollowedBySameComponent() {
+        this.maskValidateAndCheck(
+            "9+9",
+            "1"
+        );
+    }
+
+    @Test
+    public void testValidateWithOptionalRepeating() {
+        this.maskValidateAndCheck(
+            "9+*9",
+            "1234"
+        );
+    }
+
+    @Test
+    public void testValidateWithRepeatingOptional() {
+        this.maskValidateAndCheck(
+            "9*+9",
+            "1234"
+        );
+    }
+
+    @Test
+    public void testValidateWithManyRepeatingAndLongInvalidText() {
+        final StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 100000; i++) {
+            text.append('a');
+        }
+        text.append('!');
+
+        this.maskValidateAndCheck(
+            "A*A*A*A*A*A*A*A*A*A*9",
+            text.toString(),
+            "Invalid character '!' at 100000 expected digit"
+        );
+    }
+
+    @Test
+    public void testValidateWithCount() {
+        this.maskValidateAndCheck(
+            "9{4}",
+            "1234"
+        );
+    }
+
+    @Test
+    public void testValidateWithCountAndMissingCharacter() {
+        this.maskValidateAndCheck(
+            "9{4}",
+            "123",
+            "End of text expected digit"
+        );
+    }
+
+    @Test
+    public void testValidateWithCountAndInvalidCharacter() {
+        this.maskValidateAndCheck(
+            "9{4}",
+            "12a4",
+            "Invalid character 'a' at 2 expected digit"
+        );
+    }
+
+    @Test
+    public void testValidateWithCountMinMax() {
+        this.maskValidateAndCheck(
+            "9{4,12}",
+            "123456789012"
+        );
+    }
+
+    @Test
+    public void testValidateWithCountMinMaxAndExtraCharacter() {
+        this.maskValidateAndCheck(
+            "9{4,12}",
+            "1234567890123",
+            "Invalid character '3' at 12"
+        );
+    }
+
+    @Test
+    public void testValidateWithCountFollowedBySameComponent() {
+        this.maskValidateAndCheck(
+            "9{2,3}9",
+            "1234"
+        );
+    }
+
+    @Test
+    public void testValidateWithCountZeroMin() {
+        this.maskValidateAndCheck(
+            "9{0,2}A",
+            "A"
+        );
+    }
+
+    @Test
+    public void testValidateWithCountTextLiteral() {
+        this.maskValidateAndCheck(
+            "\"ab\"{2,3}",
+            "ababab"
+        );
+    }
+
+    @Test
+    public void testValidateWithCountTextLiteralAndMissingCharacter() {
+        this.maskValidateAndCheck(
+            "\"ab\"{2,3}",
+            "aba",
+            "End of text expected \"ab\""
+        );
+    }
+
+    @Test
+    public void testValidateWithCountMoreThan64() {
+        final StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 70; i++) {
+            text.append(i % 10);
+        }
+
+        this.maskValidateAndCheck(
+            "9{65,100}-",
+            text.append('-')
+                .toString()
+        );
+    }
+
+    @Test
+    public void testValidateWithCountMoreThan64AndMissingCharacter() {
+        final StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 64; i++) {
+            text.append(i % 10);
+        }
+
+        this.maskValidateAndCheck(
+            "9{65,100}",
+            text.toString(),
+            "End of text expected digit"
+        );
+    }
+
+    @Test
+    public void testValidateWithCharSequenceDoesNotConvert() {
+        this.validateAndCheck(
+            TextMaskValidator.parse("99"),
+            new StringBuilder("12"),
+            new TestValidatorContext() {
+                @Override
+                public <T> Either<T, String> convert(final Object value,
+                                                     final Class<T> target) {
+                    throw new UnsupportedOperationException();
+                }
+            }
+        );
+    }
+
     private void maskValidateAndCheck(final String mask,
                                       final String text,
                                       final String expected) {
@@ -631,6 +1099,176 @@ public final class TextMaskValidatorTest implements ValidatorTesting2<TextMaskVa
         );
     }
 
+    // test.............................................................................................................
+
+    @Test
+    public void testTestMatch() {
+        this.testAndCheck(
+            "99-AA",
+            "12-ab",
+            true
+        );
+    }
+
+    @Test
+    public void testTestInvalidCharacter() {
+        this.testAndCheck(
+            "99-AA",
+            "12-a!",
+            false
+        );
+    }
+
+    @Test
+    public void testTestEndOfText() {
+        this.testAndCheck(
+            "99-AA",
+            "12-a",
+            false
+        );
+    }
+
+    @Test
+    public void testTestTooLong() {
+        this.testAndCheck(
+            "99-AA",
+            "12-abc",
+            false
+        );
+    }
+
+    @Test
+    public void testTestTooLongAndInvalidCharacter() {
+        this.testAndCheck(
+            "99",
+            "1a3",
+            false
+        );
+    }
+
+    @Test
+    public void testTestTooShort() {
+        this.testAndCheck(
+            "99-AA",
+            "1",
+            false
+        );
+    }
+
+    @Test
+    public void testTestTooShortWithOptional() {
+        this.testAndCheck(
+            "99+9",
+            "12",
+            true
+        );
+    }
+
+    @Test
+    public void testTestNull() {
+        this.testAndCheck(
+            "9+",
+            null,
+            true
+        );
+    }
+
+    @Test
+    public void testTestNullAndRequired() {
+        this.testAndCheck(
+            "9",
+            null,
+            false
+        );
+    }
+
+    private void testAndCheck(final String mask,
+                              final CharSequence text,
+                              final boolean expected) {
+        this.checkEquals(
+            expected,
+            TextMaskValidator.parse(mask)
+                .test(text),
+            () -> mask + " test " + text
+        );
+    }
+
+    // isValid..........................................................................................................
+
+    @Test
+    public void testIsValidMatch() {
+        this.maskIsValidAndCheck(
+            "99-AA",
+            "12-ab",
+            true
+        );
+    }
+
+    @Test
+    public void testIsValidInvalidCharacter() {
+        this.maskIsValidAndCheck(
+            "99-AA",
+            "12-a!",
+            false
+        );
+    }
+
+    @Test
+    public void testIsValidEndOfText() {
+        this.maskIsValidAndCheck(
+            "99-AA",
+            "12-a",
+            false
+        );
+    }
+
+    @Test
+    public void testIsValidStringBuilder() {
+        this.maskIsValidAndCheck(
+            "99-AA",
+            new StringBuilder("12-ab"),
+            true
+        );
+    }
+
+
+
+    private void maskIsValidAndCheck(final String mask,
+                                     final Object value,
+                                     final boolean expected) {
+        this.isValidAndCheck(
+            TextMaskValidator.parse(mask),
+            value,
+            this.createContext(),
+            expected
+        );
+    }
+
+    // validateAll......................................................................................................
+
+    @Test
+    public void testValidateAllArray() {
+        this.checkEquals(
+            ValidationErrorColumnBuilder.<TestValidationReference>with(3)
+                .add(
+                    1,
+                    Lists.of(
+                        ValidationError.with(REFERENCE)
+                            .setMessage("Invalid character '!' at 4 expected letter")
+                    )
+                ).build(),
+            TextMaskValidator.<TestValidationReference, TestValidatorContext>parse("99-AA")
+                .validateAll(
+                    new Object[]{
+                        "12-ab",
+                        "12-a!",
+                        "34-cd"
+                    },
+                    (i) -> this.createContext()
+                )
+        );
+    }
+
     @Override
     public TextMaskValidator<TestValidationReference, TestValidatorContext> createValidator() {
         return new TextMaskValidator<>(
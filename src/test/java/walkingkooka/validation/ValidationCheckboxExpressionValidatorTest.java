@@ -21,8 +21,10 @@ import org.junit.jupiter.api.Test;
 import walkingkooka.Cast;
 import walkingkooka.Either;
 import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
 import walkingkooka.tree.expression.Expression;
 import walkingkooka.tree.expression.ExpressionEvaluationContext;
+import walkingkooka.tree.expression.ExpressionFunctionName;
 import walkingkooka.tree.expression.FakeExpressionEvaluationContext;
 
 import java.util.Optional;
@@ -93,6 +95,101 @@ public final class ValidationCheckboxExpressionValidatorTest implements Validato
         );
     }
 
+    // validateAll......................................................................................................
+
+    @Test
+    public void testValidateAllImpureExpressionEvaluatedForEachValue() {
+        final TestValidationReference reference0 = new TestValidationReference("Row0");
+        final TestValidationReference reference1 = new TestValidationReference("Row1");
+
+        this.validateAllAndCheck(
+            ValidationCheckboxExpressionValidator.with(
+                Expression.call(
+                    Expression.namedFunction(
+                        ExpressionFunctionName.with("rowCheckbox")
+                    ),
+                    Lists.empty()
+                )
+            ),
+            Lists.of(
+                TRUE,
+                TRUE
+            ),
+            (i) -> this.createReferenceRelativeContext(
+                0 == i ?
+                    reference0 :
+                    reference1
+            ),
+            ValidationErrorColumnBuilder.<TestValidationReference>with(2)
+                .add(
+                    0,
+                    Lists.of(
+                        ValidationError.with(reference0)
+                            .setValue(
+                                Optional.of(
+                                    checkboxForReference(reference0)
+                                )
+                            )
+                    )
+                ).add(
+                    1,
+                    Lists.of(
+                        ValidationError.with(reference1)
+                            .setValue(
+                                Optional.of(
+                                    checkboxForReference(reference1)
+                                )
+                            )
+                    )
+                ).build()
+        );
+    }
+
+    private static ValidationCheckbox checkboxForReference(final TestValidationReference reference) {
+        return ValidationCheckbox.with(
+            Optional.of(TRUE),
+            Optional.of(reference.toString())
+        );
+    }
+
+    /**
+     * The expression is impure and returns a checkbox that depends on the reference of the context.
+     */
+    private TestValidatorContext createReferenceRelativeContext(final TestValidationReference reference) {
+        return new TestValidatorContext() {
+
+            @Override
+            public ExpressionEvaluationContext expressionEvaluationContext(final Object value) {
+                return new FakeExpressionEvaluationContext() {
+
+                    @Override
+                    public boolean isPure(final ExpressionFunctionName name) {
+                        return false;
+                    }
+
+                    @Override
+                    public Object evaluateExpression(final Expression expression) {
+                        return checkboxForReference(reference);
+                    }
+
+                    @Override
+                    public <T> Either<T, String> convert(final Object value,
+                                                         final Class<T> target) {
+                        return this.successfulConversion(
+                            value,
+                            target
+                        );
+                    }
+                };
+            }
+
+            @Override
+            public TestValidationReference validationReference() {
+                return reference;
+            }
+        };
+    }
+
     @Override
     public ValidationCheckboxExpressionValidator<TestValidationReference, TestValidatorContext> createValidator() {
         return ValidationCheckboxExpressionValidator.with(
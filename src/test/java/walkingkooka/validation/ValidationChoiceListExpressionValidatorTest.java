@@ -24,6 +24,7 @@ import walkingkooka.ToStringTesting;
 import walkingkooka.collect.list.Lists;
 import walkingkooka.tree.expression.Expression;
 import walkingkooka.tree.expression.ExpressionEvaluationContext;
+import walkingkooka.tree.expression.ExpressionFunctionName;
 import walkingkooka.tree.expression.FakeExpressionEvaluationContext;
 
 import java.util.List;
@@ -140,6 +141,176 @@ public final class ValidationChoiceListExpressionValidatorTest implements Valida
         );
     }
 
+    // validateAll......................................................................................................
+
+    @Test
+    public void testValidateAllEvaluatesExpressionOnce() {
+        final ValidationChoiceList choices = ValidationChoiceList.EMPTY.concat(
+            ValidationChoice.with(
+                "Label1",
+                Optional.of("Value1")
+            )
+        );
+
+        final int[] evaluateCount = new int[1];
+
+        final TestValidatorContext context = new TestValidatorContext() {
+
+            @Override
+            public ExpressionEvaluationContext expressionEvaluationContext(final Object value) {
+                evaluateCount[0]++;
+
+                return ValidationChoiceListExpressionValidatorTest.this.createContext()
+                    .expressionEvaluationContext(value);
+            }
+
+            @Override
+            public TestValidationReference validationReference() {
+                return REFERENCE;
+            }
+        };
+
+        this.validateAllAndCheck(
+            this.createValidator(choices),
+            Lists.of(
+                "Value1",
+                "UnknownValue123",
+                "Value1"
+            ),
+            (i) -> context,
+            ValidationErrorColumnBuilder.<TestValidationReference>with(3)
+                .add(
+                    0,
+                    Lists.of(
+                        ValidationError.with(REFERENCE)
+                            .setValue(
+                                Optional.of(choices)
+                            )
+                    )
+                ).add(
+                    1,
+                    Lists.of(
+                        ValidationError.with(REFERENCE)
+                            .setMessage(MESSAGE)
+                            .setValue(
+                                Optional.of(choices)
+                            )
+                    )
+                ).add(
+                    2,
+                    Lists.of(
+                        ValidationError.with(REFERENCE)
+                            .setValue(
+                                Optional.of(choices)
+                            )
+                    )
+                ).build()
+        );
+
+        this.checkEquals(
+            1,
+            evaluateCount[0],
+            "expression evaluations"
+        );
+    }
+
+    @Test
+    public void testValidateAllImpureExpressionEvaluatedForEachValue() {
+        final TestValidationReference reference0 = new TestValidationReference("Row0");
+        final TestValidationReference reference1 = new TestValidationReference("Row1");
+
+        final ValidationChoiceList choices0 = choicesForReference(reference0);
+        final ValidationChoiceList choices1 = choicesForReference(reference1);
+
+        this.validateAllAndCheck(
+            ValidationChoiceListExpressionValidator.with(
+                FUNCTION,
+                MESSAGE
+            ),
+            Lists.of(
+                "Row0",
+                "Row1"
+            ),
+            (i) -> this.createReferenceRelativeContext(
+                0 == i ?
+                    reference0 :
+                    reference1
+            ),
+            ValidationErrorColumnBuilder.<TestValidationReference>with(2)
+                .add(
+                    0,
+                    Lists.of(
+                        ValidationError.with(reference0)
+                            .setValue(
+                                Optional.of(choices0)
+                            )
+                    )
+                ).add(
+                    1,
+                    Lists.of(
+                        ValidationError.with(reference1)
+                            .setValue(
+                                Optional.of(choices1)
+                            )
+                    )
+                ).build()
+        );
+    }
+
+    private final static Expression FUNCTION = Expression.call(
+        Expression.namedFunction(
+            ExpressionFunctionName.with("rowChoices")
+        ),
+        Lists.empty()
+    );
+
+    private static ValidationChoiceList choicesForReference(final TestValidationReference reference) {
+        return ValidationChoiceList.EMPTY.concat(
+            ValidationChoice.with(
+                "Label",
+                Optional.of(reference.toString())
+            )
+        );
+    }
+
+    /**
+     * The expression is impure and returns choices that depend on the reference of the context.
+     */
+    private TestValidatorContext createReferenceRelativeContext(final TestValidationReference reference) {
+        return new TestValidatorContext() {
+
+            @Override
+            public ExpressionEvaluationContext expressionEvaluationContext(final Object value) {
+                return new FakeExpressionEvaluationContext() {
+
+                    @Override
+                    public boolean isPure(final ExpressionFunctionName name) {
+                        return false;
+                    }
+
+                    @Override
+                    public Object evaluateExpression(final Expression expression) {
+                        return choicesForReference(reference);
+                    }
+
+                    @Override
+                    public <T> Either<T, String> convert(final Object value,
+                                                         final Class<T> target) {
+                        return this.successfulConversion(
+                            value,
+                            target
+                        );
+                    }
+                };
+            }
+
+            @Override
+            public TestValidationReference validationReference() {
+                return reference;
+            }
+        };
+    }
+
     @Override
     public ValidationChoiceListExpressionValidator<TestValidationReference, TestValidatorContext> createValidator() {
         return this.createValidator(
@@ -0,0 +1,287 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ValidationErrorCacheTest implements ClassTesting<ValidationErrorCache>,
+    ToStringTesting<ValidationErrorCache> {
+
+    private final static TestValidationReference REFERENCE1 = new TestValidationReference("Field1");
+
+    private final static TestValidationReference REFERENCE2 = new TestValidationReference("Field2");
+
+    private final static String MESSAGE = "Missing required text";
+
+    private final static Optional<Object> VALUE = Optional.of(123);
+
+    @Test
+    public void testGetNullReferenceFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ValidationErrorCache.empty()
+                .get(
+                    null,
+                    MESSAGE,
+                    VALUE
+                )
+        );
+    }
+
+    @Test
+    public void testGetNullMessageFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ValidationErrorCache.empty()
+                .get(
+                    REFERENCE1,
+                    null,
+                    VALUE
+                )
+        );
+    }
+
+    @Test
+    public void testGetNullValueFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ValidationErrorCache.empty()
+                .get(
+                    REFERENCE1,
+                    MESSAGE,
+                    null
+                )
+        );
+    }
+
+    @Test
+    public void testGet() {
+        this.checkEquals(
+            ValidationError.with(REFERENCE1)
+                .setMessage(MESSAGE)
+                .setValue(VALUE),
+            ValidationErrorCache.empty()
+                .get(
+                    REFERENCE1,
+                    MESSAGE,
+                    VALUE
+                )
+        );
+    }
+
+    @Test
+    public void testGetShared() {
+        final ValidationErrorCache cache = ValidationErrorCache.empty();
+
+        assertSame(
+            cache.get(
+                REFERENCE1,
+                MESSAGE,
+                ValidationError.NO_VALUE
+            ),
+            cache.get(
+                REFERENCE1,
+                MESSAGE,
+                ValidationError.NO_VALUE
+            )
+        );
+    }
+
+    @Test
+    public void testGetSharedEqualValue() {
+        final ValidationErrorCache cache = ValidationErrorCache.empty();
+
+        assertSame(
+            cache.get(
+                REFERENCE1,
+                MESSAGE,
+                Optional.of(123)
+            ),
+            cache.get(
+                REFERENCE1,
+                MESSAGE,
+                Optional.of(123)
+            )
+        );
+    }
+
+    @Test
+    public void testGetDifferentReference() {
+        final ValidationErrorCache cache = ValidationErrorCache.empty();
+
+        final ValidationError<TestValidationReference> error1 = cache.get(
+            REFERENCE1,
+            MESSAGE,
+            VALUE
+        );
+        final ValidationError<TestValidationReference> error2 = cache.get(
+            REFERENCE2,
+            MESSAGE,
+            VALUE
+        );
+
+        this.checkNotEquals(
+            error1,
+            error2
+        );
+        this.checkEquals(
+            REFERENCE2,
+            error2.reference()
+        );
+    }
+
+    @Test
+    public void testGetDifferentValue() {
+        final ValidationErrorCache cache = ValidationErrorCache.empty();
+
+        cache.get(
+            REFERENCE1,
+            MESSAGE,
+            VALUE
+        );
+
+        this.checkEquals(
+            Optional.of(456),
+            cache.get(
+                REFERENCE1,
+                MESSAGE,
+                Optional.of(456)
+            ).value()
+        );
+    }
+
+    @Test
+    public void testGetTooManyMessagesNotCached() {
+        final ValidationErrorCache cache = ValidationErrorCache.empty();
+
+        for (int i = 0; i < ValidationErrorCache.MAX_MESSAGES; i++) {
+            cache.get(
+                REFERENCE1,
+                "Message " + i,
+                VALUE
+            );
+        }
+
+        final String message = "Message " + ValidationErrorCache.MAX_MESSAGES;
+
+        assertNotSame(
+            cache.get(
+                REFERENCE1,
+                message,
+                VALUE
+            ),
+            cache.get(
+                REFERENCE1,
+                message,
+                VALUE
+            )
+        );
+    }
+
+    @Test
+    public void testGetTooManyValuesNotCached() {
+        final ValidationErrorCache cache = ValidationErrorCache.empty();
+
+        for (int i = 0; i < ValidationErrorCache.MAX_VALUES; i++) {
+            cache.get(
+                REFERENCE1,
+                MESSAGE,
+                Optional.of(i)
+            );
+        }
+
+        final Optional<Object> value = Optional.of(ValidationErrorCache.MAX_VALUES);
+
+        assertNotSame(
+            cache.get(
+                REFERENCE1,
+                MESSAGE,
+                value
+            ),
+            cache.get(
+                REFERENCE1,
+                MESSAGE,
+                value
+            )
+        );
+    }
+
+    @Test
+    public void testGetTooManyReferencesNotCached() {
+        final ValidationErrorCache cache = ValidationErrorCache.empty();
+
+        for (int i = 0; i < ValidationErrorCache.MAX_REFERENCES; i++) {
+            cache.get(
+                new TestValidationReference("Field" + i),
+                MESSAGE,
+                VALUE
+            );
+        }
+
+        final TestValidationReference reference = new TestValidationReference("Field" + ValidationErrorCache.MAX_REFERENCES);
+
+        assertNotSame(
+            cache.get(
+                reference,
+                MESSAGE,
+                VALUE
+            ),
+            cache.get(
+                reference,
+                MESSAGE,
+                VALUE
+            )
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        final ValidationErrorCache cache = ValidationErrorCache.empty();
+        cache.get(REFERENCE1, MESSAGE, VALUE);
+        cache.get(REFERENCE1, MESSAGE, ValidationError.NO_VALUE);
+        cache.get(REFERENCE2, MESSAGE, VALUE);
+
+        this.toStringAndCheck(
+            cache,
+            "references=2"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ValidationErrorCache> type() {
+        return ValidationErrorCache.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.List;
+
+public final class ValidationErrorColumnBuilderTest implements ClassTesting<ValidationErrorColumnBuilder<TestValidationReference>>,
+    ToStringTesting<ValidationErrorColumnBuilder<TestValidationReference>> {
+
+    private final static TestValidationReference REFERENCE = new TestValidationReference("Hello");
+
+    @Test
+    public void testBuildEmpty() {
+        final ValidationErrorColumn<TestValidationReference> column = ValidationErrorColumnBuilder.<TestValidationReference>with(3)
+            .build();
+
+        this.checkEquals(3, column.size(), "size");
+        this.checkEquals(0, column.invalidCount(), "invalidCount");
+    }
+
+    @Test
+    public void testAddEmptyIgnored() {
+        final ValidationErrorColumn<TestValidationReference> column = ValidationErrorColumnBuilder.<TestValidationReference>with(2)
+            .add(0, Lists.empty())
+            .add(1, Lists.empty())
+            .build();
+
+        this.checkEquals(0, column.invalidCount());
+    }
+
+    @Test
+    public void testAddMany() {
+        final int size = 100;
+        final ValidationErrorColumnBuilder<TestValidationReference> builder = ValidationErrorColumnBuilder.with(size);
+
+        for (int i = 0; i < size; i++) {
+            builder.add(
+                i,
+                i % 3 == 0 ?
+                    errors(i) :
+                    Lists.empty()
+            );
+        }
+
+        final ValidationErrorColumn<TestValidationReference> column = builder.build();
+        this.checkEquals(34, column.invalidCount(), "invalidCount");
+
+        for (int i = 0; i < size; i++) {
+            this.checkEquals(
+                i % 3 == 0 ?
+                    errors(i) :
+                    Lists.empty(),
+                column.errors(i),
+                "errors " + i
+            );
+        }
+    }
+
+    private static List<ValidationError<TestValidationReference>> errors(final int i) {
+        return Lists.of(
+            ValidationError.with(REFERENCE)
+                .setMessage("Error" + i)
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            ValidationErrorColumnBuilder.<TestValidationReference>with(2)
+                .add(1, errors(1)),
+            "2 1=" + errors(1)
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ValidationErrorColumnBuilder<TestValidationReference>> type() {
+        return Cast.to(ValidationErrorColumnBuilder.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ValidationErrorColumnTest implements HashCodeEqualsDefinedTesting2<ValidationErrorColumn<TestValidationReference>>,
+    ToStringTesting<ValidationErrorColumn<TestValidationReference>>,
+    ClassTesting<ValidationErrorColumn<TestValidationReference>> {
+
+    private final static TestValidationReference REFERENCE = new TestValidationReference("Hello");
+
+    private final static List<ValidationError<TestValidationReference>> ERRORS1 = Lists.of(
+        ValidationError.with(REFERENCE)
+            .setMessage("Error1")
+    );
+
+    private final static List<ValidationError<TestValidationReference>> ERRORS3 = Lists.of(
+        ValidationError.with(REFERENCE)
+            .setMessage("Error3a"),
+        ValidationError.with(REFERENCE)
+            .setMessage("Error3b")
+    );
+
+    @Test
+    public void testSize() {
+        this.checkEquals(
+            4,
+            this.createObject()
+                .size()
+        );
+    }
+
+    @Test
+    public void testIsValid() {
+        this.checkEquals(
+            false,
+            this.createObject()
+                .isValid()
+        );
+    }
+
+    @Test
+    public void testIsValidWithoutErrors() {
+        this.checkEquals(
+            true,
+            ValidationErrorColumnBuilder.<TestValidationReference>with(4)
+                .build()
+                .isValid()
+        );
+    }
+
+    @Test
+    public void testIsValidIndex() {
+        final ValidationErrorColumn<TestValidationReference> column = this.createObject();
+
+        this.checkEquals(true, column.isValid(0), "0");
+        this.checkEquals(false, column.isValid(1), "1");
+        this.checkEquals(true, column.isValid(2), "2");
+        this.checkEquals(false, column.isValid(3), "3");
+    }
+
+    @Test
+    public void testIsValidIndexNegativeFails() {
+        final IndexOutOfBoundsException thrown = assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> this.createObject()
+                .isValid(-1)
+        );
+        this.checkEquals(
+            "Invalid index -1 not between 0 and 4",
+            thrown.getMessage()
+        );
+    }
+
+    @Test
+    public void testIsValidIndexTooLargeFails() {
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> this.createObject()
+                .isValid(4)
+        );
+    }
+
+    @Test
+    public void testErrors() {
+        final ValidationErrorColumn<TestValidationReference> column = this.createObject();
+
+        this.checkEquals(Lists.empty(), column.errors(0), "0");
+        this.checkEquals(ERRORS1, column.errors(1), "1");
+        this.checkEquals(Lists.empty(), column.errors(2), "2");
+        this.checkEquals(ERRORS3, column.errors(3), "3");
+    }
+
+    @Test
+    public void testInvalid() {
+        final ValidationErrorColumn<TestValidationReference> column = this.createObject();
+
+        this.checkEquals(2, column.invalidCount(), "invalidCount");
+        this.checkEquals(1, column.invalidIndex(0), "invalidIndex 0");
+        this.checkEquals(ERRORS1, column.invalidErrors(0), "invalidErrors 0");
+        this.checkEquals(3, column.invalidIndex(1), "invalidIndex 1");
+        this.checkEquals(ERRORS3, column.invalidErrors(1), "invalidErrors 1");
+    }
+
+    // equals...........................................................................................................
+
+    @Test
+    public void testEqualsDifferentSize() {
+        this.checkNotEquals(
+            ValidationErrorColumnBuilder.<TestValidationReference>with(5)
+                .add(1, ERRORS1)
+                .add(3, ERRORS3)
+                .build()
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentIndex() {
+        this.checkNotEquals(
+            ValidationErrorColumnBuilder.<TestValidationReference>with(4)
+                .add(0, ERRORS1)
+                .add(3, ERRORS3)
+                .build()
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentErrors() {
+        this.checkNotEquals(
+            ValidationErrorColumnBuilder.<TestValidationReference>with(4)
+                .add(1, ERRORS3)
+                .add(3, ERRORS3)
+                .build()
+        );
+    }
+
+    @Override
+    public ValidationErrorColumn<TestValidationReference> createObject() {
+        return ValidationErrorColumnBuilder.<TestValidationReference>with(4)
+            .add(0, Lists.empty())
+            .add(1, ERRORS1)
+            .add(2, Lists.empty())
+            .add(3, ERRORS3)
+            .build();
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createObject(),
+            "4 1=" + ERRORS1 + " 3=" + ERRORS3
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ValidationErrorColumn<TestValidationReference>> type() {
+        return Cast.to(ValidationErrorColumn.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.reflect.ThrowableTesting;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ValidationErrorListBuilderTest implements ClassTesting<ValidationErrorListBuilder<TestValidationReference>>,
+    ToStringTesting<ValidationErrorListBuilder<TestValidationReference>>,
+    ThrowableTesting {
+
+    private final static TestValidationReference REFERENCE = new TestValidationReference("Field1");
+
+    private static ValidationError<TestValidationReference> error(final int messageNumber) {
+        return ValidationError.with(REFERENCE)
+            .setMessage("Message " + messageNumber);
+    }
+
+    @Test
+    public void testWithInvalidCapacityFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> ValidationErrorListBuilder.with(-1)
+        );
+
+        this.getMessageAndCheck(
+            thrown,
+            "Invalid capacity -1 < 0"
+        );
+    }
+
+    @Test
+    public void testAddNullFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ValidationErrorList.<TestValidationReference>builder()
+                .add(null)
+        );
+    }
+
+    @Test
+    public void testAddAllIncludesNullFails() {
+        final NullPointerException thrown = assertThrows(
+            NullPointerException.class,
+            () -> ValidationErrorList.<TestValidationReference>builder()
+                .addAll(
+                    Arrays.asList(
+                        error(1),
+                        null
+                    )
+                )
+        );
+
+        this.getMessageAndCheck(
+            thrown,
+            "includes null ValidationError"
+        );
+    }
+
+    @Test
+    public void testBuildEmpty() {
+        assertSame(
+            ValidationErrorList.empty(),
+            ValidationErrorList.<TestValidationReference>builder()
+                .build()
+        );
+    }
+
+    @Test
+    public void testAddAndBuild() {
+        final ValidationErrorListBuilder<TestValidationReference> builder = ValidationErrorList.builder();
+        builder.add(error(1))
+            .add(error(2));
+
+        this.checkEquals(
+            2,
+            builder.size(),
+            "size"
+        );
+
+        this.buildAndCheck(
+            builder,
+            error(1),
+            error(2)
+        );
+    }
+
+    @Test
+    public void testAddGrows() {
+        final ValidationErrorListBuilder<TestValidationReference> builder = ValidationErrorListBuilder.with(0);
+        final List<ValidationError<TestValidationReference>> expected = Lists.array();
+
+        for (int i = 0; i < 100; i++) {
+            final ValidationError<TestValidationReference> error = error(i);
+            builder.add(error);
+            expected.add(error);
+        }
+
+        this.checkEquals(
+            expected,
+            builder.build()
+        );
+    }
+
+    @Test
+    public void testAddAll() {
+        this.buildAndCheck(
+            ValidationErrorList.<TestValidationReference>builder()
+                .add(error(1))
+                .addAll(
+                    Lists.of(
+                        error(2),
+                        error(3),
+                        error(4),
+                        error(5),
+                        error(6)
+                    )
+                ),
+            error(1),
+            error(2),
+            error(3),
+            error(4),
+            error(5),
+            error(6)
+        );
+    }
+
+    @Test
+    public void testBuildEmptiesBuilder() {
+        final ValidationErrorListBuilder<TestValidationReference> builder = ValidationErrorList.builder();
+        builder.add(error(1));
+
+        final ValidationErrorList<TestValidationReference> list = builder.build();
+
+        this.checkEquals(
+            true,
+            builder.isEmpty(),
+            "isEmpty"
+        );
+
+        builder.add(error(2));
+
+        this.checkEquals(
+            Lists.of(
+                error(1)
+            ),
+            list,
+            "first list unchanged"
+        );
+
+        this.buildAndCheck(
+            builder,
+            error(2)
+        );
+    }
+
+    @Test
+    public void testBuildGetOutOfRangeFails() {
+        final ValidationErrorList<TestValidationReference> list = ValidationErrorList.<TestValidationReference>builder()
+            .add(error(1))
+            .build();
+
+        final IndexOutOfBoundsException thrown = assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> list.get(1)
+        );
+
+        this.getMessageAndCheck(
+            thrown,
+            "Invalid index 1 not between 0 and 1"
+        );
+    }
+
+    @Test
+    public void testBuildConcat() {
+        this.checkEquals(
+            Lists.of(
+                error(1),
+                error(2)
+            ),
+            ValidationErrorList.<TestValidationReference>builder()
+                .add(error(1))
+                .build()
+                .concat(error(2))
+        );
+    }
+
+    private void buildAndCheck(final ValidationErrorListBuilder<TestValidationReference> builder,
+                               final ValidationError<TestValidationReference>... expected) {
+        this.checkEquals(
+            Lists.of(expected),
+            builder.build()
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            ValidationErrorList.<TestValidationReference>builder()
+                .add(error(1))
+                .add(error(2)),
+            Lists.of(
+                error(1),
+                error(2)
+            ).toString()
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ValidationErrorListBuilder<TestValidationReference>> type() {
+        return Cast.to(ValidationErrorListBuilder.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
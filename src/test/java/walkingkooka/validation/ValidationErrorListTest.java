@@ -32,6 +32,7 @@ import walkingkooka.tree.json.marshall.JsonNodeUnmarshallContext;
 
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -92,6 +93,85 @@ public final class ValidationErrorListTest implements ImmutableListTesting<Valid
         );
     }
 
+    // truncated......................................................................................................
+
+    @Test
+    public void testIsTruncatedDefault() {
+        this.checkEquals(
+            false,
+            this.createList()
+                .isTruncated()
+        );
+    }
+
+    @Test
+    public void testSetTruncatedSame() {
+        final ValidationErrorList<TestValidationReference> list = this.createList();
+
+        assertSame(
+            list,
+            list.setTruncated(false)
+        );
+    }
+
+    @Test
+    public void testSetTruncatedDifferent() {
+        final ValidationErrorList<TestValidationReference> list = this.createList();
+        final ValidationErrorList<TestValidationReference> different = list.setTruncated(true);
+
+        assertNotSame(
+            list,
+            different
+        );
+        this.checkEquals(
+            true,
+            different.isTruncated(),
+            "truncated"
+        );
+        this.checkEquals(
+            list,
+            different
+        );
+        this.checkEquals(
+            false,
+            list.isTruncated(),
+            "original truncated"
+        );
+    }
+
+    @Test
+    public void testSetElementsWhenTruncatedWithEqualElements() {
+        final ValidationErrorList<TestValidationReference> truncated = this.createList()
+            .setTruncated(true);
+
+        final ValidationErrorList<TestValidationReference> list = truncated.setElements(
+            Lists.of(
+                truncated.get(0)
+            )
+        );
+
+        assertNotSame(
+            truncated,
+            list
+        );
+        this.checkEquals(
+            false,
+            list.isTruncated(),
+            "truncated"
+        );
+    }
+
+    @Test
+    public void testSetElementsWithTruncatedEqualElements() {
+        final ValidationErrorList<TestValidationReference> list = this.createList();
+        final ValidationErrorList<TestValidationReference> truncated = list.setTruncated(true);
+
+        assertSame(
+            truncated,
+            list.setElements(truncated)
+        );
+    }
+
     @Override
     public ValidationErrorList<TestValidationReference> createList() {
         return ValidationErrorList.<TestValidationReference>empty()
@@ -343,6 +343,49 @@ public final class ValidationErrorTest implements HasTextTesting,
         );
     }
 
+    @Test
+    public void testHashCodeSameAfterSetMessage() {
+        final ValidationError<TestValidationReference> error = ValidationError.with(REFERENCE);
+        final int hashCode = error.hashCode();
+
+        final ValidationError<TestValidationReference> different = error.setMessage(MESSAGE);
+
+        this.checkEquals(
+            hashCode,
+            error.hashCode(),
+            "hashCode"
+        );
+        this.checkEquals(
+            this.createObject()
+                .hashCode(),
+            different.hashCode(),
+            "different hashCode"
+        );
+    }
+
+    @Test
+    public void testEqualsOnlyOneHashed() {
+        final ValidationError<TestValidationReference> error = this.createObject();
+        error.hashCode();
+
+        this.checkEquals(
+            error,
+            this.createObject()
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentOnlyOneHashed() {
+        final ValidationError<TestValidationReference> error = this.createObject();
+        error.hashCode();
+
+        this.checkNotEquals(
+            error,
+            this.createObject()
+                .setMessage("different")
+        );
+    }
+
     @Override
     public ValidationError<TestValidationReference> createObject() {
         return ValidationError.with(REFERENCE)
@@ -0,0 +1,526 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ThrowableTesting;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ValidatorCollectionParallelTest implements ValidatorTesting2<ValidatorCollectionParallel<TestValidationReference, TestValidatorContext>, TestValidationReference, TestValidatorContext>,
+    HashCodeEqualsDefinedTesting2<ValidatorCollectionParallel<TestValidationReference, TestValidatorContext>>,
+    ToStringTesting<ValidatorCollectionParallel<TestValidationReference, TestValidatorContext>>,
+    ThrowableTesting {
+
+    private final static Object VALUE = "Value111";
+
+    private final static TestValidationReference REFERENCE = new TestValidationReference("Field1");
+
+    private final static Executor EXECUTOR = ForkJoinPool.commonPool();
+
+    private static ValidationError<TestValidationReference> error(final int messageNumber) {
+        return ValidationError.with(REFERENCE)
+            .setMessage("Message " + messageNumber)
+            .setValue(
+                Optional.of(VALUE)
+            );
+    }
+
+    private static Validator<TestValidationReference, TestValidatorContext> validator(final int... messageNumbers) {
+        return new FakeValidator<>() {
+
+            @Override
+            public List<ValidationError<TestValidationReference>> validate(final Object value,
+                                                                           final TestValidatorContext context) {
+                final List<ValidationError<TestValidationReference>> errors = Lists.array();
+                for (final int messageNumber : messageNumbers) {
+                    errors.add(
+                        error(messageNumber)
+                    );
+                }
+                return errors;
+            }
+
+            @Override
+            public String toString() {
+                return "Validator" + Arrays.toString(messageNumbers);
+            }
+        };
+    }
+
+    private final static Validator<TestValidationReference, TestValidatorContext> VALIDATOR1 = validator(1, 2);
+
+    private final static Validator<TestValidationReference, TestValidatorContext> VALIDATOR2 = validator(3);
+
+    private final static Validator<TestValidationReference, TestValidatorContext> VALIDATOR3 = validator(2, 4);
+
+    private final static List<Validator<TestValidationReference, TestValidatorContext>> VALIDATORS = Lists.of(
+        VALIDATOR1,
+        VALIDATOR2,
+        VALIDATOR3
+    );
+
+    // with.............................................................................................................
+
+    @Test
+    public void testWithInvalidMaxErrorsFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> ValidatorCollectionParallel.with(
+                0,
+                VALIDATORS,
+                EXECUTOR
+            )
+        );
+
+        this.getMessageAndCheck(
+            thrown,
+            "Invalid maxErrors 0 <= 0"
+        );
+    }
+
+    @Test
+    public void testWithNullValidatorsFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ValidatorCollectionParallel.with(
+                1,
+                null,
+                EXECUTOR
+            )
+        );
+    }
+
+    @Test
+    public void testWithEmptyValidatorsFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> ValidatorCollectionParallel.with(
+                1,
+                Lists.empty(),
+                EXECUTOR
+            )
+        );
+
+        this.getMessageAndCheck(
+            thrown,
+            "Empty validators"
+        );
+    }
+
+    @Test
+    public void testWithNullExecutorFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ValidatorCollectionParallel.with(
+                1,
+                VALIDATORS,
+                null
+            )
+        );
+    }
+
+    // validate.........................................................................................................
+
+    @Test
+    public void testValidateDeclarationOrder() {
+        this.validateAndCheck(
+            ValidatorCollectionParallel.with(
+                10,
+                VALIDATORS,
+                EXECUTOR
+            ),
+            VALUE,
+            this.createContext(),
+            error(1),
+            error(2),
+            error(3),
+            error(4)
+        );
+    }
+
+    @Test
+    public void testValidateSameAsCollection() {
+        for (int maxErrors = 1; maxErrors < 6; maxErrors++) {
+            final TestValidatorContext context = this.createContext();
+
+            this.checkEquals(
+                ValidatorCollection.with(
+                    maxErrors,
+                    VALIDATORS
+                ).validate(
+                    VALUE,
+                    context
+                ),
+                ValidatorCollectionParallel.with(
+                    maxErrors,
+                    VALIDATORS,
+                    EXECUTOR
+                ).validate(
+                    VALUE,
+                    context
+                ),
+                "maxErrors=" + maxErrors
+            );
+        }
+    }
+
+    @Test
+    public void testValidateWithoutErrors() {
+        this.validateAndCheck(
+            ValidatorCollectionParallel.with(
+                10,
+                Lists.of(
+                    validator(),
+                    validator()
+                ),
+                EXECUTOR
+            ),
+            VALUE,
+            this.createContext()
+        );
+    }
+
+    @Test
+    public void testValidateMaxErrorsCancelsOutstanding() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+
+        final Validator<TestValidationReference, TestValidatorContext> blocking = new FakeValidator<>() {
+
+            @Override
+            public List<ValidationError<TestValidationReference>> validate(final Object value,
+                                                                           final TestValidatorContext context) {
+                started.countDown();
+                try {
+                    Thread.sleep(60_000);
+                } catch (final InterruptedException expected) {
+                    interrupted.countDown();
+                }
+                return Lists.empty();
+            }
+        };
+
+        final ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            this.validateAndCheck(
+                ValidatorCollectionParallel.with(
+                    1,
+                    Lists.of(
+                        new FakeValidator<>() {
+                            @Override
+                            public List<ValidationError<TestValidationReference>> validate(final Object value,
+                                                                                           final TestValidatorContext context) {
+                                try {
+                                    started.await();
+                                } catch (final InterruptedException cause) {
+                                    throw new IllegalStateException(cause);
+                                }
+                                return Lists.of(
+                                    error(1)
+                                );
+                            }
+                        },
+                        blocking
+                    ),
+                    executor
+                ),
+                VALUE,
+                this.createContext(),
+                error(1)
+            );
+
+            this.checkEquals(
+                true,
+                interrupted.await(10, TimeUnit.SECONDS),
+                "blocking validator interrupted"
+            );
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testValidateMaxErrorsWaitsForCancelledBeforeEndValidation() {
+        final CountDownLatch started = new CountDownLatch(1);
+        final AtomicBoolean blockingReturned = new AtomicBoolean();
+        final AtomicBoolean endedAfterBlockingReturned = new AtomicBoolean();
+
+        final Validator<TestValidationReference, TestValidatorContext> blocking = new FakeValidator<>() {
+
+            @Override
+            public List<ValidationError<TestValidationReference>> validate(final Object value,
+                                                                           final TestValidatorContext context) {
+                started.countDown();
+                try {
+                    Thread.sleep(60_000);
+                } catch (final InterruptedException expected) {
+                    // keep using the context a little longer after being interrupted
+                    try {
+                        Thread.sleep(100);
+                    } catch (final InterruptedException ignore) {
+                        // nop
+                    }
+                }
+                blockingReturned.set(true);
+                return Lists.empty();
+            }
+        };
+
+        final ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            this.validateAndCheck(
+                ValidatorCollectionParallel.with(
+                    1,
+                    Lists.of(
+                        new FakeValidator<>() {
+                            @Override
+                            public List<ValidationError<TestValidationReference>> validate(final Object value,
+                                                                                           final TestValidatorContext context) {
+                                try {
+                                    started.await();
+                                } catch (final InterruptedException cause) {
+                                    throw new IllegalStateException(cause);
+                                }
+                                return Lists.of(
+                                    error(1)
+                                );
+                            }
+                        },
+                        blocking
+                    ),
+                    executor
+                ),
+                VALUE,
+                new TestValidatorContext() {
+                    @Override
+                    public void endValidation() {
+                        endedAfterBlockingReturned.set(
+                            blockingReturned.get()
+                        );
+                    }
+                },
+                error(1)
+            );
+
+            this.checkEquals(
+                true,
+                endedAfterBlockingReturned.get(),
+                "endValidation after cancelled validator returned"
+            );
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testValidateExecutorNeverRuns() {
+        // an executor whose workers are all busy, eg nested within the same pool, the calling thread runs every task
+        this.validateAndCheck(
+            ValidatorCollectionParallel.with(
+                10,
+                VALIDATORS,
+                (r) -> {}
+            ),
+            VALUE,
+            this.createContext(),
+            error(1),
+            error(2),
+            error(3),
+            error(4)
+        );
+    }
+
+    @Test
+    public void testIsValidExecutorNeverRuns() {
+        this.isValidAndCheck(
+            ValidatorCollectionParallel.with(
+                10,
+                Lists.of(
+                    validator(),
+                    validator(1)
+                ),
+                (r) -> {}
+            ),
+            VALUE,
+            this.createContext(),
+            false
+        );
+    }
+
+    @Test
+    public void testValidateRethrowsValidatorException() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> ValidatorCollectionParallel.with(
+                10,
+                Lists.of(
+                    validator(),
+                    new FakeValidator<>() {
+                        @Override
+                        public List<ValidationError<TestValidationReference>> validate(final Object value,
+                                                                                       final TestValidatorContext context) {
+                            throw new IllegalArgumentException("Validator failed 123");
+                        }
+                    }
+                ),
+                EXECUTOR
+            ).validate(
+                VALUE,
+                this.createContext()
+            )
+        );
+
+        this.getMessageAndCheck(
+            thrown,
+            "Validator failed 123"
+        );
+    }
+
+    // isValid..........................................................................................................
+
+    @Test
+    public void testIsValidWithErrors() {
+        this.isValidAndCheck(
+            this.createValidator(),
+            VALUE,
+            this.createContext(),
+            false
+        );
+    }
+
+    @Test
+    public void testIsValidWithoutErrors() {
+        this.isValidAndCheck(
+            ValidatorCollectionParallel.with(
+                1,
+                Lists.of(
+                    validator(),
+                    validator(),
+                    validator()
+                ),
+                EXECUTOR
+            ),
+            VALUE,
+            this.createContext(),
+            true
+        );
+    }
+
+    // cost.............................................................................................................
+
+    @Test
+    public void testCost() {
+        this.checkEquals(
+            ValidatorCost.CHEAP,
+            ValidatorCollectionParallel.with(
+                1,
+                Lists.of(
+                    Validators.nonNull(),
+                    Validators.textLength(1, 2)
+                ),
+                EXECUTOR
+            ).cost()
+        );
+    }
+
+    // helpers..........................................................................................................
+
+    @Override
+    public ValidatorCollectionParallel<TestValidationReference, TestValidatorContext> createValidator() {
+        return ValidatorCollectionParallel.with(
+            3,
+            VALIDATORS,
+            EXECUTOR
+        );
+    }
+
+    @Override
+    public TestValidatorContext createContext() {
+        return new TestValidatorContext() {
+            @Override
+            public TestValidationReference validationReference() {
+                return REFERENCE;
+            }
+        };
+    }
+
+    // equals...........................................................................................................
+
+    @Test
+    public void testEqualsDifferentMaxErrors() {
+        this.checkNotEquals(
+            ValidatorCollectionParallel.with(
+                4,
+                VALIDATORS,
+                EXECUTOR
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentValidators() {
+        this.checkNotEquals(
+            ValidatorCollectionParallel.with(
+                3,
+                Lists.of(VALIDATOR1),
+                EXECUTOR
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentExecutor() {
+        this.checkNotEquals(
+            ValidatorCollectionParallel.with(
+                3,
+                VALIDATORS,
+                Runnable::run
+            )
+        );
+    }
+
+    @Override
+    public ValidatorCollectionParallel<TestValidationReference, TestValidatorContext> createObject() {
+        return this.createValidator();
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createValidator(),
+            "parallel 3 [Validator[1, 2], Validator[3], Validator[2, 4]]"
+        );
+    }
+}
@@ -18,9 +18,13 @@
 package walkingkooka.validation;
 
 import org.junit.jupiter.api.Test;
+import walkingkooka.Either;
 import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
 import walkingkooka.collect.list.Lists;
 import walkingkooka.reflect.ThrowableTesting;
+import walkingkooka.tree.expression.ExpressionFunctionName;
+import walkingkooka.tree.expression.ExpressionPurityContext;
 
 import java.util.List;
 import java.util.Optional;
@@ -29,6 +33,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public final class ValidatorCollectionTest implements ValidatorTesting2<ValidatorCollection<TestValidationReference, TestValidatorContext>, TestValidationReference, TestValidatorContext>,
     HashCodeEqualsDefinedTesting2<ValidatorCollection<TestValidationReference, TestValidatorContext>>,
+    ToStringTesting<ValidatorCollection<TestValidationReference, TestValidatorContext>>,
     ThrowableTesting {
 
     private final static Object VALUE = "Value111";
@@ -211,6 +216,47 @@ public final class ValidatorCollectionTest implements ValidatorTesting2<Validato
         );
     }
 
+    @Test
+    public void testValidateBeginsAndEndsValidation() {
+        final List<String> events = Lists.array();
+
+        ValidatorCollection.<TestValidationReference, TestValidatorContext>with(
+            10,
+            Lists.of(
+                new FakeValidator<>() {
+                    @Override
+                    public List<ValidationError<TestValidationReference>> validate(final Object value,
+                                                                                   final TestValidatorContext context) {
+                        events.add("validate");
+                        return Lists.empty();
+                    }
+                }
+            )
+        ).validate(
+            VALUE,
+            new TestValidatorContext() {
+                @Override
+                public void beginValidation() {
+                    events.add("begin");
+                }
+
+                @Override
+                public void endValidation() {
+                    events.add("end");
+                }
+            }
+        );
+
+        this.checkEquals(
+            Lists.of(
+                "begin",
+                "validate",
+                "end"
+            ),
+            events
+        );
+    }
+
     @Test
     public void testValidateMax() {
         this.validateAndCheck(
@@ -251,6 +297,388 @@ public final class ValidatorCollectionTest implements ValidatorTesting2<Validato
         );
     }
 
+    @Test
+    public void testValidateDuplicateErrorsRemoved() {
+        this.validateAndCheck(
+            ValidatorCollection.with(
+                10,
+                Lists.of(
+                    VALIDATOR1,
+                    VALIDATOR2,
+                    VALIDATOR1,
+                    VALIDATOR3,
+                    VALIDATOR2
+                )
+            ),
+            VALUE,
+            this.createContext(REFERENCE1),
+            error(REFERENCE1, 1, VALUE),
+            error(REFERENCE1, 2, VALUE),
+            error(REFERENCE1, 3, VALUE),
+            error(REFERENCE1, 4, VALUE)
+        );
+    }
+
+    @Test
+    public void testValidateDuplicateErrorsNotCountedTowardsMax() {
+        this.validateAndCheck(
+            ValidatorCollection.with(
+                3,
+                Lists.of(
+                    VALIDATOR1,
+                    VALIDATOR1,
+                    VALIDATOR2,
+                    VALIDATOR3
+                )
+            ),
+            VALUE,
+            this.createContext(REFERENCE1),
+            error(REFERENCE1, 1, VALUE),
+            error(REFERENCE1, 2, VALUE),
+            error(REFERENCE1, 3, VALUE)
+        );
+    }
+
+    @Test
+    public void testValidateManyErrors() {
+        final int count = 50000;
+
+        final Validator<TestValidationReference, TestValidatorContext> validator = new FakeValidator<>() {
+
+            @Override
+            public List<ValidationError<TestValidationReference>> validate(final Object value,
+                                                                           final TestValidatorContext context) {
+                final List<ValidationError<TestValidationReference>> errors = Lists.array();
+
+                for (int i = 0; i < count; i++) {
+                    errors.add(
+                        error(
+                            context.validationReference(),
+                            i,
+                            value
+                        )
+                    );
+                }
+                return errors;
+            }
+        };
+
+        final List<ValidationError<TestValidationReference>> errors = ValidatorCollection.with(
+            Integer.MAX_VALUE,
+            Lists.of(
+                validator,
+                validator
+            )
+        ).validate(
+            VALUE,
+            this.createContext(REFERENCE1)
+        );
+
+        this.checkEquals(
+            count,
+            errors.size()
+        );
+        this.checkEquals(
+            error(REFERENCE1, count - 1, VALUE),
+            errors.get(count - 1)
+        );
+    }
+
+    // adaptive.........................................................................................................
+
+    @Test
+    public void testAdaptiveWithInvalidMaxErrorsFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> ValidatorCollection.adaptive(
+                0,
+                VALIDATORS
+            )
+        );
+
+        this.getMessageAndCheck(
+            thrown,
+            "Invalid maxErrors 0 <= 0"
+        );
+    }
+
+    @Test
+    public void testAdaptiveValidateCheapestFirst() {
+        final Validator<TestValidationReference, TestValidatorContext> cheap = new FakeValidator<>() {
+
+            @Override
+            public List<ValidationError<TestValidationReference>> validate(final Object value,
+                                                                           final TestValidatorContext context) {
+                return List.of(
+                    error(
+                        context.validationReference(),
+                        99,
+                        value
+                    )
+                );
+            }
+
+            @Override
+            public ValidatorCost cost() {
+                return ValidatorCost.TRIVIAL;
+            }
+        };
+
+        this.validateAndCheck(
+            ValidatorCollection.adaptive(
+                1,
+                Lists.of(
+                    VALIDATOR2,
+                    cheap
+                )
+            ),
+            VALUE,
+            this.createContext(REFERENCE1),
+            error(REFERENCE1, 99, VALUE)
+        );
+    }
+
+    @Test
+    public void testAdaptiveValidateAllErrors() {
+        this.validateAndCheck(
+            ValidatorCollection.adaptive(
+                10,
+                VALIDATORS
+            ),
+            VALUE,
+            this.createContext(REFERENCE1),
+            error(REFERENCE1, 1, VALUE),
+            error(REFERENCE1, 2, VALUE),
+            error(REFERENCE1, 3, VALUE),
+            error(REFERENCE1, 4, VALUE)
+        );
+    }
+
+    @Test
+    public void testAdaptiveValidateFailingValidatorMovedFirst() {
+        final int[] passCount = new int[1];
+
+        final Validator<TestValidationReference, TestValidatorContext> passes = new FakeValidator<>() {
+
+            @Override
+            public List<ValidationError<TestValidationReference>> validate(final Object value,
+                                                                           final TestValidatorContext context) {
+                passCount[0]++;
+                return Lists.empty();
+            }
+        };
+
+        final ValidatorCollection<TestValidationReference, TestValidatorContext> collection = ValidatorCollection.adaptive(
+            1,
+            Lists.of(
+                passes,
+                VALIDATOR2
+            )
+        );
+        final TestValidatorContext context = this.createContext(REFERENCE1);
+
+        for (int i = 0; i < ValidatorCollection.REORDER_INTERVAL; i++) {
+            collection.validate(
+                VALUE,
+                context
+            );
+        }
+
+        this.checkEquals(
+            ValidatorCollection.REORDER_INTERVAL,
+            passCount[0],
+            "before reorder"
+        );
+
+        this.validateAndCheck(
+            collection,
+            VALUE,
+            context,
+            error(REFERENCE1, 3, VALUE)
+        );
+
+        this.checkEquals(
+            ValidatorCollection.REORDER_INTERVAL,
+            passCount[0],
+            "passing validator should run after failing validator"
+        );
+    }
+
+    @Test
+    public void testAdaptiveValidateWithoutErrors() {
+        this.validateAndCheck(
+            ValidatorCollection.adaptive(
+                1,
+                Lists.of(
+                    Validators.nonNull()
+                )
+            ),
+            VALUE,
+            this.createContext(REFERENCE1)
+        );
+    }
+
+    // isValid..........................................................................................................
+
+    @Test
+    public void testIsValidWithErrors() {
+        this.isValidAndCheck(
+            ValidatorCollection.with(
+                10,
+                VALIDATORS
+            ),
+            VALUE,
+            this.createContext(REFERENCE1),
+            false
+        );
+    }
+
+    @Test
+    public void testIsValidWithoutErrors() {
+        this.isValidAndCheck(
+            ValidatorCollection.with(
+                10,
+                Lists.of(
+                    Validators.nonNull(),
+                    Validators.textLength(1, 10)
+                )
+            ),
+            VALUE,
+            new TestValidatorContext() {
+                @Override
+                public <T> Either<T, String> convert(final Object value,
+                                                     final Class<T> target) {
+                    return this.successfulConversion(
+                        target.cast(value),
+                        target
+                    );
+                }
+            },
+            true
+        );
+    }
+
+    @Test
+    public void testIsValidStopsAtFirstInvalid() {
+        final int[] count = new int[1];
+
+        final Validator<TestValidationReference, TestValidatorContext> counter = new FakeValidator<>() {
+
+            @Override
+            public boolean isValid(final Object value,
+                                   final TestValidatorContext context) {
+                count[0]++;
+                return true;
+            }
+        };
+
+        this.isValidAndCheck(
+            ValidatorCollection.with(
+                10,
+                Lists.of(
+                    counter,
+                    Validators.nonNull(),
+                    counter
+                )
+            ),
+            null,
+            this.createContext(REFERENCE1),
+            false
+        );
+
+        this.checkEquals(
+            1,
+            count[0]
+        );
+    }
+
+    // cost.............................................................................................................
+
+    @Test
+    public void testCost() {
+        this.checkEquals(
+            ValidatorCost.CHEAP,
+            ValidatorCollection.with(
+                1,
+                Lists.of(
+                    Validators.nonNull(),
+                    Validators.textLength(1, 2)
+                )
+            ).cost()
+        );
+    }
+
+    @Test
+    public void testCostUnknown() {
+        this.checkEquals(
+            ValidatorCost.EXPENSIVE,
+            this.createValidator()
+                .cost()
+        );
+    }
+
+    // isPure...........................................................................................................
+
+    @Test
+    public void testIsPure() {
+        this.isPureAndCheck(
+            ValidatorCollection.with(
+                1,
+                Lists.of(
+                    Validators.textLength(1, 2),
+                    Validators.textLength(1, 3)
+                )
+            ),
+            PURITY_CONTEXT,
+            true
+        );
+    }
+
+    @Test
+    public void testIsPureAdaptive() {
+        this.isPureAndCheck(
+            ValidatorCollection.adaptive(
+                1,
+                Lists.of(
+                    Validators.textLength(1, 2),
+                    Validators.textLength(1, 3)
+                )
+            ),
+            PURITY_CONTEXT,
+            false
+        );
+    }
+
+    @Test
+    public void testIsPureUnknown() {
+        this.isPureAndCheck(
+            PURITY_CONTEXT,
+            false
+        );
+    }
+
+    @Test
+    public void testIsPureSomeUnknown() {
+        this.isPureAndCheck(
+            ValidatorCollection.with(
+                1,
+                Lists.of(
+                    Validators.nonNull(),
+                    new FakeValidator<>()
+                )
+            ),
+            PURITY_CONTEXT,
+            false
+        );
+    }
+
+    private final static ExpressionPurityContext PURITY_CONTEXT = new ExpressionPurityContext() {
+        @Override
+        public boolean isPure(final ExpressionFunctionName name) {
+            throw new UnsupportedOperationException();
+        }
+    };
+
     // helpers..........................................................................................................
 
     private final static int MAX_ERRORS = 3;
@@ -305,6 +733,16 @@ public final class ValidatorCollectionTest implements ValidatorTesting2<Validato
         );
     }
 
+    @Test
+    public void testEqualsDifferentAdaptive() {
+        this.checkNotEquals(
+            ValidatorCollection.adaptive(
+                MAX_ERRORS,
+                VALIDATORS
+            )
+        );
+    }
+
     @Override
     public ValidatorCollection<TestValidationReference, TestValidatorContext> createObject() {
         return ValidatorCollection.with(
@@ -312,4 +750,25 @@ public final class ValidatorCollectionTest implements ValidatorTesting2<Validato
             VALIDATORS
         );
     }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createObject(),
+            "3 [Validator1, Validator2, Validator3]"
+        );
+    }
+
+    @Test
+    public void testToStringAdaptive() {
+        this.toStringAndCheck(
+            ValidatorCollection.adaptive(
+                MAX_ERRORS,
+                VALIDATORS
+            ),
+            "adaptive 3 [Validator1, Validator2, Validator3]"
+        );
+    }
 }
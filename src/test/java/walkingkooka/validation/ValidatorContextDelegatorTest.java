@@ -17,6 +17,7 @@
 
 package walkingkooka.validation;
 
+import org.junit.jupiter.api.Test;
 import walkingkooka.convert.BinaryNumberConverterFunctions;
 import walkingkooka.convert.ConverterContext;
 import walkingkooka.convert.ConverterContexts;
@@ -37,6 +38,8 @@ import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
+
 public final class ValidatorContextDelegatorTest implements ValidatorContextTesting2<TestValidatorContext, TestValidationReference>,
     DateTimeContextTesting,
     DecimalNumberContextTesting {
@@ -109,6 +112,32 @@ public final class ValidatorContextDelegatorTest implements ValidatorContextTest
         throw new UnsupportedOperationException();
     }
 
+    @Test
+    public void testValidationErrorWithMessageShared() {
+        final TestValidatorContext context = this.createContext();
+
+        assertSame(
+            context.validationError("Message123"),
+            context.validationError("Message123")
+        );
+    }
+
+    @Test
+    public void testValidationErrorWithMessageAndValueShared() {
+        final TestValidatorContext context = this.createContext();
+
+        assertSame(
+            context.validationError(
+                "Message123",
+                Optional.of("Value123")
+            ),
+            context.validationError(
+                "Message123",
+                Optional.of("Value123")
+            )
+        );
+    }
+
     @Override
     public TestValidatorContext createContext() {
         return new TestValidatorContext();
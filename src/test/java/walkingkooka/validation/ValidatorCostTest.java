@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+
+public final class ValidatorCostTest implements ClassTesting<ValidatorCost> {
+
+    @Test
+    public void testMaxMoreExpensive() {
+        this.maxAndCheck(
+            ValidatorCost.TRIVIAL,
+            ValidatorCost.MODERATE,
+            ValidatorCost.MODERATE
+        );
+    }
+
+    @Test
+    public void testMaxLessExpensive() {
+        this.maxAndCheck(
+            ValidatorCost.EXPENSIVE,
+            ValidatorCost.CHEAP,
+            ValidatorCost.EXPENSIVE
+        );
+    }
+
+    @Test
+    public void testMaxSame() {
+        this.maxAndCheck(
+            ValidatorCost.CHEAP,
+            ValidatorCost.CHEAP,
+            ValidatorCost.CHEAP
+        );
+    }
+
+    private void maxAndCheck(final ValidatorCost cost,
+                             final ValidatorCost other,
+                             final ValidatorCost expected) {
+        this.checkEquals(
+            expected,
+            cost.max(other),
+            () -> cost + " max " + other
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ValidatorCost> type() {
+        return ValidatorCost.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,526 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ThrowableTesting;
+import walkingkooka.tree.expression.ExpressionPurityContext;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ValidatorMemoizeTest implements ValidatorTesting2<ValidatorMemoize<TestValidationReference, TestValidatorContext>, TestValidationReference, TestValidatorContext>,
+    ToStringTesting<ValidatorMemoize<TestValidationReference, TestValidatorContext>>,
+    ThrowableTesting {
+
+    private final static TestValidationReference REFERENCE1 = new TestValidationReference("Field1");
+
+    private final static TestValidationReference REFERENCE2 = new TestValidationReference("Field2");
+
+    private final static String INVALID = "Invalid111";
+
+    private final static String MESSAGE = "Invalid value";
+
+    @Test
+    public void testWithNullValidatorFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ValidatorMemoize.with(
+                null,
+                1
+            )
+        );
+    }
+
+    @Test
+    public void testWithInvalidMaxEntriesFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> ValidatorMemoize.with(
+                new TestValidator(),
+                0
+            )
+        );
+
+        this.getMessageAndCheck(
+            thrown,
+            "Invalid maxEntries 0 <= 0"
+        );
+    }
+
+    @Test
+    public void testValidateCached() {
+        final TestValidator validator = new TestValidator();
+        final ValidatorMemoize<TestValidationReference, TestValidatorContext> memoize = ValidatorMemoize.with(
+            validator,
+            10
+        );
+
+        this.validateAndCheck(
+            memoize,
+            INVALID,
+            this.createContext(REFERENCE1),
+            error(REFERENCE1)
+        );
+
+        this.validateAndCheck(
+            memoize,
+            INVALID,
+            this.createContext(REFERENCE1),
+            error(REFERENCE1)
+        );
+
+        this.checkEquals(
+            1,
+            validator.count,
+            "validations"
+        );
+        this.checkEquals(
+            1L,
+            memoize.hits(),
+            "hits"
+        );
+        this.checkEquals(
+            1L,
+            memoize.misses(),
+            "misses"
+        );
+    }
+
+    @Test
+    public void testValidateCachedRebindsReference() {
+        final TestValidator validator = new TestValidator();
+        final ValidatorMemoize<TestValidationReference, TestValidatorContext> memoize = ValidatorMemoize.with(
+            validator,
+            10
+        );
+
+        this.validateAndCheck(
+            memoize,
+            INVALID,
+            this.createContext(REFERENCE1),
+            error(REFERENCE1)
+        );
+
+        this.validateAndCheck(
+            memoize,
+            INVALID,
+            this.createContext(REFERENCE2),
+            error(REFERENCE2)
+        );
+
+        this.checkEquals(
+            1,
+            validator.count,
+            "validations"
+        );
+    }
+
+    @Test
+    public void testValidateCachedNoErrors() {
+        final TestValidator validator = new TestValidator();
+        final ValidatorMemoize<TestValidationReference, TestValidatorContext> memoize = ValidatorMemoize.with(
+            validator,
+            10
+        );
+
+        this.validateAndCheck(
+            memoize,
+            "Valid",
+            this.createContext(REFERENCE1)
+        );
+
+        this.validateAndCheck(
+            memoize,
+            "Valid",
+            this.createContext(REFERENCE2)
+        );
+
+        this.checkEquals(
+            1,
+            validator.count,
+            "validations"
+        );
+    }
+
+    @Test
+    public void testValidateNullNotCached() {
+        final TestValidator validator = new TestValidator();
+        final ValidatorMemoize<TestValidationReference, TestValidatorContext> memoize = ValidatorMemoize.with(
+            validator,
+            10
+        );
+
+        this.validateAndCheck(
+            memoize,
+            null,
+            this.createContext(REFERENCE1)
+        );
+
+        this.validateAndCheck(
+            memoize,
+            null,
+            this.createContext(REFERENCE1)
+        );
+
+        this.checkEquals(
+            2,
+            validator.count,
+            "validations"
+        );
+        this.checkEquals(
+            0,
+            memoize.size(),
+            "size"
+        );
+    }
+
+    @Test
+    public void testValidateNonTextNotCached() {
+        final TestValidator validator = new TestValidator();
+        final ValidatorMemoize<TestValidationReference, TestValidatorContext> memoize = ValidatorMemoize.with(
+            validator,
+            10
+        );
+
+        // a non text value may convert differently with the converter of another context
+        memoize.validate(123, this.createContext(REFERENCE1));
+        memoize.validate(123, this.createContext(REFERENCE2));
+
+        this.checkEquals(
+            2,
+            validator.count,
+            "validations"
+        );
+        this.checkEquals(
+            0,
+            memoize.size(),
+            "size"
+        );
+    }
+
+    @Test
+    public void testValidateCharSequenceCachedByText() {
+        final TestValidator validator = new TestValidator();
+        final ValidatorMemoize<TestValidationReference, TestValidatorContext> memoize = ValidatorMemoize.with(
+            validator,
+            10
+        );
+        final TestValidatorContext context = this.createContext(REFERENCE1);
+
+        memoize.validate(new StringBuilder("Valid1"), context);
+        memoize.validate("Valid1", context);
+
+        this.checkEquals(
+            1,
+            validator.count,
+            "validations"
+        );
+    }
+
+    @Test
+    public void testValidateLeastRecentlyUsedEvicted() {
+        final TestValidator validator = new TestValidator();
+        final ValidatorMemoize<TestValidationReference, TestValidatorContext> memoize = ValidatorMemoize.with(
+            validator,
+            2
+        );
+        final TestValidatorContext context = this.createContext(REFERENCE1);
+
+        memoize.validate(INVALID, context);
+        memoize.validate("Valid1", context);
+        memoize.validate(INVALID, context); // hit
+        memoize.validate("Valid2", context); // evicts Valid1
+        memoize.validate(INVALID, context); // hit
+        memoize.validate("Valid1", context); // miss
+
+        this.checkEquals(
+            4,
+            validator.count,
+            "validations"
+        );
+        this.checkEquals(
+            2L,
+            memoize.hits(),
+            "hits"
+        );
+        this.checkEquals(
+            4L,
+            memoize.misses(),
+            "misses"
+        );
+        this.checkEquals(
+            2L,
+            memoize.evictions(),
+            "evictions"
+        );
+        this.checkEquals(
+            2,
+            memoize.size(),
+            "size"
+        );
+    }
+
+    @Test
+    public void testValidateStriped() {
+        final TestValidator validator = new TestValidator();
+        final ValidatorMemoize<TestValidationReference, TestValidatorContext> memoize = ValidatorMemoize.with(
+            validator,
+            ValidatorMemoize.STRIPES * ValidatorMemoize.MIN_STRIPE_ENTRIES
+        );
+        final TestValidatorContext context = this.createContext(REFERENCE1);
+
+        for (int i = 0; i < 2; i++) {
+            for (int j = 0; j < 100; j++) {
+                memoize.validate(
+                    "Value" + j,
+                    context
+                );
+            }
+        }
+
+        this.checkEquals(
+            100,
+            validator.count,
+            "validations"
+        );
+        this.checkEquals(
+            100,
+            memoize.size(),
+            "size"
+        );
+    }
+
+    @Test
+    public void testIsValidCached() {
+        final TestValidator validator = new TestValidator();
+        final ValidatorMemoize<TestValidationReference, TestValidatorContext> memoize = ValidatorMemoize.with(
+            validator,
+            10
+        );
+
+        this.isValidAndCheck(
+            memoize,
+            INVALID,
+            this.createContext(REFERENCE1),
+            false
+        );
+
+        this.validateAndCheck(
+            memoize,
+            INVALID,
+            this.createContext(REFERENCE2),
+            error(REFERENCE2)
+        );
+
+        this.isValidAndCheck(
+            memoize,
+            "Valid",
+            this.createContext(REFERENCE1),
+            true
+        );
+
+        this.checkEquals(
+            2,
+            validator.count,
+            "validations"
+        );
+    }
+
+    @Test
+    public void testValidateImpureNotCached() {
+        final ValidatorMemoize<TestValidationReference, TestValidatorContext> memoize = ValidatorMemoize.with(
+            Validators.nonNull(),
+            10
+        );
+
+        this.validateAndCheck(
+            memoize,
+            null,
+            this.createContext(REFERENCE1),
+            ValidationError.with(REFERENCE1)
+                .setMessage("Missing Field1")
+        );
+
+        this.validateAndCheck(
+            memoize,
+            null,
+            this.createContext(REFERENCE2),
+            ValidationError.with(REFERENCE2)
+                .setMessage("Missing Field2")
+        );
+
+        this.checkEquals(
+            0,
+            memoize.size(),
+            "size"
+        );
+    }
+
+    @Test
+    public void testIsValidImpureNotCached() {
+        final TestValidator validator = new TestValidator() {
+            @Override
+            public boolean isPure(final ExpressionPurityContext context) {
+                return false;
+            }
+        };
+        final ValidatorMemoize<TestValidationReference, TestValidatorContext> memoize = ValidatorMemoize.with(
+            validator,
+            10
+        );
+
+        this.isValidAndCheck(
+            memoize,
+            INVALID,
+            this.createContext(REFERENCE1),
+            false
+        );
+
+        this.isValidAndCheck(
+            memoize,
+            INVALID,
+            this.createContext(REFERENCE2),
+            false
+        );
+
+        this.checkEquals(
+            2,
+            validator.count,
+            "validations"
+        );
+    }
+
+    @Test
+    public void testValidatorsMemoize() {
+        this.validateAndCheck(
+            Validators.memoize(
+                Validators.nonNull(),
+                10
+            ),
+            null,
+            this.createContext(REFERENCE1),
+            ValidationError.with(REFERENCE1)
+                .setMessage("Missing Field1")
+        );
+    }
+
+    @Test
+    public void testCost() {
+        this.checkEquals(
+            ValidatorCost.TRIVIAL,
+            ValidatorMemoize.with(
+                Validators.nonNull(),
+                10
+            ).cost()
+        );
+    }
+
+    @Override
+    public ValidatorMemoize<TestValidationReference, TestValidatorContext> createValidator() {
+        return ValidatorMemoize.with(
+            new TestValidator(),
+            10
+        );
+    }
+
+    @Override
+    public TestValidatorContext createContext() {
+        return this.createContext(REFERENCE1);
+    }
+
+    private TestValidatorContext createContext(final TestValidationReference reference) {
+        return new TestValidatorContext() {
+
+            @Override
+            public TestValidationReference validationReference() {
+                return reference;
+            }
+        };
+    }
+
+    private static ValidationError<TestValidationReference> error(final TestValidationReference reference) {
+        return ValidationError.with(reference)
+            .setMessage(MESSAGE)
+            .setValue(
+                Optional.of(INVALID)
+            );
+    }
+
+    /**
+     * Reports {@link #INVALID} as invalid and counts the number of validations.
+     */
+    static class TestValidator extends FakeValidator<TestValidationReference, TestValidatorContext> {
+
+        @Override
+        public List<ValidationError<TestValidationReference>> validate(final Object value,
+                                                                       final TestValidatorContext context) {
+            this.count++;
+
+            return INVALID.equals(value) ?
+                Lists.of(
+                    context.validationError()
+                        .setMessage(MESSAGE)
+                        .setValue(
+                            Optional.of(value)
+                        )
+                ) :
+                Lists.empty();
+        }
+
+        int count;
+
+        @Override
+        public boolean isPure(final ExpressionPurityContext context) {
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return "TestValidator";
+        }
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        final ValidatorMemoize<TestValidationReference, TestValidatorContext> memoize = this.createValidator();
+        memoize.validate(
+            INVALID,
+            this.createContext()
+        );
+
+        this.toStringAndCheck(
+            memoize,
+            "memoize 10 TestValidator"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ValidatorMemoize<TestValidationReference, TestValidatorContext>> type() {
+        return Cast.to(ValidatorMemoize.class);
+    }
+}
@@ -0,0 +1,305 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package walkingkooka.validation;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.validation.provider.ValidatorSelector;
+
+import java.util.List;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ValidatorMeteredTest implements ValidatorTesting2<ValidatorMetered<TestValidationReference, TestValidatorContext>, TestValidationReference, TestValidatorContext>,
+    ToStringTesting<ValidatorMetered<TestValidationReference, TestValidatorContext>> {
+
+    private final static ValidatorSelector SELECTOR = ValidatorSelector.parse("text-length(1, 10)");
+
+    private final static TestValidationReference REFERENCE = new TestValidationReference("Field1");
+
+    private final static String INVALID = "Invalid111";
+
+    private final static String MESSAGE = "Invalid value";
+
+    @Test
+    public void testWithNullSelectorFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ValidatorMetered.with(
+                null,
+                Validators.nonNull()
+            )
+        );
+    }
+
+    @Test
+    public void testWithNullValidatorFails() {
+        assertThrows(
+            NullPointerException.class,
+            () -> ValidatorMetered.with(
+                SELECTOR,
+                null
+            )
+        );
+    }
+
+    @Test
+    public void testWithMeteredSameSelector() {
+        final Validator<TestValidationReference, TestValidatorContext> metered = this.createValidator();
+
+        assertSame(
+            metered,
+            ValidatorMetered.with(
+                SELECTOR,
+                metered
+            )
+        );
+    }
+
+    @Test
+    public void testValidateRecords() {
+        final ValidatorMetrics metrics = ValidatorContexts.basicMetrics();
+        final TestValidatorContext context = this.createContext(metrics);
+
+        this.validateAndCheck(
+            this.createValidator(),
+            INVALID,
+            context,
+            ValidationError.with(REFERENCE)
+                .setMessage(MESSAGE)
+        );
+        this.validateAndCheck(
+            this.createValidator(),
+            "Valid",
+            context
+        );
+
+        final ValidatorMetricsSnapshotEntry entry = metrics.snapshot()
+            .selectors()
+            .get(SELECTOR);
+
+        this.checkEquals(
+            2L,
+            entry.invocations(),
+            "invocations"
+        );
+        this.checkEquals(
+            1L,
+            entry.failures(),
+            "failures"
+        );
+        this.checkEquals(
+            1L,
+            entry.errors(),
+            "errors"
+        );
+    }
+
+    @Test
+    public void testIsValidRecords() {
+        final ValidatorMetrics metrics = ValidatorContexts.basicMetrics();
+
+        this.isValidAndCheck(
+            this.createValidator(),
+            INVALID,
+            this.createContext(metrics),
+            false
+        );
+
+        final ValidatorMetricsSnapshotEntry entry = metrics.snapshot()
+            .selectors()
+            .get(SELECTOR);
+
+        this.checkEquals(
+            1L,
+            entry.invocations(),
+            "invocations"
+        );
+        this.checkEquals(
+            1L,
+            entry.failures(),
+            "failures"
+        );
+    }
+
+    @Test
+    public void testValidateNotRecording() {
+        this.validateAndCheck(
+            this.createValidator(),
+            INVALID,
+            this.createContext(ValidatorContexts.noMetrics()),
+            ValidationError.with(REFERENCE)
+                .setMessage(MESSAGE)
+        );
+    }
+
+    @Test
+    public void testValidateAllRecords() {
+        final ValidatorMetrics metrics = ValidatorContexts.basicMetrics();
+        final TestValidatorContext context = this.createContext(metrics);
+
+        final ValidationErrorColumn<TestValidationReference> errors = this.createValidator()
+            .validateAll(
+                Lists.of(
+                    INVALID,
+                    "Valid",
+                    INVALID
+                ),
+                (i) -> context
+            );
+
+        this.checkEquals(
+            2,
+            errors.invalidCount(),
+            "invalidCount"
+        );
+
+        final ValidatorMetricsSnapshotEntry entry = metrics.snapshot()
+            .selectors()
+            .get(SELECTOR);
+
+        this.checkEquals(
+            3L,
+            entry.invocations(),
+            "invocations"
+        );
+        this.checkEquals(
+            2L,
+            entry.failures(),
+            "failures"
+        );
+        this.checkEquals(
+            2L,
+            entry.errors(),
+            "errors"
+        );
+    }
+
+    @Test
+    public void testValidateAllForwards() {
+        final ValidationErrorColumn<TestValidationReference> errors = ValidationErrorColumnBuilder.<TestValidationReference>with(1)
+            .build();
+        final TestValidatorContext context = this.createContext(ValidatorContexts.basicMetrics());
+
+        assertSame(
+            errors,
+            ValidatorMetered.with(
+                SELECTOR,
+                new FakeValidator<TestValidationReference, TestValidatorContext>() {
+                    @Override
+                    public ValidationErrorColumn<TestValidationReference> validateAll(final List<?> values,
+                                                                                      final IntFunction<TestValidatorContext> contexts) {
+                        return errors;
+                    }
+                }
+            ).validateAll(
+                Lists.of("Value1"),
+                (i) -> context
+            )
+        );
+    }
+
+    @Test
+    public void testValidateAllEmpty() {
+        this.checkEquals(
+            0,
+            this.createValidator()
+                .validateAll(
+                    Lists.empty(),
+                    (i) -> {
+                        throw new UnsupportedOperationException();
+                    }
+                ).size()
+        );
+    }
+
+    @Test
+    public void testCost() {
+        this.checkEquals(
+            ValidatorCost.TRIVIAL,
+            ValidatorMetered.with(
+                SELECTOR,
+                Validators.nonNull()
+            ).cost()
+        );
+    }
+
+    @Override
+    public ValidatorMetered<TestValidationReference, TestValidatorContext> createValidator() {
+        return (ValidatorMetered<TestValidationReference, TestValidatorContext>) ValidatorMetered.with(
+            SELECTOR,
+            new FakeValidator<>() {
+                @Override
+                public List<ValidationError<TestValidationReference>> validate(final Object value,
+                                                                               final TestValidatorContext context) {
+                    return INVALID.equals(value) ?
+                        Lists.of(
+                            context.validationError()
+                                .setMessage(MESSAGE)
+                        ) :
+                        Lists.empty();
+                }
+
+                @Override
+                public String toString() {
+                    return "TestValidator";
+                }
+            }
+        );
+    }
+
+    @Override
+    public TestValidatorContext createContext() {
+        return this.createContext(ValidatorContexts.noMetrics());
+    }
+
+    private TestValidatorContext createContext(final ValidatorMetrics metrics) {
+        return new TestValidatorContext() {
+
+            @Override
+            public TestValidationReference validationReference() {
+                return REFERENCE;
+            }
+
+            @Override
+            public ValidatorMetrics validatorMetrics() {
+                return metrics;
+            }
+        };
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createValidator(),
+            "TestValidator"
+        );
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ValidatorMetered<TestValidationReference, TestValidatorContext>> type() {
+        return Cast.to(ValidatorMetered.class);
+    }
+}
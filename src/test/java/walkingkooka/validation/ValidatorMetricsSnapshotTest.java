@@ -0,0 +1,161 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.tree.json.JsonNode;
+import walkingkooka.tree.json.marshall.JsonNodeMarshallerTesting;
+import walkingkooka.tree.json.marshall.JsonNodeUnmarshallContext;
+import walkingkooka.validation.provider.ValidatorName;
+import walkingkooka.validation.provider.ValidatorSelector;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public final class ValidatorMetricsSnapshotTest implements HashCodeEqualsDefinedTesting2<ValidatorMetricsSnapshot>,
+    ToStringTesting<ValidatorMetricsSnapshot>,
+    ClassTesting<ValidatorMetricsSnapshot>,
+    JsonNodeMarshallerTesting<ValidatorMetricsSnapshot> {
+
+    private final static ValidatorName NAME = ValidatorName.with("text-length");
+
+    private final static ValidatorSelector SELECTOR = ValidatorSelector.parse("text-length(1, 10)");
+
+    private final static ValidatorMetricsSnapshotEntry ENTRY = ValidatorMetricsSnapshotEntry.with(
+        3, // invocations
+        1, // failures
+        2, // errors
+        6, // totalNanos
+        5, // maxNanos
+        Lists.of(1L, 1L, 0L, 1L)
+    );
+
+    @Test
+    public void testWithEmpty() {
+        assertSame(
+            ValidatorMetricsSnapshot.EMPTY,
+            ValidatorMetricsSnapshot.with(
+                Map.of(),
+                Map.of()
+            )
+        );
+    }
+
+    @Test
+    public void testWith() {
+        final ValidatorMetricsSnapshot snapshot = this.createObject();
+
+        this.checkEquals(
+            Map.of(NAME, ENTRY),
+            snapshot.names(),
+            "names"
+        );
+        this.checkEquals(
+            Map.of(SELECTOR, ENTRY),
+            snapshot.selectors(),
+            "selectors"
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentNames() {
+        this.checkNotEquals(
+            ValidatorMetricsSnapshot.with(
+                Map.of(),
+                Map.of(SELECTOR, ENTRY)
+            )
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentSelectors() {
+        this.checkNotEquals(
+            ValidatorMetricsSnapshot.with(
+                Map.of(NAME, ENTRY),
+                Map.of()
+            )
+        );
+    }
+
+    @Override
+    public ValidatorMetricsSnapshot createObject() {
+        return ValidatorMetricsSnapshot.with(
+            Map.of(NAME, ENTRY),
+            Map.of(SELECTOR, ENTRY)
+        );
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+            this.createObject(),
+            "names={" + NAME + "=" + ENTRY + "} " +
+                "selectors={" + SELECTOR + "=" + ENTRY + "}"
+        );
+    }
+
+    // json.............................................................................................................
+
+    @Test
+    public void testMarshallRoundtrip() {
+        this.marshallRoundTripTwiceAndCheck(
+            this.createObject()
+        );
+    }
+
+    @Test
+    public void testMarshallEmptyRoundtrip() {
+        this.marshallRoundTripTwiceAndCheck(
+            ValidatorMetricsSnapshot.EMPTY
+        );
+    }
+
+    @Override
+    public ValidatorMetricsSnapshot unmarshall(final JsonNode json,
+                                               final JsonNodeUnmarshallContext context) {
+        return ValidatorMetricsSnapshot.unmarshall(
+            json,
+            context
+        );
+    }
+
+    @Override
+    public ValidatorMetricsSnapshot createJsonNodeMarshallingValue() {
+        return this.createObject();
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public Class<ValidatorMetricsSnapshot> type() {
+        return ValidatorMetricsSnapshot.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ * Copyright 2025 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.validation.form;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.reflect.PublicStaticHelperTesting;
+import walkingkooka.reflect.ThrowableTesting;
+import walkingkooka.validation.FakeValidator;
+import walkingkooka.validation.FakeValidatorContext;
+import walkingkooka.validation.TestValidationReference;
+import walkingkooka.validation.ValidationError;
+import walkingkooka.validation.ValidationErrorList;
+import walkingkooka.validation.Validator;
+import walkingkooka.validation.ValidatorContext;
+import walkingkooka.validation.form.FormHandlerContextTest.TestFormHandlerContext;
+import walkingkooka.validation.provider.ValidatorSelector;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class AsyncFormHandlerContextsTest implements PublicStaticHelperTesting<AsyncFormHandlerContexts>,
+    ThrowableTesting {
+
+    private final static ValidatorSelector VALIDATOR1 = ValidatorSelector.parse("validator-1");
+
+    private final static ValidatorSelector VALIDATOR2 = ValidatorSelector.parse("validator-2");
+
+    private final static FormField<TestValidationReference> FIELD1 = FormField.with(
+        new TestValidationReference("Field1")
+    ).setValidator(
+        Optional.of(VALIDATOR1)
+    );
+
+    private final static FormField<TestValidationReference> FIELD2 = FormField.with(
+        new TestValidationReference("Field2")
+    ).setValidator(
+        Optional.of(VALIDATOR2)
+    );
+
+    @Test
+    public void testValidateFormFieldsWithUnknownFields() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> AsyncFormHandlerContexts.validateFormFields(
+                new TestFormHandlerContext(FIELD1),
+                Lists.of(
+                    FIELD1,
+                    FIELD2
+                )
+            )
+        );
+
+        this.getMessageAndCheck(
+            thrown,
+            "Form contains unknown fields: Field2"
+        );
+    }
+
+    @Test
+    public void testValidateFormFieldsOverlaps() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        final ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            final List<ValidationError<TestValidationReference>> errors = AsyncFormHandlerContexts.validateFormFields(
+                this.context(
+                    new FakeValidator<>() {
+                        @Override
+                        public List<ValidationError<TestValidationReference>> validate(final Object value,
+                                                                                       final ValidatorContext<TestValidationReference> context) {
+                            // waits for the second validator which is only possible if both run at the same time
+                            try {
+                                latch.await(10, TimeUnit.SECONDS);
+                            } catch (final InterruptedException cause) {
+                                throw new IllegalStateException(cause);
+                            }
+
+                            return Lists.of(
+                                context.validationError()
+                                    .setMessage("Error1 " + (0 == latch.getCount()))
+                            );
+                        }
+                    },
+                    new FakeValidator<>() {
+                        @Override
+                        public List<ValidationError<TestValidationReference>> validate(final Object value,
+                                                                                       final ValidatorContext<TestValidationReference> context) {
+                            latch.countDown();
+
+                            return Lists.of(
+                                context.validationError()
+                                    .setMessage("Error2")
+                            );
+                        }
+                    }
+                ),
+                Lists.of(
+                    FIELD1,
+                    FIELD2
+                ),
+                executor
+            ).toCompletableFuture()
+                .get(20, TimeUnit.SECONDS);
+
+            this.checkEquals(
+                Lists.of(
+                    ValidationError.with(FIELD1.reference())
+                        .setMessage("Error1 true"),
+                    ValidationError.with(FIELD2.reference())
+                        .setMessage("Error2")
+                ),
+                errors
+            );
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testValidateFormFieldsWithoutErrors() throws Exception {
+        final Validator<TestValidationReference, ValidatorContext<TestValidationReference>> validator = new FakeValidator<>() {
+            @Override
+            public List<ValidationError<TestValidationReference>> validate(final Object value,
+                                                                           final ValidatorContext<TestValidationReference> context) {
+                return this.noValidationErrors();
+            }
+        };
+
+        this.checkEquals(
+            Lists.empty(),
+            AsyncFormHandlerContexts.validateFormFields(
+                this.context(
+                    validator,
+                    validator
+                ),
+                Lists.of(
+                    FIELD1,
+                    FIELD2
+                )
+            ).toCompletableFuture()
+                .get(20, TimeUnit.SECONDS)
+        );
+    }
+
+    @Test
+    public void testValidateFormFieldsFormMaxErrorsCompletesWithoutWaiting() throws Exception {
+        final CountDownLatch interrupted = new CountDownLatch(1);
+
+        final ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            final List<ValidationError<TestValidationReference>> errors = AsyncFormHandlerContexts.validateFormFields(
+                this.context(
+                    new FakeValidator<>() {
+                        @Override
+                        public List<ValidationError<TestValidationReference>> validate(final Object value,
+                                                                                       final ValidatorContext<TestValidationReference> context) {
+                            return Lists.of(
+                                context.validationError()
+                                    .setMessage("Error1")
+                            );
+                        }
+                    },
+                    new FakeValidator<>() {
+                        @Override
+                        public List<ValidationError<TestValidationReference>> validate(final Object value,
+                                                                                       final ValidatorContext<TestValidationReference> context) {
+                            try {
+                                new CountDownLatch(1).await();
+                            } catch (final InterruptedException cause) {
+                                interrupted.countDown();
+                            }
+                            return this.noValidationErrors();
+                        }
+                    },
+                    1
+                ),
+                Lists.of(
+                    FIELD1,
+                    FIELD2
+                ),
+                executor
+            ).toCompletableFuture()
+                .get(20, TimeUnit.SECONDS);
+
+            this.checkEquals(
+                Lists.of(
+                    ValidationError.with(FIELD1.reference())
+                        .setMessage("Error1")
+                ),
+                errors
+            );
+            this.checkEquals(
+                true,
+                ((ValidationErrorList<TestValidationReference>) errors).isTruncated(),
+                "truncated"
+            );
+            this.checkEquals(
+                true,
+                interrupted.await(20, TimeUnit.SECONDS),
+                "remaining validator interrupted"
+            );
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private TestFormHandlerContext context(final Validator<TestValidationReference, ValidatorContext<TestValidationReference>> validator1,
+                                           final Validator<TestValidationReference, ValidatorContext<TestValidationReference>> validator2) {
+        return this.context(
+            validator1,
+            validator2,
+            Integer.MAX_VALUE
+        );
+    }
+
+    private TestFormHandlerContext context(final Validator<TestValidationReference, ValidatorContext<TestValidationReference>> validator1,
+                                           final Validator<TestValidationReference, ValidatorContext<TestValidationReference>> validator2,
+                                           final int formMaxErrors) {
+        return new TestFormHandlerContext(
+            FIELD1,
+            FIELD2
+        ) {
+
+            @Override
+            public int formMaxErrors() {
+                return formMaxErrors;
+            }
+
+            @Override
+            public ValidatorContext<TestValidationReference> validatorContext(final TestValidationReference reference) {
+                return new FakeValidatorContext<>() {
+                    @Override
+                    public TestValidationReference validationReference() {
+                        return reference;
+                    }
+
+                    @Override
+                    public Validator<TestValidationReference, ? super ValidatorContext<TestValidationReference>> validator(final ValidatorSelector selector) {
+                        return selector.equals(VALIDATOR1) ?
+                            validator1 :
+                            validator2;
+                    }
+                };
+            }
+        };
+    }
+
+    // class............................................................................................................
+
+    @Override
+    public boolean canHavePublicTypes(final Method method) {
+        return false;
+    }
+
+    @Override
+    public Class<AsyncFormHandlerContexts> type() {
+        return AsyncFormHandlerContexts.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
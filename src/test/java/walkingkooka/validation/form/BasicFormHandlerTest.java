@@ -273,6 +273,91 @@ public final class BasicFormHandlerTest implements FormHandlerTesting2<
         );
     }
 
+    @Test
+    public void testValidateFormWithFormMaxErrors() {
+        final Validator<TestValidationReference, ValidatorContext<TestValidationReference>> validator = new FakeValidator<>() {
+            @Override
+            public List<ValidationError<TestValidationReference>> validate(final Object value,
+                                                                           final ValidatorContext<TestValidationReference> context) {
+                return Lists.of(
+                    context.validationError()
+                        .setMessage("Error")
+                );
+            }
+        };
+        final ValidatorSelector validatorSelector = ValidatorSelector.parse("validator1");
+
+        final FormField<TestValidationReference> field1 = FormField.with(
+            new TestValidationReference("Field1")
+        ).setValidator(
+            Optional.of(validatorSelector)
+        );
+        final FormField<TestValidationReference> field2 = FormField.with(
+            new TestValidationReference("Field2")
+        ).setValidator(
+            Optional.of(validatorSelector)
+        );
+        final Form<TestValidationReference> form = Form.<TestValidationReference>with(
+            FormName.with("Form123")
+        ).setFields(
+            Lists.of(
+                field1,
+                field2
+            )
+        );
+
+        final List<ValidationError<TestValidationReference>> errors = this.createFormHandler()
+            .validateForm(
+                form,
+                new FakeFormHandlerContext<>() {
+                    @Override
+                    public Form<TestValidationReference> form() {
+                        return form;
+                    }
+
+                    @Override
+                    public Comparator<TestValidationReference> formFieldReferenceComparator() {
+                        return TestValidationReference.COMPARATOR;
+                    }
+
+                    @Override
+                    public int formMaxErrors() {
+                        return 1;
+                    }
+
+                    @Override
+                    public ValidatorContext<TestValidationReference> validatorContext(final TestValidationReference reference) {
+                        return new FakeValidatorContext<>() {
+
+                            @Override
+                            public TestValidationReference validationReference() {
+                                return reference;
+                            }
+
+                            @Override
+                            public Validator<TestValidationReference, ? super ValidatorContext<TestValidationReference>> validator(final ValidatorSelector selector) {
+                                return validator;
+                            }
+                        };
+                    }
+                }
+            );
+
+        this.checkEquals(
+            Lists.of(
+                ValidationError.with(
+                    field1.reference()
+                ).setMessage("Error")
+            ),
+            errors
+        );
+        this.checkEquals(
+            true,
+            ((ValidationErrorList<TestValidationReference>) errors).isTruncated(),
+            "truncated"
+        );
+    }
+
     @Test
     public void testSubmitForm() {
         final FormField<TestValidationReference> field1 = FormField.with(
@@ -27,8 +27,12 @@ import walkingkooka.validation.FakeValidator;
 import walkingkooka.validation.FakeValidatorContext;
 import walkingkooka.validation.TestValidationReference;
 import walkingkooka.validation.ValidationError;
+import walkingkooka.validation.ValidationErrorList;
 import walkingkooka.validation.Validator;
 import walkingkooka.validation.ValidatorContext;
+import walkingkooka.validation.ValidatorContexts;
+import walkingkooka.validation.ValidatorMetrics;
+import walkingkooka.validation.ValidatorMetricsSnapshotEntry;
 import walkingkooka.validation.provider.ValidatorSelector;
 
 import java.util.Comparator;
@@ -475,6 +479,265 @@ public final class FormHandlerContextTest implements ClassTesting2<FormHandlerCo
         );
     }
 
+    // validateFormFields maxErrors...................................................................................
+
+    @Test
+    public void testValidateFormFieldsWithInvalidMaxErrorsFails() {
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> new TestFormHandlerContext()
+                .validateFormFields(
+                    Lists.empty(),
+                    0
+                )
+        );
+
+        this.getMessageAndCheck(
+            thrown,
+            "Invalid maxErrors 0 <= 0"
+        );
+    }
+
+    @Test
+    public void testValidateFormFieldsWithMaxErrorsStopsValidating() {
+        final ValidatorSelector validator1 = ValidatorSelector.parse("validator-1");
+        final ValidatorSelector validator2 = ValidatorSelector.parse("validator-2");
+
+        final Optional<Object> value1 = Optional.of("value1");
+        final Optional<Object> value2 = Optional.of("value2");
+
+        final FormField<TestValidationReference> field1 = FormField.with(
+            new TestValidationReference("Field1")
+        ).setValidator(
+            Optional.of(validator1)
+        ).setValue(value1);
+
+        final FormField<TestValidationReference> field2 = FormField.with(
+            new TestValidationReference("Field2")
+        ).setValidator(
+            Optional.of(validator2)
+        ).setValue(value2);
+
+        final ValidationErrorList<TestValidationReference> errors = (ValidationErrorList<TestValidationReference>) new TestFormHandlerContext(
+            field1,
+            field2
+        ) {
+
+            @Override
+            public ValidatorContext<TestValidationReference> validatorContext(final TestValidationReference reference) {
+                return new FakeValidatorContext<>() {
+
+                    @Override
+                    public TestValidationReference validationReference() {
+                        return reference;
+                    }
+
+                    @Override
+                    public Validator<TestValidationReference, ? super ValidatorContext<TestValidationReference>> validator(final ValidatorSelector selector) {
+                        if (selector.equals(validator1)) {
+                            return new FakeValidator<>() {
+                                @Override
+                                public List<ValidationError<TestValidationReference>> validate(final Object value,
+                                                                                               final ValidatorContext<TestValidationReference> context) {
+                                    return Lists.of(
+                                        context.validationError()
+                                            .setMessage("Error1a")
+                                            .setValue(Optional.of(value)),
+                                        context.validationError()
+                                            .setMessage("Error1b")
+                                            .setValue(Optional.of(value))
+                                    );
+                                }
+                            };
+                        }
+                        throw new UnsupportedOperationException("Validator should not be called " + selector);
+                    }
+                };
+            }
+        }.validateFormFields(
+            Lists.of(
+                field1,
+                field2
+            ),
+            1
+        );
+
+        this.checkEquals(
+            Lists.of(
+                ValidationError.with(
+                        field1.reference()
+                    ).setMessage("Error1a")
+                    .setValue(value1)
+            ),
+            errors
+        );
+        this.checkEquals(
+            true,
+            errors.isTruncated(),
+            "truncated"
+        );
+    }
+
+    @Test
+    public void testValidateFormFieldsWithMaxErrorsStillChecksUnknownFields() {
+        final ValidatorSelector validator1 = ValidatorSelector.parse("validator-1");
+
+        final FormField<TestValidationReference> field1 = FormField.with(
+            new TestValidationReference("Field1")
+        ).setValidator(
+            Optional.of(validator1)
+        ).setValue(
+            Optional.of("value1")
+        );
+
+        final FormField<TestValidationReference> field2 = FormField.with(
+            new TestValidationReference("Field2")
+        ).setValidator(
+            Optional.of(validator1)
+        );
+
+        final IllegalArgumentException thrown = assertThrows(
+            IllegalArgumentException.class,
+            () -> new TestFormHandlerContext(
+                field1
+            ) {
+
+                @Override
+                public ValidatorContext<TestValidationReference> validatorContext(final TestValidationReference reference) {
+                    return new FakeValidatorContext<>() {
+
+                        @Override
+                        public TestValidationReference validationReference() {
+                            return reference;
+                        }
+
+                        @Override
+                        public Validator<TestValidationReference, ? super ValidatorContext<TestValidationReference>> validator(final ValidatorSelector selector) {
+                            return new FakeValidator<>() {
+                                @Override
+                                public List<ValidationError<TestValidationReference>> validate(final Object value,
+                                                                                               final ValidatorContext<TestValidationReference> context) {
+                                    return Lists.of(
+                                        context.validationError()
+                                            .setMessage("Error1")
+                                    );
+                                }
+                            };
+                        }
+                    };
+                }
+            }.validateFormFields(
+                Lists.of(
+                    field1,
+                    field2
+                ),
+                1
+            )
+        );
+
+        this.getMessageAndCheck(
+            thrown,
+            "Form contains unknown fields: Field2"
+        );
+    }
+
+    // validatorMetrics...............................................................................................
+
+    @Test
+    public void testValidateFormFieldsRecordsValidatorMetrics() {
+        final ValidatorSelector validator1 = ValidatorSelector.parse("validator-1");
+
+        final FormField<TestValidationReference> field1 = FormField.with(
+            new TestValidationReference("Field1")
+        ).setValidator(
+            Optional.of(validator1)
+        ).setValue(
+            Optional.of("value1")
+        );
+
+        final FormField<TestValidationReference> field2 = FormField.with(
+            new TestValidationReference("Field2")
+        ).setValidator(
+            Optional.of(validator1)
+        ).setValue(
+            Optional.of("value2")
+        );
+
+        final ValidatorMetrics metrics = ValidatorContexts.basicMetrics();
+
+        new TestFormHandlerContext(
+            field1,
+            field2
+        ) {
+
+            @Override
+            public ValidatorContext<TestValidationReference> validatorContext(final TestValidationReference reference) {
+                return new FakeValidatorContext<>() {
+
+                    @Override
+                    public TestValidationReference validationReference() {
+                        return reference;
+                    }
+
+                    @Override
+                    public ValidatorMetrics validatorMetrics() {
+                        return metrics;
+                    }
+
+                    @Override
+                    public Validator<TestValidationReference, ? super ValidatorContext<TestValidationReference>> validator(final ValidatorSelector selector) {
+                        return new FakeValidator<>() {
+                            @Override
+                            public List<ValidationError<TestValidationReference>> validate(final Object value,
+                                                                                           final ValidatorContext<TestValidationReference> context) {
+                                return "value1".equals(value) ?
+                                    Lists.of(
+                                        context.validationError()
+                                            .setMessage("Error1")
+                                    ) :
+                                    this.noValidationErrors();
+                            }
+                        };
+                    }
+                };
+            }
+        }.validateFormFields(
+            Lists.of(
+                field1,
+                field2
+            )
+        );
+
+        final ValidatorMetricsSnapshotEntry entry = metrics.snapshot()
+            .selectors()
+            .get(validator1);
+
+        this.checkEquals(
+            2L,
+            entry.invocations(),
+            "invocations"
+        );
+        this.checkEquals(
+            1L,
+            entry.failures(),
+            "failures"
+        );
+        this.checkEquals(
+            1L,
+            entry.errors(),
+            "errors"
+        );
+    }
+
+    @Test
+    public void testFormMaxErrors() {
+        this.checkEquals(
+            Integer.MAX_VALUE,
+            new TestFormHandlerContext()
+                .formMaxErrors()
+        );
+    }
+
     private void validateFormFieldsAndCheck(final TestFormHandlerContext context,
                                             final List<FormField<TestValidationReference>> fields,
                                             final ValidationError<TestValidationReference>... expected) {
@@ -140,6 +140,21 @@ public final class ValidationValidatorProviderTest implements ValidatorProviderT
         );
     }
 
+    @Test
+    public void testValidatorSelectorAdaptiveCollection() {
+        this.validatorAndCheck(
+            ValidatorSelector.with(
+                ValidatorName.ADAPTIVE_COLLECTION,
+                "(2,non-null)"
+            ),
+            CONTEXT,
+            Validators.adaptiveCollection(
+                2,
+                Lists.of(Validators.nonNull())
+            )
+        );
+    }
+
     @Test
     public void testValidatorSelectorCollection() {
         this.validatorAndCheck(
@@ -218,6 +233,23 @@ public final class ValidationValidatorProviderTest implements ValidatorProviderT
         );
     }
 
+    @Test
+    public void testValidatorSelectorWithTextMaskAny() {
+        this.validatorAndCheck(
+            ValidatorSelector.with(
+                ValidatorName.TEXT_MASK_ANY,
+                "(\"???\", \"999\")"
+            ),
+            CONTEXT,
+            Validators.textMaskAny(
+                Lists.of(
+                    "???",
+                    "999"
+                )
+            )
+        );
+    }
+
     @Test
     public void testValidatorFactoryMethodWithoutParameters() {
         final Set<ValidatorName> missing = SortedSets.tree();
@@ -309,6 +341,7 @@ public final class ValidationValidatorProviderTest implements ValidatorProviderT
             "ValidationValidatorProvider\n" +
                 "  ValidatorInfoSet\n" +
                 "    https://github.com/mP1/walkingkooka-validation/Validator/absolute-url absolute-url\n" +
+                "    https://github.com/mP1/walkingkooka-validation/Validator/adaptive-collection adaptive-collection\n" +
                 "    https://github.com/mP1/walkingkooka-validation/Validator/checkbox checkbox\n" +
                 "    https://github.com/mP1/walkingkooka-validation/Validator/choice-list choice-list\n" +
                 "    https://github.com/mP1/walkingkooka-validation/Validator/collection collection\n" +
@@ -316,7 +349,8 @@ public final class ValidationValidatorProviderTest implements ValidatorProviderT
                 "    https://github.com/mP1/walkingkooka-validation/Validator/expression expression\n" +
                 "    https://github.com/mP1/walkingkooka-validation/Validator/non-null non-null\n" +
                 "    https://github.com/mP1/walkingkooka-validation/Validator/text-length text-length\n" +
-                "    https://github.com/mP1/walkingkooka-validation/Validator/text-mask text-mask\n"
+                "    https://github.com/mP1/walkingkooka-validation/Validator/text-mask text-mask\n" +
+                "    https://github.com/mP1/walkingkooka-validation/Validator/text-mask-any text-mask-any\n"
         );
     }
 